@@ -0,0 +1,68 @@
+package com.comp2042.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.ai.AutoPlayer;
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Board;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+
+/**
+ * Measures the time the autoplay bot takes per piece on one
+ * thread: placement search for the current and the hold piece, scoring,
+ * and sending the moves through a headless controller. A game that tops
+ * out is restarted with the next seed.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class AutoPlayerBenchmark {
+
+    @Param({"array", "bitboard"})
+    public String board;
+
+    @Param({"true", "false"})
+    public boolean hold;
+
+    private HeadlessController controller;
+    private AutoPlayer bot;
+    private long seed;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Board game = "bitboard".equals(board) ? new BitboardGameBoard(20, 10) : new GameBoard(20, 10);
+        controller = new HeadlessController(game);
+        bot = new AutoPlayer(game, controller);
+        bot.setHoldEnabled(hold);
+        seed = BoardFixtures.SEED;
+        controller.createNewGame(seed);
+    }
+
+    @Benchmark
+    public Object playPiece() {
+        if (controller.getGame().isGameOver()) {
+            controller.createNewGame(++seed);
+        }
+        return bot.playPiece();
+    }
+}
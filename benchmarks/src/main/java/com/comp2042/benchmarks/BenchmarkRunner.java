@@ -0,0 +1,167 @@
+package com.comp2042.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. Runs JMH with the allocation profiler
+ * ({@code -prof gc}) always enabled, then either saves the results as the
+ * baseline ({@code --save-baseline}) or compares them with the saved
+ * baseline and exits with status 1 when a benchmark got slower or allocates
+ * more by more than {@link #THRESHOLD}. Any other arguments are passed to
+ * JMH, for example a benchmark regex or {@code -p density=0.3}.
+ * <p>
+ * Timings only compare on the machine that recorded them, so the baseline
+ * is recorded locally with {@code --save-baseline} rather than committed.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+    static final double THRESHOLD = 0.10;
+
+    // allocation differences below this many bytes per operation are noise
+    private static final double ALLOC_SLACK_BYTES = 16;
+
+    private static final String HEADER = "benchmark,params,score,unit,allocBytesPerOp";
+
+    private BenchmarkRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        Path baseline = Paths.get("baseline.csv");
+        boolean save = false;
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("--save-baseline".equals(args[i])) {
+                save = true;
+            } else if ("--baseline".equals(args[i]) && i + 1 < args.length) {
+                baseline = Paths.get(args[++i]);
+            } else {
+                jmhArgs.add(args[i]);
+            }
+        }
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(jmhArgs.toArray(new String[0])))
+                .addProfiler(GCProfiler.class)
+                .build();
+        Map<String, double[]> results = summarise(new Runner(options).run());
+
+        if (save) {
+            write(baseline, results);
+            System.out.println("Saved baseline of " + results.size() + " benchmarks to " + baseline.toAbsolutePath());
+            return;
+        }
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline at " + baseline.toAbsolutePath() + "; run with --save-baseline to create one");
+            return;
+        }
+        if (compare(read(baseline), results) > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reduces each run to its average time and normalised allocation rate,
+     * keyed by benchmark name and parameter values.
+     *
+     * @param runs the JMH results
+     * @return {score, bytes per op} for each benchmark and parameter set
+     */
+    private static Map<String, double[]> summarise(Collection<RunResult> runs) {
+        Map<String, double[]> summary = new LinkedHashMap<>();
+        for (RunResult run : runs) {
+            BenchmarkParams params = run.getParams();
+            StringBuilder key = new StringBuilder(params.getBenchmark()).append(',');
+            for (String name : new TreeSet<>(params.getParamsKeys())) {
+                key.append(name).append('=').append(params.getParam(name)).append(';');
+            }
+            double alloc = Double.NaN;
+            for (Map.Entry<String, Result> secondary : run.getSecondaryResults().entrySet()) {
+                if (secondary.getKey().endsWith("gc.alloc.rate.norm")) {
+                    alloc = secondary.getValue().getScore();
+                }
+            }
+            summary.put(key.append(',').append(run.getPrimaryResult().getScoreUnit()).toString(),
+                    new double[] {run.getPrimaryResult().getScore(), alloc});
+        }
+        return summary;
+    }
+
+    /**
+     * Prints each benchmark next to its baseline and counts regressions.
+     *
+     * @param baseline the saved results
+     * @param current  the results of this run
+     * @return the number of benchmarks that regressed
+     */
+    private static int compare(Map<String, double[]> baseline, Map<String, double[]> current) {
+        int regressions = 0;
+        System.out.printf(Locale.ROOT, "%n%-90s %12s %12s %8s %10s %10s%n",
+                "Benchmark", "base", "now", "change", "base B/op", "now B/op");
+        for (Map.Entry<String, double[]> entry : current.entrySet()) {
+            double[] now = entry.getValue();
+            double[] base = baseline.get(entry.getKey());
+            if (base == null) {
+                System.out.printf(Locale.ROOT, "%-90s %12s %12.1f%n", entry.getKey(), "new", now[0]);
+                continue;
+            }
+            double change = (now[0] - base[0]) / base[0];
+            boolean slower = change > THRESHOLD;
+            boolean allocates = !Double.isNaN(now[1]) && !Double.isNaN(base[1])
+                    && now[1] > base[1] * (1 + THRESHOLD) + ALLOC_SLACK_BYTES;
+            if (slower || allocates) {
+                regressions++;
+            }
+            System.out.printf(Locale.ROOT, "%-90s %12.1f %12.1f %+7.1f%% %10.1f %10.1f%s%n",
+                    entry.getKey(), base[0], now[0], change * 100, base[1], now[1],
+                    slower || allocates ? "  REGRESSION" : "");
+        }
+        System.out.println(regressions + " regression(s) against the baseline");
+        return regressions;
+    }
+
+    private static void write(Path file, Map<String, double[]> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (Map.Entry<String, double[]> entry : results.entrySet()) {
+            double[] values = entry.getValue();
+            // keys hold "benchmark,params,unit"; the score goes before the unit
+            int unit = entry.getKey().lastIndexOf(',');
+            lines.add(entry.getKey().substring(0, unit) + ',' + values[0] + entry.getKey().substring(unit) + ',' + values[1]);
+        }
+        Files.write(file, lines);
+    }
+
+    private static Map<String, double[]> read(Path file) throws IOException {
+        Map<String, double[]> results = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(file)) {
+            String[] fields = line.split(",");
+            if (fields.length != 5 || HEADER.equals(line)) {
+                continue;
+            }
+            results.put(fields[0] + ',' + fields[1] + ',' + fields[3],
+                    new double[] {Double.parseDouble(fields[2]), Double.parseDouble(fields[4])});
+        }
+        return results;
+    }
+}
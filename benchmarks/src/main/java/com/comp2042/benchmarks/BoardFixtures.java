@@ -0,0 +1,68 @@
+package com.comp2042.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Builds reproducible benchmark boards of a given size and fill density.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+final class BoardFixtures {
+
+    // fixed seed so every run and every fork measures the same boards
+    static final long SEED = 2042L;
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private BoardFixtures() {}
+
+    /**
+     * Parses a board size parameter of the form {@code ROWSxCOLS}.
+     *
+     * @param size the size parameter, for example "20x10"
+     * @return the rows and columns
+     */
+    static int[] parseSize(String size) {
+        String[] parts = size.split("x");
+        return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1])};
+    }
+
+    /**
+     * Fills the lower two thirds of a board. Each of those rows is made
+     * completely full with probability {@code density}, otherwise each cell
+     * is filled with that probability while leaving at least one hole.
+     *
+     * @param matrix board to fill in place
+     * @param density fill probability between 0 and 1
+     * @param random source of randomness
+     */
+    static void fill(int[][] matrix, double density, Random random) {
+        int rows = matrix.length;
+        int cols = matrix[0].length;
+        for (int r = rows / 3; r < rows; r++) {
+            boolean full = random.nextDouble() < density;
+            for (int c = 0; c < cols; c++) {
+                matrix[r][c] = full || random.nextDouble() < density ? 1 + random.nextInt(7) : 0;
+            }
+            if (!full) {
+                matrix[r][random.nextInt(cols)] = 0;
+            }
+        }
+    }
+
+    /**
+     * Creates a new filled board.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @param density fill probability between 0 and 1
+     * @return the board matrix
+     */
+    static int[][] newBoard(int rows, int cols, double density) {
+        int[][] matrix = new int[rows][cols];
+        fill(matrix, density, new Random(SEED));
+        return matrix;
+    }
+}
@@ -0,0 +1,103 @@
+package com.comp2042.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Board;
+import com.comp2042.core.GameBoard;
+
+/**
+ * Measures end-to-end board sequences on both board implementations:
+ * spawning, shifting, rotating, hard dropping, locking, and clearing.
+ * When a spawn tops out the board is reset and refilled to the same density,
+ * so that cost is included at the rate it happens.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GameBoardBenchmark {
+
+    @Param({"array", "bitboard"})
+    public String board;
+
+    @Param({"20x10", "40x20"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.7"})
+    public double density;
+
+    private Board game;
+    private Random random;
+    private int piece;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        int[] dims = BoardFixtures.parseSize(size);
+        game = "bitboard".equals(board) ? new BitboardGameBoard(dims[0], dims[1]) : new GameBoard(dims[0], dims[1]);
+        random = new Random(BoardFixtures.SEED);
+        piece = 0;
+        refill();
+    }
+
+    private void refill() {
+        game.newGame();
+        BoardFixtures.fill(game.getBoardMatrix(), density, random);
+    }
+
+    // spawn, shift, rotate, hard drop, lock and clear one piece
+    @Benchmark
+    public int placePiece() {
+        if (game.createNewBrick()) {
+            refill();
+        }
+        // sweep the landing column across the board so rows fill and clear
+        int shift = piece % 9 - 4;
+        for (int i = 0; i < -shift; i++) {
+            game.moveBrickLeft();
+        }
+        for (int i = 0; i < shift; i++) {
+            game.moveBrickRight();
+        }
+        for (int i = piece % 4; i > 0; i--) {
+            game.rotateLeftBrick();
+        }
+        piece++;
+        game.hardDropBrick();
+        game.mergeBrickToBackground();
+        return game.clearRows().getLinesRemoved();
+    }
+
+    // moves that leave the board where it started, measuring collision checks alone
+    @Benchmark
+    public boolean shiftAndRotate() {
+        boolean moved = game.moveBrickLeft();
+        moved &= game.moveBrickRight();
+        moved |= game.rotateLeftBrick();
+        return moved;
+    }
+
+    @Benchmark
+    public int landingY() {
+        return game.getLandingY();
+    }
+}
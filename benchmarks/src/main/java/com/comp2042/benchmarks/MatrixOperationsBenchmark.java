@@ -0,0 +1,123 @@
+package com.comp2042.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.core.MatrixOperations;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.workflow.ClearRow;
+
+/**
+ * Measures the static matrix helpers the board is built on, across board
+ * sizes and fill densities. None of the measured calls modify the board, so
+ * every invocation sees the same input.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MatrixOperationsBenchmark {
+
+    // probe positions are cycled through so branch prediction cannot learn one placement
+    private static final int PROBES = 256;
+
+    @Param({"20x10", "40x20"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.7"})
+    public double density;
+
+    private int[][] matrix;
+    private int[] rowFill;
+    private int[][][] shapes;
+    private int[] probeShape;
+    private int[] probeX;
+    private int[] probeY;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        int[] dims = BoardFixtures.parseSize(size);
+        int rows = dims[0];
+        int cols = dims[1];
+        matrix = BoardFixtures.newBoard(rows, cols, density);
+
+        rowFill = new int[rows];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (matrix[r][c] != 0) {
+                    rowFill[r]++;
+                }
+            }
+        }
+
+        List<int[][]> all = new ArrayList<>();
+        for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+            for (int rotation = 0; rotation < ShapeTable.rotationCount(piece); rotation++) {
+                all.add(ShapeTable.shape(piece, rotation));
+            }
+        }
+        shapes = all.toArray(new int[0][][]);
+
+        Random random = new Random(BoardFixtures.SEED);
+        probeShape = new int[PROBES];
+        probeX = new int[PROBES];
+        probeY = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeShape[i] = random.nextInt(shapes.length);
+            probeX[i] = random.nextInt(cols - 1) - 1;
+            probeY[i] = random.nextInt(rows) - 2;
+        }
+    }
+
+    private int nextProbe() {
+        probe = (probe + 1) & (PROBES - 1);
+        return probe;
+    }
+
+    @Benchmark
+    public boolean collidesWithBackground() {
+        int i = nextProbe();
+        return MatrixOperations.collidesWithBackground(matrix, shapes[probeShape[i]], probeX[i], probeY[i]);
+    }
+
+    @Benchmark
+    public int[][] mergeBrickOntoMatrix() {
+        int i = nextProbe();
+        return MatrixOperations.mergeBrickOntoMatrix(matrix, shapes[probeShape[i]], probeX[i], probeY[i]);
+    }
+
+    @Benchmark
+    public ClearRow clearFullRows() {
+        return MatrixOperations.clearFullRows(matrix);
+    }
+
+    @Benchmark
+    public ClearRow clearFullRowsWithCounters() {
+        return MatrixOperations.clearFullRows(matrix, rowFill);
+    }
+
+    @Benchmark
+    public int[][] copy() {
+        return MatrixOperations.copy(matrix);
+    }
+}
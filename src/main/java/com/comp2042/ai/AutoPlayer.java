@@ -0,0 +1,280 @@
+package com.comp2042.ai;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.Constants;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.input.InputEventListener;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.workflow.DownData;
+import com.comp2042.logic.workflow.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays the game one piece at a time. For the current piece, and for the
+ * piece the hold slot would swap in, it enumerates every reachable
+ * placement with a {@link PlacementSearch}, scores each with a
+ * {@link BoardEvaluator}, and sends the moves of the best one through an
+ * {@link InputEventListener}, exactly as keyboard input would. Paired with
+ * a {@link com.comp2042.engine.HeadlessController} it doubles as a load
+ * generator and regression player. With a {@link BeamSearch} set it looks
+ * further ahead through the preview queue. Calls must come from the thread
+ * that owns the listener.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class AutoPlayer {
+
+    private static final MoveEvent[] EVENTS = new MoveEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final Board board;
+    private final InputEventListener listener;
+    private final Weights weights;
+    private final PlacementSearch search;
+    private final BoardEvaluator evaluator;
+    private final List<EventType> path = new ArrayList<>();
+    private boolean holdEnabled = true;
+    private BeamSearch lookahead;
+
+    /**
+     * Creates a bot with the default weights.
+     *
+     * @param board the board to read the state from
+     * @param listener the listener that applies the moves to that board
+     */
+    public AutoPlayer(Board board, InputEventListener listener) {
+        this(board, listener, Weights.DEFAULT);
+    }
+
+    /**
+     * Creates a bot with the given heuristic weights.
+     *
+     * @param board the board to read the state from
+     * @param listener the listener that applies the moves to that board
+     * @param weights heuristic weights
+     */
+    public AutoPlayer(Board board, InputEventListener listener, Weights weights) {
+        this.board = board;
+        this.listener = listener;
+        this.weights = weights;
+        int[][] matrix = board.getBoardMatrixView();
+        this.search = new PlacementSearch(matrix.length, matrix[0].length);
+        this.evaluator = new BoardEvaluator(matrix.length, matrix[0].length);
+    }
+
+    public void setHoldEnabled(boolean holdEnabled) {
+        this.holdEnabled = holdEnabled;
+    }
+
+    /**
+     * Plans with a lookahead through the preview queue instead of the
+     * current piece alone.
+     *
+     * @param lookahead the search to plan with, or null to plan greedily
+     */
+    public void setLookahead(BeamSearch lookahead) {
+        this.lookahead = lookahead;
+    }
+
+    /**
+     * Picks the best placement for the current state.
+     *
+     * @return the best placement, or null if the piece has nowhere to go
+     */
+    public Placement plan() {
+        return plan(holdEnabled);
+    }
+
+    /**
+     * Plans and plays the current piece through to its lock.
+     *
+     * @return the result of the final hard drop, or null if nothing was played
+     */
+    public DownData playPiece() {
+        Placement placement = plan();
+        if (placement == null) {
+            return null;
+        }
+        List<EventType> moves = placement.getMoves();
+        int start = 0;
+        if (placement.isHold()) {
+            ViewData view = listener.onHoldEvent(EVENTS[EventType.HOLD.ordinal()]);
+            if (brickPiece(view) != placement.getPiece()) {
+                // the board refused the hold, so plan the piece we still have
+                placement = plan(false);
+                if (placement == null) {
+                    return null;
+                }
+                moves = placement.getMoves();
+            } else {
+                start = 1;
+            }
+        }
+        DownData result = null;
+        for (int i = start; i < moves.size(); i++) {
+            result = send(moves.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Plays pieces until the game ends or the limit is reached.
+     *
+     * @param maxPieces most pieces to play
+     * @return the number of pieces played
+     */
+    public int play(int maxPieces) {
+        int played = 0;
+        while (played < maxPieces && playPiece() != null) {
+            played++;
+        }
+        return played;
+    }
+
+    private Placement plan(boolean allowHold) {
+        ViewData view = board.getViewData();
+        int piece = brickPiece(view);
+        if (piece < 0) {
+            return null;
+        }
+        if (lookahead != null) {
+            lookahead.setRotationSystem(board.getRotationSystem());
+            int[] queue = new int[view.getPreviewCount()];
+            for (int i = 0; i < queue.length; i++) {
+                queue[i] = nextPiece(view, i);
+            }
+            return lookahead.plan(board.getBoardMatrixView(), piece, view.getxPosition(), view.getyPosition(),
+                    rotationOf(piece, view), holdPiece(view), queue, allowHold);
+        }
+        search.setRotationSystem(board.getRotationSystem());
+        search.load(board.getBoardMatrixView());
+        Placement best = best(piece, view.getxPosition(), view.getyPosition(), rotationOf(piece, view), false, null);
+        if (allowHold) {
+            // an empty hold slot takes the current piece and brings in the next one
+            int swapped = holdPiece(view);
+            if (swapped < 0) {
+                swapped = nextPiece(view, 0);
+            }
+            if (swapped >= 0 && swapped != piece) {
+                best = best(swapped, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0, true, best);
+            }
+        }
+        return best;
+    }
+
+    // searches one piece and returns its best placement if it beats the current best
+    private Placement best(int piece, int x, int y, int rotation, boolean hold, Placement current) {
+        int count = search.search(piece, x, y, rotation);
+        evaluator.setBackground(search.getRowBits());
+        int bestIndex = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestLines = 0;
+        for (int i = 0; i < count; i++) {
+            double score = evaluator.evaluate(piece, search.getRotation(i), search.getX(i), search.getY(i), weights);
+            if (bestIndex < 0 || score > bestScore) {
+                bestIndex = i;
+                bestScore = score;
+                bestLines = evaluator.getLinesCleared();
+            }
+        }
+        if (bestIndex < 0 || (current != null && current.getScore() >= bestScore)) {
+            return current;
+        }
+        path.clear();
+        if (hold) {
+            path.add(EventType.HOLD);
+        }
+        search.appendPath(bestIndex, path);
+        return new Placement(piece, search.getX(bestIndex), search.getY(bestIndex), search.getRotation(bestIndex),
+                hold, bestScore, bestLines, path);
+    }
+
+    private DownData send(EventType type) {
+        MoveEvent event = EVENTS[type.ordinal()];
+        switch (type) {
+            case LEFT:
+                listener.onLeftEvent(event);
+                return null;
+            case RIGHT:
+                listener.onRightEvent(event);
+                return null;
+            case ROTATE:
+            case ROTATE_CW:
+            case ROTATE_180:
+                listener.onRotateEvent(event);
+                return null;
+            case HOLD:
+                listener.onHoldEvent(event);
+                return null;
+            case DOWN:
+                return listener.onDownEvent(event);
+            default:
+                return listener.onHardDropEvent(event);
+        }
+    }
+
+    // shape cells hold the piece colour, which is the piece id plus one
+    private static int brickPiece(ViewData view) {
+        int colour = 0;
+        for (int i = 0; i < view.getBrickHeight(); i++) {
+            for (int j = 0; j < view.getBrickWidth(); j++) {
+                colour = Math.max(colour, view.brickCell(i, j));
+            }
+        }
+        return colour - 1;
+    }
+
+    private static int nextPiece(ViewData view, int index) {
+        int colour = 0;
+        for (int i = 0; i < view.getNextHeight(index); i++) {
+            for (int j = 0; j < view.getNextWidth(index); j++) {
+                colour = Math.max(colour, view.nextCell(index, i, j));
+            }
+        }
+        return colour - 1;
+    }
+
+    private static int holdPiece(ViewData view) {
+        int colour = 0;
+        for (int i = 0; i < view.getHoldHeight(); i++) {
+            for (int j = 0; j < view.getHoldWidth(); j++) {
+                colour = Math.max(colour, view.holdCell(i, j));
+            }
+        }
+        return colour - 1;
+    }
+
+    private static int rotationOf(int piece, ViewData view) {
+        for (int r = 0; r < ShapeTable.rotationCount(piece); r++) {
+            if (matches(piece, r, view)) {
+                return r;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean matches(int piece, int rotation, ViewData view) {
+        int[][] shape = ShapeTable.shape(piece, rotation);
+        if (shape.length != view.getBrickHeight() || shape[0].length != view.getBrickWidth()) {
+            return false;
+        }
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                if (shape[i][j] != view.brickCell(i, j)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,351 @@
+package com.comp2042.ai;
+
+import com.comp2042.core.Constants;
+import com.comp2042.core.RotationSystem;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Looks ahead through the preview queue and the hold slot with a beam
+ * search. Each ply places one piece: the next one in the queue, the held
+ * one swapped in, or, with an empty hold slot, the one after the next.
+ * Only the best {@link Constants#AI_BEAM_WIDTH} positions of a ply are
+ * expanded further, and the plan is the first placement on the way to the
+ * best position of the deepest ply finished within the time budget.
+ *
+ * <p>The beam's positions are expanded in parallel on a
+ * {@link ForkJoinPool}, each worker with its own {@link PlacementSearch}
+ * and {@link BoardEvaluator}. A transposition table keyed by a Zobrist hash
+ * of the board, hold slot and queue position makes a position reached
+ * through different placement orders count once. Results do not depend on
+ * the number of threads.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class BeamSearch {
+
+    private static final int EMPTY_HOLD = -1;
+    // the hold slot after swapping out a piece we cannot see yet
+    private static final int UNKNOWN = -2;
+    // hash of positions that topped out and are never stored
+    private static final long DEAD = 0L;
+    private static final long ZOBRIST_SEED = 0x5EED_7E7L;
+
+    private final int rows;
+    private final int cols;
+    private final Weights weights;
+    private final ForkJoinPool pool;
+    private final int beamWidth;
+    private final long budgetNanos;
+    private final long[] cellKeys;
+    private final long[] holdKeys;
+    private final long[] queueKeys;
+    private final TranspositionTable table;
+    private final ThreadLocal<Worker> workers;
+    private volatile RotationSystem rotationSystem = RotationSystem.SRS;
+
+    // the piece sequence and start of the search in progress
+    private int[] sequence;
+    private int startX;
+    private int startY;
+    private int startRotation;
+
+    /**
+     * Creates a search with the default beam width and time budget on the
+     * common pool.
+     *
+     * @param rows board rows
+     * @param cols board columns
+     * @param weights heuristic weights
+     */
+    public BeamSearch(int rows, int cols, Weights weights) {
+        this(rows, cols, weights, ForkJoinPool.commonPool(), Constants.AI_BEAM_WIDTH, Constants.AI_TIME_BUDGET_MS);
+    }
+
+    /**
+     * Creates a search.
+     *
+     * @param rows board rows
+     * @param cols board columns
+     * @param weights heuristic weights
+     * @param pool pool that expands the beam
+     * @param beamWidth positions kept per ply
+     * @param budgetMs time after which no further ply is started
+     */
+    public BeamSearch(int rows, int cols, Weights weights, ForkJoinPool pool, int beamWidth, long budgetMs) {
+        this.rows = rows;
+        this.cols = cols;
+        this.weights = weights;
+        this.pool = pool;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetMs * 1_000_000L;
+        SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        cellKeys = keys(random, rows * cols);
+        holdKeys = keys(random, ShapeTable.PIECE_COUNT + 2);
+        queueKeys = keys(random, Constants.PREVIEW_COUNT + 2);
+        // a ply holds at most three options of about forty placements for each beam position
+        table = new TranspositionTable(beamWidth * 256);
+        workers = ThreadLocal.withInitial(() -> new Worker(rows, cols));
+    }
+
+    /**
+     * Selects the rotation system to plan with; it must match the board
+     * the placements are played on.
+     *
+     * @param rotationSystem the rotation system
+     */
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+    }
+
+    /**
+     * Plans the current piece.
+     *
+     * @param matrix the board matrix, indexed [row][column]
+     * @param piece current piece id
+     * @param x current column offset
+     * @param y current row offset
+     * @param rotation current rotation index
+     * @param heldPiece piece id in the hold slot, or -1 if it is empty
+     * @param queue ids of the upcoming pieces, next first
+     * @param allowHold whether the current piece may still be held
+     * @return the placement leading to the best position found, or null if the piece has nowhere to go
+     */
+    public synchronized Placement plan(int[][] matrix, int piece, int x, int y, int rotation,
+                                       int heldPiece, int[] queue, boolean allowHold) {
+        long deadline = System.nanoTime() + budgetNanos;
+        // the hash has keys for the visible preview only
+        int visible = Math.min(queue.length, Constants.PREVIEW_COUNT);
+        sequence = new int[visible + 1];
+        sequence[0] = piece;
+        System.arraycopy(queue, 0, sequence, 1, visible);
+        startX = x;
+        startY = y;
+        startRotation = rotation;
+
+        Worker root = workers.get();
+        root.search.setRotationSystem(rotationSystem);
+        root.search.load(matrix);
+        long[] rootRows = root.search.getRowBits().clone();
+        List<Node> beam = new ArrayList<>();
+        beam.add(new Node(rootRows, heldPiece, 0, allowHold, 0.0, 0, 0L, 0L, null));
+        Node best = null;
+        while (true) {
+            table.clear();
+            List<Node> children = pool.invoke(new Expand(beam, 0, beam.size()));
+            List<Node> next = new ArrayList<>(children.size());
+            for (Node child : children) {
+                // drop positions taken over by an earlier placement order
+                long owner = child.hash == DEAD ? -1 : table.owner(child.hash);
+                if (owner == child.key || owner < 0) {
+                    next.add(child);
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            // the sort is stable and children arrive in key order, so ties resolve the same way every time
+            next.sort((a, b) -> Double.compare(b.value, a.value));
+            beam = next.size() > beamWidth ? new ArrayList<>(next.subList(0, beamWidth)) : next;
+            best = beam.get(0);
+            // an interrupted caller no longer wants the answer, so stop at the ply finished
+            if (System.nanoTime() > deadline || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return best == null ? null : toPlacement(best, root);
+    }
+
+    // rebuilds the moves of the first placement on the best line
+    private Placement toPlacement(Node best, Worker worker) {
+        Node first = best.root;
+        int x = first.hold ? Constants.BRICK_SPAWN_X : startX;
+        int y = first.hold ? Constants.BRICK_SPAWN_Y : startY;
+        int rotation = first.hold ? 0 : startRotation;
+        PlacementSearch search = worker.search;
+        search.load(first.parentRows);
+        int count = search.search(first.piece, x, y, rotation);
+        List<EventType> moves = new ArrayList<>();
+        if (first.hold) {
+            moves.add(EventType.HOLD);
+        }
+        for (int i = 0; i < count; i++) {
+            if (search.getX(i) == first.x && search.getY(i) == first.y && search.getRotation(i) == first.rotation) {
+                search.appendPath(i, moves);
+                break;
+            }
+        }
+        return new Placement(first.piece, first.x, first.y, first.rotation, first.hold, best.value, first.lines, moves);
+    }
+
+    // expands one beam position into its children, in a fixed order
+    private void expand(Node node, int index, Worker worker, List<Node> out) {
+        int next = node.queueIndex < sequence.length ? sequence[node.queueIndex] : UNKNOWN;
+        boolean atRoot = node.root == null;
+        long keyBase = (long) index << 32;
+        int ordinal = 0;
+        worker.search.setRotationSystem(rotationSystem);
+        worker.search.load(node.rows);
+        worker.evaluator.setBackground(node.rows);
+        if (next >= 0) {
+            ordinal = place(node, next, false, node.held, node.queueIndex + 1, atRoot, keyBase, ordinal, worker, out);
+        }
+        if (!node.holdAllowed) {
+            return;
+        }
+        if (node.held >= 0 && node.held != next) {
+            // swap the held piece in; past the end of the queue the piece swapped out is unknown
+            int queueIndex = next >= 0 ? node.queueIndex + 1 : node.queueIndex;
+            ordinal = place(node, node.held, true, next >= 0 ? next : UNKNOWN, queueIndex, false, keyBase, ordinal, worker, out);
+        } else if (node.held == EMPTY_HOLD && next >= 0 && node.queueIndex + 1 < sequence.length) {
+            // an empty slot takes this piece and brings in the one after it
+            place(node, sequence[node.queueIndex + 1], true, next, node.queueIndex + 2, false, keyBase, ordinal, worker, out);
+        }
+    }
+
+    private int place(Node node, int piece, boolean hold, int held, int queueIndex, boolean fromStart,
+                      long keyBase, int ordinal, Worker worker, List<Node> out) {
+        PlacementSearch search = worker.search;
+        BoardEvaluator evaluator = worker.evaluator;
+        int count = fromStart
+                ? search.search(piece, startX, startY, startRotation)
+                : search.search(piece, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0);
+        for (int i = 0; i < count; i++) {
+            long key = keyBase | ordinal++;
+            int px = search.getX(i);
+            int py = search.getY(i);
+            int pr = search.getRotation(i);
+            Node child;
+            if (!evaluator.lock(piece, pr, px, py)) {
+                if (node.root != null) {
+                    continue;
+                }
+                // topping out is still a legal last move, so the first ply keeps it as a dead end
+                child = new Node(node.rows, UNKNOWN, sequence.length, false, Double.NEGATIVE_INFINITY, node.lines, key, DEAD, null);
+            } else {
+                long[] after = evaluator.getRows();
+                long hash = hash(after, held, queueIndex);
+                if (!table.claim(hash, key)) {
+                    continue;
+                }
+                double value = evaluator.score(weights) + weights.getLinesCleared() * node.lines;
+                int lines = node.lines + evaluator.getLinesCleared();
+                child = new Node(after.clone(), held, queueIndex, true, value, lines, key, hash, node.root);
+            }
+            if (node.root == null) {
+                // a first ply position remembers how it was reached
+                child.root = child;
+                child.parentRows = node.rows;
+                child.piece = piece;
+                child.x = px;
+                child.y = py;
+                child.rotation = pr;
+                child.hold = hold;
+            }
+            out.add(child);
+        }
+        return ordinal;
+    }
+
+    private long hash(long[] board, int held, int queueIndex) {
+        long h = holdKeys[held + 2] ^ queueKeys[queueIndex];
+        for (int r = 0; r < rows; r++) {
+            long bits = board[r];
+            while (bits != 0) {
+                h ^= cellKeys[r * cols + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        return h;
+    }
+
+    private static long[] keys(SplittableRandom random, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    /**
+     * A position in the beam. First ply positions also describe the
+     * placement that reached them; deeper ones point back to that position.
+     */
+    private static final class Node {
+        final long[] rows;
+        final int held;
+        final int queueIndex;
+        final boolean holdAllowed;
+        final double value;
+        final int lines;
+        final long key;
+        final long hash;
+        Node root;
+        long[] parentRows;
+        int piece;
+        int x;
+        int y;
+        int rotation;
+        boolean hold;
+
+        Node(long[] rows, int held, int queueIndex, boolean holdAllowed, double value, int lines, long key, long hash, Node root) {
+            this.rows = rows;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.holdAllowed = holdAllowed;
+            this.value = value;
+            this.lines = lines;
+            this.key = key;
+            this.hash = hash;
+            this.root = root;
+        }
+    }
+
+    private static final class Worker {
+        final PlacementSearch search;
+        final BoardEvaluator evaluator;
+
+        Worker(int rows, int cols) {
+            search = new PlacementSearch(rows, cols);
+            evaluator = new BoardEvaluator(rows, cols);
+        }
+    }
+
+    // splits the beam until each task expands a single position
+    // fork/join tasks are never serialized, but RecursiveTask is Serializable
+    @SuppressWarnings("serial")
+    private final class Expand extends RecursiveTask<List<Node>> {
+        private final List<Node> beam;
+        private final int from;
+        private final int to;
+
+        Expand(List<Node> beam, int from, int to) {
+            this.beam = beam;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Node> compute() {
+            if (to - from == 1) {
+                List<Node> out = new ArrayList<>();
+                expand(beam.get(from), from, workers.get(), out);
+                return out;
+            }
+            int mid = (from + to) >>> 1;
+            Expand left = new Expand(beam, from, mid);
+            left.fork();
+            List<Node> right = new Expand(beam, mid, to).compute();
+            List<Node> out = left.join();
+            out.addAll(right);
+            return out;
+        }
+    }
+}
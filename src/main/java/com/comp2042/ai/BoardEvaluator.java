@@ -0,0 +1,137 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a placement by locking the piece into the background, clearing
+ * full rows, and weighing the features of what is left. The features are
+ * kept by a {@link BoardFeatures}: set the background once with
+ * {@link #setBackground} and each placement on it is measured from the
+ * cells it changes. Works on the row masks of a {@link PlacementSearch},
+ * so an evaluation allocates nothing. Instances are not thread-safe.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class BoardEvaluator {
+
+    private final BoardFeatures features;
+
+    /**
+     * Creates an evaluator for boards of the given size.
+     *
+     * @param rows board rows
+     * @param cols board columns
+     */
+    public BoardEvaluator(int rows, int cols) {
+        this.features = new BoardFeatures(rows, cols);
+    }
+
+    /**
+     * Measures the background that following placements are locked into.
+     *
+     * @param rowBits the background, one mask per row; copied
+     */
+    public void setBackground(long[] rowBits) {
+        features.load(rowBits);
+    }
+
+    /**
+     * Scores the board left by locking a piece into the given background.
+     * Measures the whole background first, so prefer
+     * {@link #setBackground} and {@link #evaluate(int, int, int, int, Weights)}
+     * when scoring many placements on one board.
+     *
+     * @param rowBits the background, one mask per row
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @param weights heuristic weights
+     * @return the weighted score, or negative infinity if the piece locks above the board
+     */
+    public double evaluate(long[] rowBits, int piece, int rotation, int x, int y, Weights weights) {
+        setBackground(rowBits);
+        return evaluate(piece, rotation, x, y, weights);
+    }
+
+    /**
+     * Scores the board left by locking a piece into the current background.
+     * The features of the last evaluation stay readable through the getters.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @param weights heuristic weights
+     * @return the weighted score, or negative infinity if the piece locks above the board
+     */
+    public double evaluate(int piece, int rotation, int x, int y, Weights weights) {
+        if (!lock(piece, rotation, x, y)) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return score(weights);
+    }
+
+    /**
+     * Locks a piece into the given background and clears full rows.
+     *
+     * @param rowBits the background, one mask per row
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @return false if part of the piece locks above the board
+     */
+    public boolean lock(long[] rowBits, int piece, int rotation, int x, int y) {
+        setBackground(rowBits);
+        return lock(piece, rotation, x, y);
+    }
+
+    /**
+     * Locks a piece into the current background and clears full rows.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @return false if part of the piece locks above the board
+     */
+    public boolean lock(int piece, int rotation, int x, int y) {
+        return features.place(piece, rotation, x, y);
+    }
+
+    /**
+     * Weighs the features of the board of the last {@link #lock}.
+     *
+     * @param weights heuristic weights
+     * @return the weighted score
+     */
+    public double score(Weights weights) {
+        return weights.getHoles() * features.getHoles()
+                + weights.getBumpiness() * features.getBumpiness()
+                + weights.getAggregateHeight() * features.getAggregateHeight()
+                + weights.getLinesCleared() * features.getLinesCleared()
+                + weights.getWells() * features.getWells()
+                + weights.getRowTransitions() * features.getRowTransitions()
+                + weights.getColumnTransitions() * features.getColumnTransitions()
+                + weights.getCoveredCells() * features.getCoveredCells();
+    }
+
+    /**
+     * Returns the board of the last {@link #lock}. The array is reused and
+     * must be copied to be kept.
+     *
+     * @return one mask per row
+     */
+    public long[] getRows() {
+        return features.getRows();
+    }
+
+    public int getLinesCleared() { return features.getLinesCleared(); }
+    public int getHoles() { return features.getHoles(); }
+    public int getBumpiness() { return features.getBumpiness(); }
+    public int getAggregateHeight() { return features.getAggregateHeight(); }
+    public int getWells() { return features.getWells(); }
+    public int getRowTransitions() { return features.getRowTransitions(); }
+    public int getColumnTransitions() { return features.getColumnTransitions(); }
+    public int getCoveredCells() { return features.getCoveredCells(); }
+}
@@ -0,0 +1,355 @@
+package com.comp2042.ai;
+
+import java.util.Arrays;
+
+/**
+ * Measures the board features the bot scores: holes, covered cells, row
+ * and column transitions, wells, bumpiness, and aggregate height. The
+ * background is measured once per search with {@link #load}; after that
+ * each candidate placement only updates the rows and columns the piece
+ * touches, so scoring a candidate costs a few operations per piece cell
+ * rather than a scan of the whole board. Placements that clear rows
+ * shift the board, and are measured in full. Works on row masks, one bit
+ * per column, and allocates nothing. Instances are not thread-safe.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class BoardFeatures {
+
+    private static final int SHAPE_SIZE = 4;
+
+    private final int rows;
+    private final int cols;
+    private final long fullRow;
+
+    // the background and its features
+    private final long[] base;
+    private final int[] baseHeights;
+    private final int[] baseFilled;
+    private final int[] baseCovered;
+    private int baseHoles;
+    private int baseCoveredCells;
+    private int baseRowTransitions;
+    private int baseColumnTransitions;
+    private int baseBumpiness;
+    private int baseWells;
+    private int baseAggregateHeight;
+
+    // the board after the last placement; built on demand when no row was cleared
+    private final long[] board;
+    private boolean boardBuilt;
+    private final int[] heights;
+    private final int[] filled;
+    private final int[] covered;
+    private final long[] above;
+
+    // the cells of the last placement, per piece row and per board column
+    private final long[] pieceRows = new long[SHAPE_SIZE];
+    private int pieceY;
+    private final int[] pieceTop;
+    private final int[] pieceBottom;
+    private final int[] pieceCount;
+    private final int[] touched = new int[SHAPE_SIZE];
+    private int touchedCount;
+
+    private int linesCleared;
+    private int holes;
+    private int coveredCells;
+    private int rowTransitions;
+    private int columnTransitions;
+    private int bumpiness;
+    private int wells;
+    private int aggregateHeight;
+
+    /**
+     * Creates an extractor for boards of the given size.
+     *
+     * @param rows board rows
+     * @param cols board columns
+     */
+    public BoardFeatures(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRow = (1L << cols) - 1;
+        base = new long[rows];
+        baseHeights = new int[cols];
+        baseFilled = new int[cols];
+        baseCovered = new int[cols];
+        board = new long[rows];
+        heights = new int[cols];
+        filled = new int[cols];
+        covered = new int[cols];
+        above = new long[rows];
+        pieceTop = new int[cols];
+        pieceBottom = new int[cols];
+        pieceCount = new int[cols];
+    }
+
+    /**
+     * Measures a background that the following placements are made on.
+     *
+     * @param rowBits the background, one mask per row; copied
+     */
+    public void load(long[] rowBits) {
+        System.arraycopy(rowBits, 0, base, 0, rows);
+        measure(base);
+        System.arraycopy(heights, 0, baseHeights, 0, cols);
+        System.arraycopy(filled, 0, baseFilled, 0, cols);
+        System.arraycopy(covered, 0, baseCovered, 0, cols);
+        baseHoles = holes;
+        baseCoveredCells = coveredCells;
+        baseRowTransitions = rowTransitions;
+        baseColumnTransitions = columnTransitions;
+        baseBumpiness = bumpiness;
+        baseWells = wells;
+        baseAggregateHeight = aggregateHeight;
+        System.arraycopy(base, 0, board, 0, rows);
+        boardBuilt = true;
+        linesCleared = 0;
+    }
+
+    /**
+     * Locks a piece into the background and measures the result, clearing
+     * full rows first.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @return false if part of the piece locks above the board
+     */
+    public boolean place(int piece, int rotation, int x, int y) {
+        pieceY = y;
+        touchedCount = 0;
+        boolean inside = true;
+        boolean clears = false;
+        int top = rows;
+        int bottom = -1;
+        for (int j = 0; j < SHAPE_SIZE; j++) {
+            long m = PlacementSearch.mask(piece, rotation, j);
+            long bits = m == 0 ? 0L : x >= 0 ? m << x : m >>> -x;
+            pieceRows[j] = bits;
+            if (bits == 0) {
+                continue;
+            }
+            int targetY = y + j;
+            if (targetY < 0) {
+                inside = false;
+                continue;
+            }
+            top = Math.min(top, targetY);
+            bottom = targetY;
+            clears |= (base[targetY] | bits) == fullRow;
+            for (long b = bits; b != 0; b &= b - 1) {
+                int c = Long.numberOfTrailingZeros(b);
+                if (pieceCount[c] == 0) {
+                    touched[touchedCount++] = c;
+                    pieceTop[c] = targetY;
+                }
+                pieceBottom[c] = targetY;
+                pieceCount[c]++;
+            }
+        }
+        if (!inside || clears || bottom < 0) {
+            buildBoard();
+            clearFullRows();
+            measure(board);
+        } else {
+            update(top, bottom);
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            pieceCount[touched[i]] = 0;
+        }
+        return inside;
+    }
+
+    /**
+     * Returns the board of the last {@link #place}. The array is reused and
+     * must be copied to be kept.
+     *
+     * @return one mask per row
+     */
+    public long[] getRows() {
+        if (!boardBuilt) {
+            buildBoard();
+        }
+        return board;
+    }
+
+    public int getLinesCleared() { return linesCleared; }
+    public int getHoles() { return holes; }
+    public int getCoveredCells() { return coveredCells; }
+    public int getRowTransitions() { return rowTransitions; }
+    public int getColumnTransitions() { return columnTransitions; }
+    public int getBumpiness() { return bumpiness; }
+    public int getWells() { return wells; }
+    public int getAggregateHeight() { return aggregateHeight; }
+
+    // applies the change made by a piece that cleared nothing to the background features
+    private void update(int top, int bottom) {
+        boardBuilt = false;
+        linesCleared = 0;
+        rowTransitions = baseRowTransitions;
+        columnTransitions = baseColumnTransitions;
+        for (int r = top; r <= bottom; r++) {
+            rowTransitions += rowTransitions(placedRow(r)) - rowTransitions(base[r]);
+        }
+        // the pairs of neighbouring rows the piece can change, and the floor below the last row
+        for (int r = Math.max(top, 1); r <= Math.min(bottom + 1, rows - 1); r++) {
+            columnTransitions += Long.bitCount(placedRow(r - 1) ^ placedRow(r)) - Long.bitCount(base[r - 1] ^ base[r]);
+        }
+        if (bottom == rows - 1) {
+            columnTransitions += Long.bitCount(~placedRow(bottom) & fullRow) - Long.bitCount(~base[bottom] & fullRow);
+        }
+
+        System.arraycopy(baseHeights, 0, heights, 0, cols);
+        holes = baseHoles;
+        coveredCells = baseCoveredCells;
+        aggregateHeight = baseAggregateHeight;
+        int low = cols;
+        int high = -1;
+        for (int i = 0; i < touchedCount; i++) {
+            int c = touched[i];
+            low = Math.min(low, c);
+            high = Math.max(high, c);
+            int oldHeight = baseHeights[c];
+            int height = Math.max(oldHeight, rows - pieceTop[c]);
+            heights[c] = height;
+            aggregateHeight += height - oldHeight;
+            // holes of a column are its height less its filled cells
+            holes += height - oldHeight - pieceCount[c];
+            int cov;
+            if (pieceBottom[c] < rows - oldHeight) {
+                // resting on the stack: the piece covers the lowest hole if there is one, or the gap it leaves
+                boolean hole = baseFilled[c] < oldHeight || pieceBottom[c] < rows - oldHeight - 1;
+                cov = hole ? baseCovered[c] + pieceCount[c] : 0;
+            } else {
+                // tucked under an overhang, possibly into a hole
+                cov = coveredInColumn(c, rows - height);
+            }
+            coveredCells += cov - baseCovered[c];
+        }
+
+        bumpiness = baseBumpiness;
+        wells = baseWells;
+        int from = Math.max(0, low - 1);
+        int to = Math.min(cols - 1, high + 1);
+        for (int c = from; c <= to; c++) {
+            if (c > from) {
+                bumpiness += Math.abs(heights[c] - heights[c - 1]) - Math.abs(baseHeights[c] - baseHeights[c - 1]);
+            }
+            wells += well(heights, c) - well(baseHeights, c);
+        }
+    }
+
+    private long placedRow(int r) {
+        int j = r - pieceY;
+        return j >= 0 && j < SHAPE_SIZE ? base[r] | pieceRows[j] : base[r];
+    }
+
+    // filled cells of the column above its lowest hole, scanning down from the top
+    private int coveredInColumn(int c, int topRow) {
+        long bit = 1L << c;
+        int seen = 0;
+        int result = 0;
+        for (int r = topRow; r < rows; r++) {
+            if ((placedRow(r) & bit) != 0) {
+                seen++;
+            } else {
+                result = seen;
+            }
+        }
+        return result;
+    }
+
+    private void buildBoard() {
+        System.arraycopy(base, 0, board, 0, rows);
+        for (int j = 0; j < SHAPE_SIZE; j++) {
+            int targetY = pieceY + j;
+            if (targetY >= 0 && targetY < rows) {
+                board[targetY] |= pieceRows[j];
+            }
+        }
+        boardBuilt = true;
+    }
+
+    // drops the rows above each full row, the same way MatrixOperations clears them
+    private void clearFullRows() {
+        linesCleared = 0;
+        int write = rows - 1;
+        for (int r = rows - 1; r >= 0; r--) {
+            if (board[r] == fullRow) {
+                linesCleared++;
+            } else {
+                board[write--] = board[r];
+            }
+        }
+        while (write >= 0) {
+            board[write--] = 0L;
+        }
+    }
+
+    // measures a whole board into the current features
+    private void measure(long[] b) {
+        Arrays.fill(heights, 0);
+        Arrays.fill(filled, 0);
+        Arrays.fill(covered, 0);
+        holes = 0;
+        rowTransitions = 0;
+        columnTransitions = 0;
+        // top down: columns already seen above a row turn its gaps into holes
+        long seen = 0L;
+        for (int r = 0; r < rows; r++) {
+            long row = b[r];
+            above[r] = seen;
+            holes += Long.bitCount(seen & ~row);
+            for (long tops = row & ~seen; tops != 0; tops &= tops - 1) {
+                heights[Long.numberOfTrailingZeros(tops)] = rows - r;
+            }
+            for (long cells = row; cells != 0; cells &= cells - 1) {
+                filled[Long.numberOfTrailingZeros(cells)]++;
+            }
+            rowTransitions += rowTransitions(row);
+            if (r > 0) {
+                columnTransitions += Long.bitCount(b[r - 1] ^ row);
+            }
+            seen |= row;
+        }
+        columnTransitions += Long.bitCount(~b[rows - 1] & fullRow);
+        // bottom up: filled cells over a column that already had a hole below are covered
+        coveredCells = 0;
+        long holeBelow = 0L;
+        for (int r = rows - 1; r >= 0; r--) {
+            long row = b[r];
+            for (long cells = row & holeBelow; cells != 0; cells &= cells - 1) {
+                covered[Long.numberOfTrailingZeros(cells)]++;
+                coveredCells++;
+            }
+            holeBelow |= above[r] & ~row & fullRow;
+        }
+        aggregateHeight = 0;
+        bumpiness = 0;
+        wells = 0;
+        for (int c = 0; c < cols; c++) {
+            aggregateHeight += heights[c];
+            if (c > 0) {
+                bumpiness += Math.abs(heights[c] - heights[c - 1]);
+            }
+            wells += well(heights, c);
+        }
+    }
+
+    // the walls count as full height
+    private int well(int[] h, int c) {
+        int left = c > 0 ? h[c - 1] : rows;
+        int right = c < cols - 1 ? h[c + 1] : rows;
+        return Math.max(0, Math.min(left, right) - h[c]);
+    }
+
+    // walls on both sides count as filled
+    private int rowTransitions(long row) {
+        long walled = (row << 1) | 1L | (1L << (cols + 1));
+        return Long.bitCount((walled ^ (walled >>> 1)) & ((1L << (cols + 1)) - 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.comp2042.ai;
+
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Computes placement hints on a background thread. Each request works on
+ * an immutable {@link BoardSnapshot} and replaces the previous one, which is
+ * cancelled; a result is only delivered if no newer request was made by the
+ * time it is handed over. Requesting and cancelling never wait for a
+ * search, so hints add no input latency on the FX thread.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class HintService implements AutoCloseable {
+
+    private final ExecutorService worker;
+    private final Executor callbackExecutor;
+    private final BeamSearch search;
+    private final AtomicLong generation = new AtomicLong();
+    private Future<?> pending;
+
+    /**
+     * Creates a hint service for boards of the given size.
+     *
+     * @param rows board rows
+     * @param cols board columns
+     * @param callbackExecutor runs the result callbacks, for example {@code Platform::runLater}
+     */
+    public HintService(int rows, int cols, Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        this.search = new BeamSearch(rows, cols, Weights.DEFAULT, ForkJoinPool.commonPool(),
+                Constants.AI_BEAM_WIDTH, Constants.HINT_TIME_BUDGET_MS);
+        worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "hint-search");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Starts computing a hint for the given state, cancelling any hint still
+     * being computed.
+     *
+     * @param snapshot the state to plan for
+     * @param onHint receives the suggested placement on the callback executor
+     */
+    public synchronized void request(BoardSnapshot snapshot, Consumer<Placement> onHint) {
+        long id = generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(true);
+        }
+        pending = worker.submit(() -> {
+            Placement hint = plan(snapshot);
+            if (hint != null && generation.get() == id) {
+                callbackExecutor.execute(() -> {
+                    // a newer request may have arrived while the callback was queued
+                    if (generation.get() == id) {
+                        onHint.accept(hint);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Cancels the hint being computed and drops any result not yet delivered.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        cancel();
+        worker.shutdownNow();
+    }
+
+    private Placement plan(BoardSnapshot snapshot) {
+        return search.plan(snapshot.getMatrix(), snapshot.getPiece(), snapshot.getX(), snapshot.getY(),
+                snapshot.getRotation(), snapshot.getHeldPiece(), snapshot.getQueue(), !snapshot.isHoldUsed());
+    }
+}
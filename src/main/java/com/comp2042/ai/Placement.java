@@ -0,0 +1,63 @@
+package com.comp2042.ai;
+
+import com.comp2042.events.EventType;
+
+import java.util.List;
+
+/**
+ * A final position chosen for a piece together with the moves that reach
+ * and lock it. The moves start from the piece's position when it was
+ * planned and end with a hard drop.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class Placement {
+
+    private final int piece;
+    private final int x;
+    private final int y;
+    private final int rotation;
+    private final boolean hold;
+    private final double score;
+    private final int linesCleared;
+    private final List<EventType> moves;
+
+    /**
+     * Creates a placement.
+     *
+     * @param piece id of the piece that is placed
+     * @param x column offset of the piece when it locks
+     * @param y row offset of the piece when it locks
+     * @param rotation rotation index of the piece when it locks
+     * @param hold whether the current piece is held first and the placed piece comes from the hold swap
+     * @param score heuristic score of the resulting board
+     * @param linesCleared rows cleared by the lock
+     * @param moves the moves to send, ending with a hard drop
+     */
+    public Placement(int piece, int x, int y, int rotation, boolean hold, double score, int linesCleared, List<EventType> moves) {
+        this.piece = piece;
+        this.x = x;
+        this.y = y;
+        this.rotation = rotation;
+        this.hold = hold;
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.moves = List.copyOf(moves);
+    }
+
+    public int getPiece() { return piece; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getRotation() { return rotation; }
+    public boolean isHold() { return hold; }
+    public double getScore() { return score; }
+    public int getLinesCleared() { return linesCleared; }
+    public List<EventType> getMoves() { return moves; }
+
+    @Override
+    public String toString() {
+        return "Placement[piece=" + piece + ", x=" + x + ", y=" + y + ", rotation=" + rotation
+                + ", hold=" + hold + ", score=" + score + ", moves=" + moves + "]";
+    }
+}
@@ -0,0 +1,383 @@
+package com.comp2042.ai;
+
+import com.comp2042.core.BrickRotator;
+import com.comp2042.core.RotationSystem;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.bricks.ShapeTable;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enumerates every final placement a piece can reach from its current
+ * position, with a breadth-first search over (x, y, rotation) that uses the
+ * boards' own moves: one column left or right, one row down, and turns in
+ * each {@link BrickRotator} direction with the kicks of the board's
+ * {@link RotationSystem}. Collisions follow
+ * {@link com.comp2042.core.MatrixOperations#collidesWithBackground}, including
+ * cells above the board colliding with the top row. A placement is a state
+ * the piece cannot move down from, so tucks and spins under overhangs are
+ * found as well as plain drops.
+ *
+ * <p>The search goes row by row and floods each row with sideways moves and
+ * rotations before moving down, so every placement's path does its sideways
+ * work as high as possible and ends in a straight drop. A rotation kicked up
+ * or down joins the row being flooded.
+ *
+ * <p>The board is kept as one bit mask per row and all buffers are reused,
+ * so a search allocates nothing. Instances are not thread-safe.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class PlacementSearch {
+
+    // shapes are 4x4, so a piece can sit at most 3 columns left of the board
+    private static final int SHAPE_SIZE = 4;
+    private static final int X_OFFSET = SHAPE_SIZE - 1;
+    private static final int MAX_COLS = 60;
+
+    // moves stored per visited state to rebuild paths
+    private static final byte START = 0;
+    private static final byte LEFT = 1;
+    private static final byte RIGHT = 2;
+    private static final byte ROTATE = 3;
+    private static final byte DOWN = 4;
+    private static final byte ROTATE_CW = 5;
+    private static final byte ROTATE_180 = 6;
+    // the move stored for each rotation direction
+    private static final byte[] ROTATE_MOVES = {ROTATE, ROTATE_CW, ROTATE_180};
+    // rows above the start a kick may lift the piece into
+    private static final int KICK_HEADROOM = SHAPE_SIZE;
+
+    // row masks of every piece rotation, bit c set when column c is filled
+    private static final long[][][] MASKS = new long[ShapeTable.PIECE_COUNT][][];
+
+    static {
+        for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+            MASKS[piece] = new long[ShapeTable.rotationCount(piece)][SHAPE_SIZE];
+            for (int r = 0; r < MASKS[piece].length; r++) {
+                for (int row = 0; row < SHAPE_SIZE; row++) {
+                    long m = 0L;
+                    for (int col = 0; col < SHAPE_SIZE; col++) {
+                        if (ShapeTable.cell(piece, r, row, col) != 0) {
+                            m |= 1L << col;
+                        }
+                    }
+                    MASKS[piece][r][row] = m;
+                }
+            }
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final long fullRow;
+    private final long[] rowBits;
+    private final int width;
+    private RotationSystem rotationSystem = RotationSystem.SRS;
+
+    private int yOffset;
+    private int height;
+    private int[] stamp = new int[0];
+    private int generation;
+    private int[] parent = new int[0];
+    private byte[] move = new byte[0];
+    private int[] current = new int[0];
+    private int[] next = new int[0];
+    private int[] placements = new int[0];
+    private int placementCount;
+
+    /**
+     * Creates a search for boards of the given size.
+     *
+     * @param rows board rows
+     * @param cols board columns, at most 60
+     */
+    public PlacementSearch(int rows, int cols) {
+        if (cols > MAX_COLS) {
+            throw new IllegalArgumentException("boards wider than " + MAX_COLS + " columns are not supported");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fullRow = (1L << cols) - 1;
+        this.rowBits = new long[rows];
+        this.width = cols + X_OFFSET;
+    }
+
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    /**
+     * Selects the rotation system to search with; it must match the board
+     * the paths are played on.
+     *
+     * @param rotationSystem the rotation system
+     */
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+    }
+
+    /**
+     * Loads the background to search against. The matrix is read once and
+     * not kept.
+     *
+     * @param matrix the board matrix, indexed [row][column]
+     */
+    public void load(int[][] matrix) {
+        for (int r = 0; r < rows; r++) {
+            long m = 0L;
+            int[] row = matrix[r];
+            for (int c = 0; c < cols; c++) {
+                if (row[c] != 0) {
+                    m |= 1L << c;
+                }
+            }
+            rowBits[r] = m;
+        }
+    }
+
+    /**
+     * Loads a background that is already in row mask form.
+     *
+     * @param rows one mask per row; copied, not kept
+     */
+    public void load(long[] rows) {
+        System.arraycopy(rows, 0, rowBits, 0, this.rows);
+    }
+
+    /**
+     * Returns the loaded background as row masks. The array is reused by
+     * later loads and must not be modified.
+     *
+     * @return one mask per row
+     */
+    public long[] getRowBits() {
+        return rowBits;
+    }
+
+    /**
+     * Finds every placement reachable from the given state of a piece.
+     *
+     * @param piece piece id
+     * @param x start column offset
+     * @param y start row offset
+     * @param rotation start rotation index
+     * @return the number of placements found, 0 if the start collides
+     */
+    public int search(int piece, int x, int y, int rotation) {
+        placementCount = 0;
+        if (collides(piece, rotation, x, y)) {
+            return 0;
+        }
+        prepare(y);
+        // the O piece only turns in place
+        int directions = MASKS[piece].length == 1 ? 0 : ROTATE_MOVES.length;
+        int start = encode(x, y, rotation);
+        stamp[start] = generation;
+        parent[start] = -1;
+        move[start] = START;
+        current[0] = start;
+        int currentLength = 1;
+        while (currentLength > 0) {
+            int nextLength = 0;
+            // sideways moves and rotations append to the row being flooded
+            for (int head = 0; head < currentLength; head++) {
+                int state = current[head];
+                int sx = stateX(state);
+                int sy = stateY(state);
+                int sr = stateRotation(state);
+                if (!collides(piece, sr, sx - 1, sy)) {
+                    currentLength = enqueue(current, currentLength, encode(sx - 1, sy, sr), state, LEFT);
+                }
+                if (!collides(piece, sr, sx + 1, sy)) {
+                    currentLength = enqueue(current, currentLength, encode(sx + 1, sy, sr), state, RIGHT);
+                }
+                for (int d = 0; d < directions; d++) {
+                    int t = RotationSystem.transition(piece, sr, d);
+                    int k = kick(piece, t, sx, sy);
+                    if (k < 0) {
+                        continue;
+                    }
+                    int nx = sx + rotationSystem.kickX(t, k);
+                    int ny = sy + rotationSystem.kickY(t, k);
+                    if (ny >= -yOffset) {
+                        currentLength = enqueue(current, currentLength, encode(nx, ny, rotationSystem.target(t)), state, ROTATE_MOVES[d]);
+                    }
+                }
+                if (collides(piece, sr, sx, sy + 1)) {
+                    placements[placementCount++] = state;
+                } else {
+                    nextLength = enqueue(next, nextLength, encode(sx, sy + 1, sr), state, DOWN);
+                }
+            }
+            int[] swap = current;
+            current = next;
+            next = swap;
+            currentLength = nextLength;
+        }
+        return placementCount;
+    }
+
+    public int getPlacementCount() {
+        return placementCount;
+    }
+
+    public int getX(int placement) {
+        return stateX(placements[placement]);
+    }
+
+    public int getY(int placement) {
+        return stateY(placements[placement]);
+    }
+
+    public int getRotation(int placement) {
+        return stateRotation(placements[placement]);
+    }
+
+    /**
+     * Appends the moves that take the piece from the start of the last
+     * search to a placement and lock it there. The final straight drop is
+     * sent as a single hard drop.
+     *
+     * @param placement index of the placement
+     * @param out list to append the moves to
+     */
+    public void appendPath(int placement, List<EventType> out) {
+        int first = out.size();
+        int state = placements[placement];
+        // skip the straight drop at the end of the path
+        while (move[state] == DOWN) {
+            state = parent[state];
+        }
+        for (; move[state] != START; state = parent[state]) {
+            out.add(toEventType(move[state]));
+        }
+        // the chain was walked backwards
+        for (int i = first, j = out.size() - 1; i < j; i++, j--) {
+            EventType swap = out.get(i);
+            out.set(i, out.get(j));
+            out.set(j, swap);
+        }
+        out.add(EventType.HARD_DROP);
+    }
+
+    /**
+     * Checks whether a piece rotation collides with the loaded background.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     * @return true if any cell collides or leaves the board
+     */
+    public boolean collides(int piece, int rotation, int x, int y) {
+        long[] masks = MASKS[piece][rotation];
+        for (int j = 0; j < SHAPE_SIZE; j++) {
+            long m = masks[j];
+            if (m == 0) {
+                continue;
+            }
+            long placed;
+            if (x >= 0) {
+                placed = m << x;
+            } else {
+                if ((m & ((1L << -x) - 1)) != 0) {
+                    return true;
+                }
+                placed = m >>> -x;
+            }
+            if ((placed & ~fullRow) != 0) {
+                return true;
+            }
+            int targetY = y + j;
+            // cells above the board collide with whatever occupies the top row
+            long background = targetY < 0 ? rowBits[0] : (targetY >= rows ? fullRow : rowBits[targetY]);
+            if ((placed & background) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long mask(int piece, int rotation, int row) {
+        return MASKS[piece][rotation][row];
+    }
+
+    // the first kick of a rotation that fits, the same one the board keeps, or -1
+    private int kick(int piece, int transition, int x, int y) {
+        int target = rotationSystem.target(transition);
+        for (int k = 0; k < rotationSystem.kickCount(transition); k++) {
+            if (!collides(piece, target, x + rotationSystem.kickX(transition, k), y + rotationSystem.kickY(transition, k))) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    private int enqueue(int[] queue, int length, int state, int from, byte how) {
+        if (stamp[state] == generation) {
+            return length;
+        }
+        stamp[state] = generation;
+        parent[state] = from;
+        move[state] = how;
+        queue[length] = state;
+        return length + 1;
+    }
+
+    // sizes the state space for the start row, growing the buffers when needed
+    private void prepare(int startY) {
+        yOffset = Math.max(0, -startY) + KICK_HEADROOM;
+        height = rows + yOffset;
+        int states = SHAPE_SIZE * height * width;
+        if (stamp.length < states) {
+            stamp = new int[states];
+            parent = new int[states];
+            move = new byte[states];
+            current = new int[states];
+            next = new int[states];
+            placements = new int[states];
+            generation = 0;
+        }
+        // a fresh generation marks every state unvisited without clearing
+        if (++generation == 0) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+
+    private int encode(int x, int y, int rotation) {
+        return (rotation * height + y + yOffset) * width + x + X_OFFSET;
+    }
+
+    private int stateX(int state) {
+        return state % width - X_OFFSET;
+    }
+
+    private int stateY(int state) {
+        return (state / width) % height - yOffset;
+    }
+
+    private int stateRotation(int state) {
+        return state / width / height;
+    }
+
+    private static EventType toEventType(byte how) {
+        switch (how) {
+            case LEFT:
+                return EventType.LEFT;
+            case RIGHT:
+                return EventType.RIGHT;
+            case ROTATE:
+                return EventType.ROTATE;
+            case ROTATE_CW:
+                return EventType.ROTATE_CW;
+            case ROTATE_180:
+                return EventType.ROTATE_180;
+            default:
+                return EventType.DOWN;
+        }
+    }
+}
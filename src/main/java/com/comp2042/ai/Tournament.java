@@ -0,0 +1,244 @@
+package com.comp2042.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Constants;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+
+/**
+ * Plays many seeded games with the {@link AutoPlayer} and reports how it
+ * did: lines cleared (mean and percentiles), score, game length, and pieces
+ * played per second. Every game has its own board and bot and shares no
+ * mutable state with the others, so games run in parallel on a fork-join
+ * pool and throughput grows with the number of cores. Nothing here touches
+ * JavaFX, so it runs on a machine without a display.
+ * <p>
+ * Usage: {@code Tournament <games> [threads] [firstSeed] [maxPieces] [weights]},
+ * where weights are four to eight heuristic weights separated by commas.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class Tournament {
+
+    /**
+     * The outcome of one game.
+     */
+    public static final class GameResult {
+        private final long seed;
+        private final int score;
+        private final int lines;
+        private final int pieces;
+        private final long nanos;
+
+        GameResult(long seed, int score, int lines, int pieces, long nanos) {
+            this.seed = seed;
+            this.score = score;
+            this.lines = lines;
+            this.pieces = pieces;
+            this.nanos = nanos;
+        }
+
+        public long getSeed() { return seed; }
+        public int getScore() { return score; }
+        public int getLines() { return lines; }
+        public int getPieces() { return pieces; }
+        public long getNanos() { return nanos; }
+    }
+
+    /**
+     * Aggregate statistics over a set of games.
+     */
+    public static final class Summary {
+        private final int games;
+        private final double meanLines;
+        private final int p50Lines;
+        private final int p90Lines;
+        private final int p99Lines;
+        private final double meanScore;
+        private final double meanPieces;
+        private final double piecesPerSecond;
+        private final long elapsedMs;
+
+        Summary(int games, double meanLines, int p50Lines, int p90Lines, int p99Lines,
+                double meanScore, double meanPieces, double piecesPerSecond, long elapsedMs) {
+            this.games = games;
+            this.meanLines = meanLines;
+            this.p50Lines = p50Lines;
+            this.p90Lines = p90Lines;
+            this.p99Lines = p99Lines;
+            this.meanScore = meanScore;
+            this.meanPieces = meanPieces;
+            this.piecesPerSecond = piecesPerSecond;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public int getGames() { return games; }
+        public double getMeanLines() { return meanLines; }
+        public int getP50Lines() { return p50Lines; }
+        public int getP90Lines() { return p90Lines; }
+        public int getP99Lines() { return p99Lines; }
+        public double getMeanScore() { return meanScore; }
+        public double getMeanPieces() { return meanPieces; }
+        public double getPiecesPerSecond() { return piecesPerSecond; }
+        public long getElapsedMs() { return elapsedMs; }
+
+        @Override
+        public String toString() {
+            return String.format("%d games in %d ms%n"
+                            + "lines   mean %.1f  p50 %d  p90 %d  p99 %d%n"
+                            + "score   mean %.1f%n"
+                            + "length  mean %.1f pieces%n"
+                            + "speed   %.0f pieces/s",
+                    games, elapsedMs, meanLines, p50Lines, p90Lines, p99Lines, meanScore, meanPieces, piecesPerSecond);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final Weights weights;
+    private final int maxPieces;
+
+    /**
+     * Creates a tournament using one thread per core and the default weights.
+     */
+    public Tournament() {
+        this(Runtime.getRuntime().availableProcessors(), Weights.DEFAULT, Constants.TOURNAMENT_MAX_PIECES);
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param threads number of games played at once
+     * @param weights heuristic weights of the bot
+     * @param maxPieces pieces after which a game is stopped
+     */
+    public Tournament(int threads, Weights weights, int maxPieces) {
+        this.pool = new ForkJoinPool(threads);
+        this.weights = weights;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays consecutive seeds in parallel.
+     *
+     * @param firstSeed seed of the first game
+     * @param games number of games
+     * @return one result per game, in seed order
+     */
+    public List<GameResult> run(long firstSeed, int games) {
+        List<Callable<GameResult>> tasks = new ArrayList<>(games);
+        for (int i = 0; i < games; i++)
+        {
+            long seed = firstSeed + i;
+            tasks.add(() -> play(seed, weights, maxPieces));
+        }
+        List<GameResult> results = new ArrayList<>(games);
+        for (Future<GameResult> future : pool.invokeAll(tasks))
+        {
+            try
+            {
+                results.add(future.get());
+            }
+            catch (ExecutionException e)
+            {
+                throw new IllegalStateException("game failed", e.getCause());
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays one game until it ends or the piece limit is reached.
+     *
+     * @param seed seed of the brick sequence
+     * @param weights heuristic weights of the bot
+     * @param maxPieces pieces after which the game is stopped
+     * @return the result of the game
+     */
+    public static GameResult play(long seed, Weights weights, int maxPieces) {
+        long start = System.nanoTime();
+        HeadlessController controller = new HeadlessController(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(seed);
+        HeadlessGame game = controller.getGame();
+        AutoPlayer bot = new AutoPlayer(game.getBoard(), controller, weights);
+        int pieces = 0;
+        while (pieces < maxPieces && !game.isGameOver() && bot.playPiece() != null) {
+            pieces++;
+        }
+        return new GameResult(seed, game.getScore().getScore(), game.getScore().getLinesCleared(), pieces,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Aggregates game results.
+     *
+     * @param results the games, not empty
+     * @param elapsedNanos wall time the games took together
+     * @return the statistics
+     */
+    public static Summary summarize(List<GameResult> results, long elapsedNanos) {
+        int n = results.size();
+        int[] lines = new int[n];
+        long totalLines = 0;
+        long totalScore = 0;
+        long totalPieces = 0;
+        for (int i = 0; i < n; i++) {
+            GameResult result = results.get(i);
+            lines[i] = result.getLines();
+            totalLines += result.getLines();
+            totalScore += result.getScore();
+            totalPieces += result.getPieces();
+        }
+        Arrays.sort(lines);
+        double seconds = Math.max(elapsedNanos, 1L) / 1e9;
+        return new Summary(n, (double) totalLines / n, percentile(lines, 50), percentile(lines, 90), percentile(lines, 99),
+                (double) totalScore / n, (double) totalPieces / n, totalPieces / seconds, elapsedNanos / 1_000_000L);
+    }
+
+    // nearest rank on sorted values
+    static int percentile(int[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: Tournament <games> [threads] [firstSeed] [maxPieces] [weights]");
+            System.exit(2);
+        }
+        int games = Integer.parseInt(args[0]);
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long firstSeed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int maxPieces = args.length > 3 ? Integer.parseInt(args[3]) : Constants.TOURNAMENT_MAX_PIECES;
+        Weights weights = args.length > 4 ? Weights.parse(args[4]) : Weights.DEFAULT;
+
+        Tournament tournament = new Tournament(threads, weights, maxPieces);
+        long start = System.nanoTime();
+        List<GameResult> results = tournament.run(firstSeed, games);
+        long elapsed = System.nanoTime() - start;
+        tournament.shutdown();
+
+        System.out.println(weights + " on " + threads + " threads, at most " + maxPieces + " pieces per game");
+        System.out.println(summarize(results, elapsed));
+    }
+}
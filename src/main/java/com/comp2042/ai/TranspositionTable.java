@@ -0,0 +1,101 @@
+package com.comp2042.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free set of 64-bit position hashes shared by the workers of a
+ * {@link BeamSearch}. Each position is owned by the smallest order key that
+ * claimed it, so when two placement orders reach the same position the one
+ * that comes first in search order keeps it whichever thread got there
+ * first, and the search stays deterministic.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+final class TranspositionTable {
+
+    // 0 marks an empty slot, so a real zero hash is stored as 1
+    private static final long EMPTY = 0L;
+
+    private final AtomicLongArray hashes;
+    // owner keys are stored plus one so that 0 means unowned
+    private final AtomicLongArray owners;
+    private final int mask;
+
+    /**
+     * Creates a table.
+     *
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    TranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        hashes = new AtomicLongArray(size);
+        owners = new AtomicLongArray(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Claims a position for an order key.
+     *
+     * @param hash position hash
+     * @param key order key of the claimant, not negative
+     * @return true if the key now owns the position, false if a smaller key already does
+     */
+    boolean claim(long hash, long key) {
+        int slot = find(hash, true);
+        if (slot < 0) {
+            // a full table only costs repeated work, never a wrong answer
+            return true;
+        }
+        while (true) {
+            long owner = owners.get(slot);
+            if (owner != 0 && owner - 1 <= key) {
+                return false;
+            }
+            if (owners.compareAndSet(slot, owner, key + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns the key that owns a position.
+     *
+     * @param hash position hash
+     * @return the owner's key, or -1 if the position was never stored
+     */
+    long owner(long hash) {
+        int slot = find(hash, false);
+        return slot < 0 ? -1 : owners.get(slot) - 1;
+    }
+
+    void clear() {
+        for (int i = 0; i <= mask; i++) {
+            hashes.set(i, EMPTY);
+            owners.set(i, 0L);
+        }
+    }
+
+    // linear probing; inserts the hash into the first empty slot when asked to
+    private int find(long hash, boolean insert) {
+        long h = hash == EMPTY ? 1L : hash;
+        int slot = (int) (h ^ (h >>> 32)) & mask;
+        for (int probe = 0; probe <= mask; probe++) {
+            long stored = hashes.get(slot);
+            if (stored == EMPTY) {
+                if (!insert) {
+                    return -1;
+                }
+                if (hashes.compareAndSet(slot, EMPTY, h)) {
+                    return slot;
+                }
+                stored = hashes.get(slot);
+            }
+            if (stored == h) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+}
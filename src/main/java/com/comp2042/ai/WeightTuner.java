@@ -0,0 +1,346 @@
+package com.comp2042.ai;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.comp2042.core.Constants;
+
+/**
+ * Evolves the heuristic {@link Weights} of the bot with a genetic
+ * algorithm. Every candidate of a generation plays the same seeded games,
+ * so candidates are compared on the same piece sequences, and its fitness
+ * is the mean number of lines it clears within a piece limit. The best
+ * candidates survive unchanged; the rest of the next generation are
+ * children of two parents picked by tournament selection, averaged in
+ * proportion to their fitness and mutated with Gaussian noise. Weight
+ * vectors are kept at unit length, since only their direction changes
+ * which placement the bot picks.
+ * <p>
+ * All games of a generation are played in parallel on a fork-join pool.
+ * After each generation the population is written to a checkpoint file,
+ * and a tuner started on an existing checkpoint resumes from it. The
+ * random choices of a generation depend only on the run seed and the
+ * generation number, so a resumed run continues exactly as it would have.
+ * <p>
+ * Usage: {@code WeightTuner <checkpoint> <generations> [threads] [population] [games] [maxPieces] [seed]}
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class WeightTuner {
+
+    /**
+     * The outcome of evaluating one generation.
+     */
+    public static final class Generation {
+        private final int index;
+        private final Weights best;
+        private final double bestFitness;
+        private final double meanFitness;
+
+        Generation(int index, Weights best, double bestFitness, double meanFitness) {
+            this.index = index;
+            this.best = best;
+            this.bestFitness = bestFitness;
+            this.meanFitness = meanFitness;
+        }
+
+        public int getIndex() { return index; }
+        public Weights getBest() { return best; }
+        public double getBestFitness() { return bestFitness; }
+        public double getMeanFitness() { return meanFitness; }
+
+        @Override
+        public String toString() {
+            return String.format("generation %d: best %.1f lines, mean %.1f lines, %s",
+                    index, bestFitness, meanFitness, best.format());
+        }
+    }
+
+    private static final long GENERATION_MIX = 0x9E3779B97F4A7C15L;
+    // candidates drawn for each tournament selection
+    private static final int SELECTION_SIZE = 4;
+
+    private final ForkJoinPool pool;
+    private final int populationSize;
+    private final int games;
+    private final int maxPieces;
+    private final long seed;
+    private final Path checkpoint;
+
+    private int generation;
+    private List<Weights> population;
+
+    /**
+     * Creates a tuner, resuming from the checkpoint if it exists. A resumed
+     * run keeps the seed and population of the checkpoint.
+     *
+     * @param threads number of games played at once
+     * @param populationSize candidates per generation, at least two
+     * @param games seeded games each candidate plays per generation
+     * @param maxPieces pieces after which a game is stopped
+     * @param seed seed of the run
+     * @param checkpoint file the population is saved to, or null for none
+     * @throws IOException if an existing checkpoint cannot be read
+     */
+    public WeightTuner(int threads, int populationSize, int games, int maxPieces, long seed, Path checkpoint) throws IOException {
+        this.pool = new ForkJoinPool(threads);
+        this.games = games;
+        this.maxPieces = maxPieces;
+        this.checkpoint = checkpoint;
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            long[] savedSeed = new long[1];
+            population = load(checkpoint, savedSeed);
+            this.seed = savedSeed[0];
+            this.populationSize = population.size();
+        } else {
+            this.seed = seed;
+            this.populationSize = populationSize;
+            population = initialPopulation(populationSize, new SplittableRandom(seed));
+        }
+    }
+
+    public int getGeneration() { return generation; }
+
+    /**
+     * Returns the population the next call to {@link #step} evaluates.
+     *
+     * @return the candidates, unmodifiable
+     */
+    public List<Weights> getPopulation() { return List.copyOf(population); }
+
+    /**
+     * Evaluates the current generation, breeds the next one, and saves it.
+     *
+     * @return the outcome of the generation evaluated
+     * @throws IOException if the checkpoint cannot be written
+     */
+    public Generation step() throws IOException {
+        SplittableRandom random = new SplittableRandom(seed ^ (generation + 1) * GENERATION_MIX);
+        long[] seeds = new long[games];
+        for (int i = 0; i < games; i++) {
+            seeds[i] = random.nextLong();
+        }
+        double[] fitness = evaluate(population, seeds);
+
+        Integer[] order = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            order[i] = i;
+        }
+        // stable, so equal candidates keep their population order
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        double mean = 0;
+        for (double f : fitness) {
+            mean += f;
+        }
+        Generation result = new Generation(generation, population.get(order[0]), fitness[order[0]], mean / populationSize);
+
+        List<Weights> next = new ArrayList<>(populationSize);
+        int elite = Math.max(1, (int) (populationSize * Constants.TUNER_ELITE_FRACTION));
+        for (int i = 0; i < elite; i++) {
+            next.add(population.get(order[i]));
+        }
+        while (next.size() < populationSize) {
+            int a = select(fitness, random);
+            int b = select(fitness, random);
+            next.add(mutate(crossover(population.get(a), fitness[a], population.get(b), fitness[b]), random));
+        }
+        population = next;
+        generation++;
+        if (checkpoint != null) {
+            save(checkpoint);
+        }
+        return result;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays every candidate on the same seeds in parallel.
+     *
+     * @param candidates the weights to evaluate
+     * @param seeds seeds of the games every candidate plays
+     * @return the mean lines cleared by each candidate
+     */
+    double[] evaluate(List<Weights> candidates, long[] seeds) {
+        List<Callable<Integer>> tasks = new ArrayList<>(candidates.size() * seeds.length);
+        for (Weights weights : candidates) {
+            for (long s : seeds) {
+                tasks.add(() -> Tournament.play(s, weights, maxPieces).getLines());
+            }
+        }
+        List<Future<Integer>> futures = pool.invokeAll(tasks);
+        double[] fitness = new double[candidates.size()];
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                fitness[i / seeds.length] += futures.get(i).get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("game failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while evaluating", e);
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] /= seeds.length;
+        }
+        return fitness;
+    }
+
+    // the fittest of a few random candidates, the earliest on ties
+    private int select(double[] fitness, SplittableRandom random) {
+        int best = random.nextInt(fitness.length);
+        for (int i = 1; i < SELECTION_SIZE; i++) {
+            int other = random.nextInt(fitness.length);
+            if (fitness[other] > fitness[best] || (fitness[other] == fitness[best] && other < best)) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    // averages the parents, leaning towards the fitter one
+    static Weights crossover(Weights a, double fitnessA, Weights b, double fitnessB) {
+        double[] x = a.toArray();
+        double[] y = b.toArray();
+        double total = fitnessA + fitnessB;
+        double share = total > 0 ? fitnessA / total : 0.5;
+        double[] child = new double[Weights.FEATURE_COUNT];
+        for (int i = 0; i < child.length; i++) {
+            child[i] = share * x[i] + (1 - share) * y[i];
+        }
+        return normalize(child);
+    }
+
+    private static Weights mutate(Weights weights, SplittableRandom random) {
+        double[] values = weights.toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (random.nextDouble() < Constants.TUNER_MUTATION_RATE) {
+                values[i] += random.nextGaussian() * Constants.TUNER_MUTATION_SIGMA;
+            }
+        }
+        return normalize(values);
+    }
+
+    static Weights normalize(double[] values) {
+        double length = 0;
+        for (double v : values) {
+            length += v * v;
+        }
+        length = Math.sqrt(length);
+        double[] unit = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            unit[i] = length > 0 ? values[i] / length : 0;
+        }
+        return Weights.of(unit);
+    }
+
+    // the default weights seed the search; the others start anywhere
+    private static List<Weights> initialPopulation(int size, SplittableRandom random) {
+        List<Weights> population = new ArrayList<>(size);
+        population.add(normalize(Weights.DEFAULT.toArray()));
+        while (population.size() < size) {
+            double[] values = new double[Weights.FEATURE_COUNT];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextDouble(-1.0, 1.0);
+            }
+            population.add(normalize(values));
+        }
+        return population;
+    }
+
+    /**
+     * Writes the generation, seed, and population, replacing the file atomically.
+     *
+     * @param path the checkpoint file
+     * @throws IOException if the file cannot be written
+     */
+    private void save(Path path) throws IOException {
+        StringBuilder content = new StringBuilder();
+        content.append("generation=").append(generation).append('\n');
+        content.append("seed=").append(seed).append('\n');
+        for (Weights weights : population) {
+            content.append("candidate=").append(weights.format()).append('\n');
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(temp, content);
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a checkpoint written by {@link #save}.
+     *
+     * @param path the checkpoint file
+     * @param seedOut receives the seed of the run
+     * @return the population
+     * @throws IOException if the file cannot be read or holds fewer than two candidates
+     */
+    private List<Weights> load(Path path, long[] seedOut) throws IOException {
+        List<Weights> loaded = new ArrayList<>();
+        for (String line : Files.readAllLines(path)) {
+            String[] kv = line.split("=", 2);
+            if (kv.length != 2) {
+                continue;
+            }
+            String key = kv[0].trim();
+            String value = kv[1].trim();
+            try {
+                if ("generation".equals(key)) generation = Integer.parseInt(value);
+                if ("seed".equals(key)) seedOut[0] = Long.parseLong(value);
+                if ("candidate".equals(key)) loaded.add(Weights.parse(value));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("bad checkpoint line: " + line, e);
+            }
+        }
+        if (loaded.size() < 2) {
+            throw new IOException("checkpoint " + path + " holds " + loaded.size() + " candidates");
+        }
+        return loaded;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: WeightTuner <checkpoint> <generations> [threads] [population] [games] [maxPieces] [seed]");
+            System.exit(2);
+        }
+        Path checkpoint = Paths.get(args[0]);
+        int generations = Integer.parseInt(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int population = args.length > 3 ? Integer.parseInt(args[3]) : Constants.TUNER_POPULATION;
+        int games = args.length > 4 ? Integer.parseInt(args[4]) : Constants.TUNER_GAMES;
+        int maxPieces = args.length > 5 ? Integer.parseInt(args[5]) : Constants.TUNER_MAX_PIECES;
+        long seed = args.length > 6 ? Long.parseLong(args[6]) : 1L;
+
+        WeightTuner tuner = new WeightTuner(threads, population, games, maxPieces, seed, checkpoint);
+        if (tuner.getGeneration() > 0) {
+            System.out.println("resuming at generation " + tuner.getGeneration());
+        }
+        while (tuner.getGeneration() < generations) {
+            long start = System.nanoTime();
+            Generation result = tuner.step();
+            System.out.println(result + " (" + (System.nanoTime() - start) / 1_000_000L + " ms)");
+        }
+        tuner.shutdown();
+    }
+}
@@ -0,0 +1,142 @@
+package com.comp2042.ai;
+
+/**
+ * Immutable weights of the board heuristic used by the {@link AutoPlayer}.
+ * A placement scores the weighted sum of the features of the board it
+ * leaves behind, and the highest score wins, so penalties are negative.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class Weights {
+
+    // weights of the well-known four feature player, tuned for 10 wide boards
+    public static final Weights DEFAULT = new Weights(-0.35663, -0.184483, -0.510066, 0.760666);
+
+    // number of features, and of values in toArray
+    public static final int FEATURE_COUNT = 8;
+
+    private final double holes;
+    private final double bumpiness;
+    private final double aggregateHeight;
+    private final double linesCleared;
+    private final double wells;
+    private final double rowTransitions;
+    private final double columnTransitions;
+    private final double coveredCells;
+
+    /**
+     * Creates a set of heuristic weights of the four classic features.
+     *
+     * @param holes weight per empty cell with a filled cell above it
+     * @param bumpiness weight per row of height difference between neighbouring columns
+     * @param aggregateHeight weight per row of summed column height
+     * @param linesCleared weight per row cleared by the placement
+     */
+    public Weights(double holes, double bumpiness, double aggregateHeight, double linesCleared) {
+        this(holes, bumpiness, aggregateHeight, linesCleared, 0.0);
+    }
+
+    /**
+     * Creates a set of heuristic weights that ignores transitions and covered cells.
+     *
+     * @param holes weight per empty cell with a filled cell above it
+     * @param bumpiness weight per row of height difference between neighbouring columns
+     * @param aggregateHeight weight per row of summed column height
+     * @param linesCleared weight per row cleared by the placement
+     * @param wells weight per row of well depth, a column lower than both its neighbours
+     */
+    public Weights(double holes, double bumpiness, double aggregateHeight, double linesCleared, double wells) {
+        this(holes, bumpiness, aggregateHeight, linesCleared, wells, 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * Creates a set of heuristic weights.
+     *
+     * @param holes weight per empty cell with a filled cell above it
+     * @param bumpiness weight per row of height difference between neighbouring columns
+     * @param aggregateHeight weight per row of summed column height
+     * @param linesCleared weight per row cleared by the placement
+     * @param wells weight per row of well depth, a column lower than both its neighbours
+     * @param rowTransitions weight per change between filled and empty along a row, walls counting as filled
+     * @param columnTransitions weight per change between filled and empty down a column, the floor counting as filled
+     * @param coveredCells weight per filled cell above the lowest hole of its column
+     */
+    public Weights(double holes, double bumpiness, double aggregateHeight, double linesCleared, double wells,
+                   double rowTransitions, double columnTransitions, double coveredCells) {
+        this.holes = holes;
+        this.bumpiness = bumpiness;
+        this.aggregateHeight = aggregateHeight;
+        this.linesCleared = linesCleared;
+        this.wells = wells;
+        this.rowTransitions = rowTransitions;
+        this.columnTransitions = columnTransitions;
+        this.coveredCells = coveredCells;
+    }
+
+    /**
+     * Creates weights from the values of {@link #toArray}.
+     *
+     * @param values one weight per feature, in constructor order
+     * @return the weights
+     */
+    public static Weights of(double[] values) {
+        return new Weights(values[0], values[1], values[2], values[3], values[4], values[5], values[6], values[7]);
+    }
+
+    /**
+     * Reads weights written as four to eight comma separated numbers, in
+     * constructor order; the weights left out are zero.
+     *
+     * @param text the weights, for example {@code -0.36,-0.18,-0.51,0.76}
+     * @return the weights
+     * @throws IllegalArgumentException if the text does not hold four to eight numbers
+     */
+    public static Weights parse(String text) {
+        String[] parts = text.split(",");
+        if (parts.length < 4 || parts.length > FEATURE_COUNT) {
+            throw new IllegalArgumentException("expected four to eight weights but got " + parts.length);
+        }
+        double[] values = new double[FEATURE_COUNT];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return of(values);
+    }
+
+    /**
+     * Returns the weights in constructor order.
+     *
+     * @return a new array of {@link #FEATURE_COUNT} values
+     */
+    public double[] toArray() {
+        return new double[] {holes, bumpiness, aggregateHeight, linesCleared, wells,
+                rowTransitions, columnTransitions, coveredCells};
+    }
+
+    /**
+     * Writes the weights in the form {@link #parse} reads.
+     *
+     * @return comma separated weights
+     */
+    public String format() {
+        return holes + "," + bumpiness + "," + aggregateHeight + "," + linesCleared + "," + wells
+                + "," + rowTransitions + "," + columnTransitions + "," + coveredCells;
+    }
+
+    public double getHoles() { return holes; }
+    public double getBumpiness() { return bumpiness; }
+    public double getAggregateHeight() { return aggregateHeight; }
+    public double getLinesCleared() { return linesCleared; }
+    public double getWells() { return wells; }
+    public double getRowTransitions() { return rowTransitions; }
+    public double getColumnTransitions() { return columnTransitions; }
+    public double getCoveredCells() { return coveredCells; }
+
+    @Override
+    public String toString() {
+        return "Weights[holes=" + holes + ", bumpiness=" + bumpiness
+                + ", aggregateHeight=" + aggregateHeight + ", linesCleared=" + linesCleared + ", wells=" + wells + ", rowTransitions=" + rowTransitions
+                + ", columnTransitions=" + columnTransitions + ", coveredCells=" + coveredCells + "]";
+    }
+}
@@ -4,6 +4,9 @@ import java.net.URL;
 
 import com.comp2042.core.Constants;
 import com.comp2042.core.GameController;
+import com.comp2042.logic.workflow.HighScoreStore;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.replay.ReplayArchive;
 import com.comp2042.ui.GuiController;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -21,6 +24,8 @@ import javafx.stage.Stage;
  */
 public class Main extends Application {
 
+    private GameController gameController;
+
     /**
      * Initializes and displays the primary application window.
      * Loads the FXML layout, obtains the GUI controller, sets up the scene,
@@ -42,7 +47,20 @@ public class Main extends Application {
         primaryStage.setResizable(false);
         primaryStage.setScene(scene);
         primaryStage.show();
-        new GameController(c);
+        gameController = new GameController(c);
+        gameController.setReplayArchive(ReplayArchive.getDefault());
+        // local monitoring only; no remote connector is started
+        GameMetrics.register();
+    }
+
+    /**
+     * Writes any high scores and replays still waiting before the application exits.
+     */
+    @Override
+    public void stop() {
+        if (gameController != null) gameController.finishReplay();
+        HighScoreStore.getDefault().close();
+        ReplayArchive.getDefault().close();
     }
 
 
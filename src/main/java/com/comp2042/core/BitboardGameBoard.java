@@ -0,0 +1,545 @@
+package com.comp2042.core;
+
+import com.comp2042.engine.ScoreTracker;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.workflow.ClearRow;
+import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.LineClearEvent;
+import com.comp2042.metrics.PieceLockEvent;
+import com.comp2042.metrics.PieceSpawnEvent;
+
+import java.util.Arrays;
+
+/**
+ * Board implementation that keeps one occupancy bitmask per row, with the
+ * brick colours held in a separate matrix. Collision checks, merges and line
+ * clears work on whole rows at a time instead of cell by cell, which makes it
+ * the better choice for simulation and AI workloads.
+ * Behaves exactly like {@link GameBoard}, including the offscreen collision rules.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class BitboardGameBoard implements Board {
+
+    // brick shapes are at most 4 cells wide, so a shifted row never equals -1
+    private static final long OUT_OF_BOUNDS = -1L;
+
+    private final int rows;
+    private final int cols;
+    private final long fullRowMask;
+    private final long[] rowBits;
+    private final RandomBrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private final ScoreTracker score;
+    private final DirtyCells dirtyCells;
+    private int[][] colourMatrix;
+    private boolean masksStale;
+    private long[] activeMasks = new long[0];
+    private long[] rotatedMasks = new long[0];
+    private int offsetX;
+    private int offsetY;
+    private Brick heldBrick;
+    private boolean holdUsed;
+    // preview and hold matrices of the last view, rebuilt only after a spawn or hold changes them
+    private int[][][] previewData;
+    private int[][] holdData;
+    private long previewVersion;
+
+    /**
+     * Constructs a bitboard with the given dimensions.
+     *
+     * @param rows number of rows in the board
+     * @param cols number of columns in the board, at most 64
+     */
+    public BitboardGameBoard(int rows, int cols) {
+        if (cols <= 0 || cols > Long.SIZE) {
+            throw new IllegalArgumentException("Bitboard supports 1 to " + Long.SIZE + " columns, got " + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        fullRowMask = cols == Long.SIZE ? -1L : (1L << cols) - 1;
+        rowBits = new long[rows];
+        colourMatrix = new int[rows][cols];
+        brickGenerator = new RandomBrickGenerator();
+        brickRotator = new BrickRotator();
+        score = new ScoreTracker();
+        dirtyCells = new DirtyCells(rows, cols);
+    }
+
+    /**
+     * Moves the active brick one row downward.
+     *
+     * @return true if movement succeeds, false if blocked
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(offsetX, offsetY + 1);
+    }
+
+    /**
+     * Moves the active brick one column to the left.
+     *
+     * @return true if movement succeeds, false otherwise
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(offsetX - 1, offsetY);
+    }
+
+    /**
+     * Moves the active brick one column to the right.
+     *
+     * @return true if movement succeeds, false otherwise
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(offsetX + 1, offsetY);
+    }
+
+    /**
+     * Attempts to rotate the active brick counterclockwise.
+     *
+     * @return true if rotation succeeds, false otherwise
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotateBrick(BrickRotator.COUNTER_CLOCKWISE);
+    }
+
+    /**
+     * Attempts to rotate the active brick, trying the same kicks as
+     * {@link GameBoard} in order when the rotation collides in place.
+     *
+     * @param direction the rotation direction
+     * @return true if rotation succeeds, false otherwise
+     */
+    @Override
+    public boolean rotateBrick(int direction) {
+        ensureMasks();
+        RotationSystem system = brickRotator.getRotationSystem();
+        int transition = brickRotator.getTransition(direction);
+        int target = system.target(transition);
+        rotatedMasks = toRowMasks(brickRotator.getShape(target), rotatedMasks);
+        for (int k = 0; k < system.kickCount(transition); k++) {
+            int nx = offsetX + system.kickX(transition, k);
+            int ny = offsetY + system.kickY(transition, k);
+            if (!collides(rotatedMasks, nx, ny)) {
+                applyRotation(target, nx, ny);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public RotationSystem getRotationSystem() {
+        return brickRotator.getRotationSystem();
+    }
+
+    @Override
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        brickRotator.setRotationSystem(rotationSystem);
+    }
+
+    /**
+     * Holds the current brick or swaps it with the held one.
+     * Validates single-use per spawn and spawn collision.
+     *
+     * @return true if hold or swap succeeds, false otherwise
+     */
+    @Override
+    public boolean holdBrick() {
+        if (holdUsed) {
+            return false;
+        }
+        // an empty slot draws from the queue, which stays drawn even if the hold is undone
+        previewData = null;
+        Brick previousCurrent = brickRotator.getBrick();
+        Brick previousHeld = heldBrick;
+        int previousX = offsetX;
+        int previousY = offsetY;
+
+        if (heldBrick == null) {
+            heldBrick = previousCurrent;
+            brickRotator.setBrick(brickGenerator.getBrick());
+        } else {
+            brickRotator.setBrick(heldBrick);
+            heldBrick = previousCurrent;
+        }
+
+        offsetX = Constants.BRICK_SPAWN_X;
+        offsetY = Constants.BRICK_SPAWN_Y;
+        activeMasks = toRowMasks(brickRotator.getCurrentShape(), activeMasks);
+        ensureMasks();
+
+        // collision error handling, restore the brick that was in play
+        if (collides(activeMasks, offsetX, offsetY)) {
+            brickRotator.setBrick(previousCurrent);
+            heldBrick = previousHeld;
+            offsetX = previousX;
+            offsetY = previousY;
+            activeMasks = toRowMasks(brickRotator.getCurrentShape(), activeMasks);
+            return false;
+        }
+        holdUsed = true;
+        return true;
+    }
+
+    /**
+     * Spawns a new brick at the default position and resets hold usage.
+     *
+     * @return true if spawn collides with background, false otherwise
+     */
+    @Override
+    public boolean createNewBrick() {
+        brickRotator.setBrick(brickGenerator.getBrick());
+        previewData = null;
+        offsetX = Constants.BRICK_SPAWN_X;
+        offsetY = Constants.BRICK_SPAWN_Y;
+        holdUsed = false;
+        activeMasks = toRowMasks(brickRotator.getCurrentShape(), activeMasks);
+        ensureMasks();
+        boolean blocked = collides(activeMasks, offsetX, offsetY);
+        PieceSpawnEvent.emit(brickRotator.getBrick().getPieceId(), blocked);
+        return blocked;
+    }
+
+    /**
+     * Returns the live colour matrix. Callers may write into it, so the row
+     * masks are re-derived from it before they are next consulted.
+     *
+     * @return the background colour matrix
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        masksStale = true;
+        dirtyCells.markAll();
+        return colourMatrix;
+    }
+
+    @Override
+    public int[][] getBoardMatrixView() {
+        return colourMatrix;
+    }
+
+    /**
+     * Computes the landing row of the active brick. Each step is a handful of
+     * word operations, so this simply walks down with the row masks.
+     *
+     * @return the landing y-offset
+     */
+    @Override
+    public int getLandingY() {
+        ensureMasks();
+        int landingY = offsetY;
+        while (!collides(activeMasks, offsetX, landingY + 1)) {
+            landingY++;
+        }
+        return landingY;
+    }
+
+    /**
+     * Moves the active brick directly to its landing row.
+     *
+     * @return number of rows dropped
+     */
+    @Override
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int dropped = landingY - offsetY;
+        offsetY = landingY;
+        return dropped;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        // the shapes are shared, not copied, and the preview is only rebuilt after it changed
+        if (previewData == null) {
+            previewData = new int[Constants.PREVIEW_COUNT][][];
+            for (int i = 0; i < previewData.length; i++) {
+                previewData[i] = brickGenerator.peek(i).getShape(0);
+            }
+            holdData = heldBrick != null ? heldBrick.getShape(0) : ShapeTable.empty();
+            previewVersion++;
+        }
+        return new ViewData(brickRotator.getCurrentShape(), offsetX, offsetY, previewData, holdData, getLandingY(), previewVersion);
+    }
+
+    @Override
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
+    }
+
+    /**
+     * Locks the active brick into the background by OR-ing its row masks into
+     * the board and writing its colours into the colour matrix.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        ensureMasks();
+        PieceLockEvent.emit(brickRotator.getBrick().getPieceId(), brickRotator.getCurrentPosition(), offsetX, offsetY);
+        int[][] shape = brickRotator.getCurrentShape();
+        for (int j = 0; j < activeMasks.length; j++) {
+            int targetY = offsetY + j;
+            if (activeMasks[j] == 0 || targetY < 0 || targetY >= rows) {
+                continue;
+            }
+            long placed = shiftInBounds(activeMasks[j], offsetX);
+            rowBits[targetY] |= placed;
+            while (placed != 0) {
+                int col = Long.numberOfTrailingZeros(placed);
+                colourMatrix[targetY][col] = shape[j][col - offsetX];
+                dirtyCells.mark(targetY, col);
+                placed &= placed - 1;
+            }
+        }
+    }
+
+    /**
+     * Clears full rows by comparing each row mask against the full-row mask,
+     * compacting the remaining rows downward in place.
+     *
+     * @return summary data of cleared rows and the updated matrix
+     */
+    @Override
+    public ClearRow clearRows() {
+        ensureMasks();
+        int cleared = 0;
+        int top = rows;
+        int lowest = -1;
+        for (int r = 0; r < rows; r++) {
+            if (rowBits[r] == fullRowMask) {
+                cleared++;
+                lowest = r;
+            }
+            if (rowBits[r] != 0 && top == rows) {
+                top = r;
+            }
+        }
+        if (cleared == 0) {
+            return new ClearRow(0, colourMatrix, 0);
+        }
+        // rows from the top of the stack down to the lowest full row all shift
+        dirtyCells.markRows(top, lowest);
+
+        int[][] freed = new int[cleared][];
+        int freedCount = 0;
+        int write = rows - 1;
+        for (int r = rows - 1; r >= 0; r--) {
+            if (rowBits[r] == fullRowMask) {
+                freed[freedCount++] = colourMatrix[r];
+            } else {
+                rowBits[write] = rowBits[r];
+                colourMatrix[write] = colourMatrix[r];
+                write--;
+            }
+        }
+        // the cleared row arrays are recycled as the new empty rows on top
+        for (int r = write; r >= 0; r--) {
+            int[] row = freed[--freedCount];
+            Arrays.fill(row, 0);
+            colourMatrix[r] = row;
+            rowBits[r] = 0L;
+        }
+        LineClearEvent.emit(cleared);
+        return new ClearRow(cleared, colourMatrix, MatrixOperations.scoreBonus(cleared));
+    }
+
+    @Override
+    public ScoreTracker getScore() {
+        return score;
+    }
+
+    /**
+     * Resets board, score, generators, and spawns the first brick.
+     */
+    @Override
+    public void newGame() {
+        brickGenerator.reset();
+        restart();
+    }
+
+    @Override
+    public void newGame(long seed) {
+        brickGenerator.reset(seed);
+        restart();
+    }
+
+    @Override
+    public long getSeed() {
+        return brickGenerator.getSeed();
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        int[] queue = new int[brickGenerator.queued()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = brickGenerator.peekPieceId(i);
+        }
+        return new BoardSnapshot(colourMatrix, brickRotator.getBrick().getPieceId(), brickRotator.getCurrentPosition(),
+                offsetX, offsetY, heldBrick == null ? BoardSnapshot.NO_PIECE : heldBrick.getPieceId(), holdUsed,
+                brickGenerator.getSeed(), brickGenerator.getRandomState(), queue,
+                score.getScore(), score.getLinesCleared(), score.getLevel());
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        int[][] matrix = snapshot.matrix();
+        if (matrix.length != rows || matrix[0].length != cols) {
+            throw new IllegalArgumentException("Snapshot is for a " + matrix.length + "x" + matrix[0].length + " board");
+        }
+        colourMatrix = MatrixOperations.copy(matrix);
+        masksStale = true;
+        brickGenerator.restore(snapshot.seed(), snapshot.randomState(), snapshot.queue());
+        brickRotator.setBrick(brickGenerator.brick(snapshot.getPiece()));
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        offsetX = snapshot.getX();
+        offsetY = snapshot.getY();
+        heldBrick = snapshot.getHeldPiece() == BoardSnapshot.NO_PIECE ? null : brickGenerator.brick(snapshot.getHeldPiece());
+        holdUsed = snapshot.isHoldUsed();
+        previewData = null;
+        activeMasks = toRowMasks(brickRotator.getCurrentShape(), activeMasks);
+        ensureMasks();
+        dirtyCells.markAll();
+        score.restore(snapshot.getScore(), snapshot.getLinesCleared(), snapshot.getLevel());
+    }
+
+    // clears everything but the brick sequence, which the caller has just reset
+    private void restart() {
+        colourMatrix = new int[rows][cols];
+        Arrays.fill(rowBits, 0L);
+        masksStale = false;
+        dirtyCells.markAll();
+        score.reset();
+        heldBrick = null;
+        holdUsed = false;
+        createNewBrick();
+    }
+
+    /**
+     * Empties the hold slot and resets usage flags.
+     */
+    @Override
+    public void clearHold() {
+        heldBrick = null;
+        holdUsed = false;
+        previewData = null;
+    }
+
+    /**
+     * Checks whether a brick matrix placed at the given offset collides with
+     * the background, using the same rules as
+     * {@link MatrixOperations#collidesWithBackground(int[][], int[][], int, int)}.
+     *
+     * @param shape the brick matrix
+     * @param x placement x-offset
+     * @param y placement y-offset
+     * @return true if the placement collides or is out of bounds
+     */
+    boolean collides(int[][] shape, int x, int y) {
+        ensureMasks();
+        return collides(toRowMasks(shape, null), x, y);
+    }
+
+    private boolean tryMove(int x, int y) {
+        ensureMasks();
+        if (collides(activeMasks, x, y)) {
+            return false;
+        }
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
+    private void applyRotation(int position, int x, int y) {
+        brickRotator.setCurrentShape(position);
+        offsetX = x;
+        offsetY = y;
+        long[] previous = activeMasks;
+        activeMasks = rotatedMasks;
+        rotatedMasks = previous;
+    }
+
+    private boolean collides(long[] masks, int x, int y) {
+        for (int j = 0; j < masks.length; j++) {
+            if (masks[j] == 0) {
+                continue;
+            }
+            long placed = shift(masks[j], x);
+            if (placed == OUT_OF_BOUNDS) {
+                return true;
+            }
+            int targetY = y + j;
+            // cells above the board collide with whatever occupies the top row
+            long background = targetY < 0 ? rowBits[0] : (targetY >= rows ? fullRowMask : rowBits[targetY]);
+            if ((placed & background) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // shifts a brick row mask into board columns, flagging cells that leave the board
+    private long shift(long mask, int x) {
+        if (x >= cols) {
+            return OUT_OF_BOUNDS;
+        }
+        long placed;
+        if (x >= 0) {
+            placed = mask << x;
+            if ((placed >>> x) != mask) {
+                return OUT_OF_BOUNDS;
+            }
+        } else {
+            if (-x >= Long.SIZE || (mask & ((1L << -x) - 1)) != 0) {
+                return OUT_OF_BOUNDS;
+            }
+            placed = mask >>> -x;
+        }
+        return (placed & ~fullRowMask) != 0 ? OUT_OF_BOUNDS : placed;
+    }
+
+    // like shift, but drops out-of-bounds cells instead of flagging them (merge semantics)
+    private long shiftInBounds(long mask, int x) {
+        if (x >= cols || -x >= Long.SIZE) {
+            return 0L;
+        }
+        long placed = x >= 0 ? mask << x : mask >>> -x;
+        return placed & fullRowMask;
+    }
+
+    private static long[] toRowMasks(int[][] shape, long[] reuse) {
+        long[] masks = reuse != null && reuse.length == shape.length ? reuse : new long[shape.length];
+        for (int j = 0; j < shape.length; j++) {
+            long m = 0L;
+            for (int i = 0; i < shape[j].length; i++) {
+                if (shape[j][i] != 0) {
+                    m |= 1L << i;
+                }
+            }
+            masks[j] = m;
+        }
+        return masks;
+    }
+
+    // rebuilds the row masks after the colour matrix has been handed out
+    private void ensureMasks() {
+        if (!masksStale) {
+            return;
+        }
+        for (int r = 0; r < rows; r++) {
+            long m = 0L;
+            int[] row = colourMatrix[r];
+            for (int c = 0; c < cols; c++) {
+                if (row[c] != 0) {
+                    m |= 1L << c;
+                }
+            }
+            rowBits[r] = m;
+        }
+        masksStale = false;
+    }
+}
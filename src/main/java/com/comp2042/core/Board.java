@@ -1,7 +1,7 @@
 package com.comp2042.core;
 
+import com.comp2042.engine.ScoreTracker;
 import com.comp2042.logic.workflow.ClearRow;
-import com.comp2042.logic.workflow.Score;
 import com.comp2042.logic.workflow.ViewData;
 
 /**
@@ -42,6 +42,30 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Rotates the active brick, trying the kicks of the board's rotation
+     * system in order until one fits.
+     *
+     * @param direction {@link BrickRotator#COUNTER_CLOCKWISE}, {@link BrickRotator#CLOCKWISE}
+     *                  or {@link BrickRotator#HALF_TURN}
+     * @return true if the brick rotated successfully; false otherwise
+     */
+    boolean rotateBrick(int direction);
+
+    /**
+     * Returns the rotation system the board rotates with.
+     *
+     * @return the rotation system
+     */
+    RotationSystem getRotationSystem();
+
+    /**
+     * Selects the rotation system the board rotates with.
+     *
+     * @param rotationSystem the rotation system
+     */
+    void setRotationSystem(RotationSystem rotationSystem);
+
     /**
      * Holds the active brick or swaps with the held brick according to rules.
      *
@@ -56,10 +80,48 @@ public interface Board {
      */
     boolean createNewBrick();
 
+    /**
+     * Returns the live background matrix. Callers may write into it; the
+     * board re-derives any internal indexes before it next relies on them.
+     *
+     * @return the background matrix
+     */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns the live background matrix for reading only, for example to
+     * render it. Unlike {@link #getBoardMatrix()} this keeps the board's
+     * internal indexes valid, so callers must not modify it.
+     *
+     * @return the background matrix
+     */
+    int[][] getBoardMatrixView();
+
+    /**
+     * Computes the row the active brick would come to rest on if dropped
+     * straight down, without moving it.
+     *
+     * @return the landing y-offset of the active brick
+     */
+    int getLandingY();
+
+    /**
+     * Moves the active brick straight down to its landing row.
+     *
+     * @return number of rows the brick dropped
+     */
+    int hardDropBrick();
+
     ViewData getViewData();
 
+    /**
+     * Returns the cells of the background changed since the set was last
+     * cleared. The set is live; whoever repaints from it clears it afterwards.
+     *
+     * @return the changed background cells
+     */
+    DirtyCells getDirtyCells();
+
     /**
      * Merges the active brick into the board background, locking its cells.
      */
@@ -72,13 +134,49 @@ public interface Board {
      */
     ClearRow clearRows();
 
-    Score getScore();
+    /**
+     * Returns the plain scoring state of this board.
+     *
+     * @return the score tracker
+     */
+    ScoreTracker getScore();
 
     /**
      * Resets the board state and starts a new game.
      */
     void newGame();
 
+    /**
+     * Resets the board state and starts a new game whose brick sequence is
+     * determined by the seed.
+     *
+     * @param seed seed of the brick sequence
+     */
+    void newGame(long seed);
+
+    /**
+     * Returns the seed of the current game's brick sequence.
+     *
+     * @return the brick sequence seed
+     */
+    long getSeed();
+
+    /**
+     * Captures the state needed to continue this game exactly.
+     *
+     * @return a snapshot of the board, active brick, hold, generator, and score
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Returns the board to a captured state. The whole board is marked dirty.
+     * The high score is not part of the snapshot and is left as it is.
+     *
+     * @param snapshot a snapshot of a board of the same size
+     * @throws IllegalArgumentException if the snapshot is for another board size
+     */
+    void restore(BoardSnapshot snapshot);
+
     /**
      * Clears the held brick slot.
      */
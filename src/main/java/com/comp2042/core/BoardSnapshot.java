@@ -0,0 +1,197 @@
+package com.comp2042.core;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Immutable copy of everything that determines how a game continues: the
+ * background matrix, the active brick and its rotation and offset, the hold
+ * slot, the brick generator's state, and the score. Restoring a snapshot and
+ * applying the same events gives the same game as playing from the start.
+ * The binary form packs two cells per byte.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class BoardSnapshot {
+
+    // marks an empty hold slot
+    static final int NO_PIECE = -1;
+
+    private final int[][] matrix;
+    private final int piece;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int heldPiece;
+    private final boolean holdUsed;
+    private final long seed;
+    private final long randomState;
+    private final int[] queue;
+    private final int score;
+    private final int linesCleared;
+    private final int level;
+
+    BoardSnapshot(int[][] matrix, int piece, int rotation, int x, int y, int heldPiece, boolean holdUsed,
+                  long seed, long randomState, int[] queue, int score, int linesCleared, int level) {
+        this.matrix = MatrixOperations.copy(matrix);
+        this.piece = piece;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.heldPiece = heldPiece;
+        this.holdUsed = holdUsed;
+        this.seed = seed;
+        this.randomState = randomState;
+        this.queue = queue.clone();
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.level = level;
+    }
+
+    // arrays are read by the boards when restoring, which copy what they keep
+    int[][] matrix() { return matrix; }
+    long seed() { return seed; }
+    long randomState() { return randomState; }
+    int[] queue() { return queue; }
+
+    public int getPiece() { return piece; }
+    public int getRotation() { return rotation; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public boolean isHoldUsed() { return holdUsed; }
+
+    /**
+     * Returns the piece in the hold slot.
+     *
+     * @return the held piece id, or -1 if the slot is empty
+     */
+    public int getHeldPiece() { return heldPiece; }
+
+    /**
+     * Returns a copy of the background matrix.
+     *
+     * @return the matrix, indexed [row][column]
+     */
+    public int[][] getMatrix() { return MatrixOperations.copy(matrix); }
+
+    /**
+     * Returns a copy of the upcoming piece ids, next first.
+     *
+     * @return the queued piece ids
+     */
+    public int[] getQueue() { return queue.clone(); }
+
+    public int getScore() { return score; }
+    public int getLinesCleared() { return linesCleared; }
+    public int getLevel() { return level; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardSnapshot other)) return false;
+        return piece == other.piece && rotation == other.rotation && x == other.x && y == other.y
+                && heldPiece == other.heldPiece && holdUsed == other.holdUsed
+                && seed == other.seed && randomState == other.randomState
+                && score == other.score && linesCleared == other.linesCleared && level == other.level
+                && Arrays.equals(queue, other.queue) && Arrays.deepEquals(matrix, other.matrix);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.deepHashCode(matrix) + Long.hashCode(randomState) + score;
+    }
+
+    /**
+     * Writes the snapshot in its binary form.
+     *
+     * @param out where to write
+     * @throws IOException if writing fails
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        int rows = matrix.length;
+        int cols = rows == 0 ? 0 : matrix[0].length;
+        out.writeShort(rows);
+        out.writeShort(cols);
+        int cells = rows * cols;
+        for (int i = 0; i < cells; i += 2) {
+            int high = cell(i / cols, i % cols);
+            int low = i + 1 < cells ? cell((i + 1) / cols, (i + 1) % cols) : 0;
+            out.writeByte(high << 4 | low);
+        }
+        out.writeByte(piece);
+        out.writeByte(rotation);
+        out.writeShort(x);
+        out.writeShort(y);
+        out.writeByte(heldPiece);
+        out.writeBoolean(holdUsed);
+        out.writeLong(seed);
+        out.writeLong(randomState);
+        out.writeByte(queue.length);
+        for (int id : queue) {
+            out.writeByte(id);
+        }
+        out.writeInt(score);
+        out.writeInt(linesCleared);
+        out.writeInt(level);
+    }
+
+    private int cell(int row, int col) {
+        int value = matrix[row][col];
+        if (value < 0 || value > 0xF) {
+            throw new IllegalStateException("Cell value " + value + " does not fit a snapshot");
+        }
+        return value;
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeTo(DataOutput)}. The board
+     * size is checked against the expected one before anything is allocated,
+     * so a corrupt or crafted stream cannot ask for a huge matrix.
+     *
+     * @param in where to read from
+     * @param expectedRows rows of the board the snapshot belongs to
+     * @param expectedCols columns of the board the snapshot belongs to
+     * @return the snapshot
+     * @throws IOException if the data is truncated, invalid, or of another board size
+     */
+    public static BoardSnapshot readFrom(DataInput in, int expectedRows, int expectedCols) throws IOException {
+        int rows = in.readUnsignedShort();
+        int cols = in.readUnsignedShort();
+        if (rows != expectedRows || cols != expectedCols) {
+            throw new IOException("Snapshot of a " + rows + "x" + cols + " board, expected " + expectedRows + "x" + expectedCols);
+        }
+        int[][] matrix = new int[rows][cols];
+        int cells = rows * cols;
+        for (int i = 0; i < cells; i += 2) {
+            int packed = in.readUnsignedByte();
+            matrix[i / cols][i % cols] = packed >>> 4;
+            if (i + 1 < cells) {
+                matrix[(i + 1) / cols][(i + 1) % cols] = packed & 0xF;
+            }
+        }
+        int piece = in.readUnsignedByte();
+        int rotation = in.readUnsignedByte();
+        int x = in.readShort();
+        int y = in.readShort();
+        int heldPiece = in.readByte();
+        boolean holdUsed = in.readBoolean();
+        long seed = in.readLong();
+        long randomState = in.readLong();
+        int queueLength = in.readUnsignedByte();
+        if (queueLength > Constants.BRICK_QUEUE_CAPACITY) {
+            throw new IOException("Snapshot queue of " + queueLength + " pieces");
+        }
+        int[] queue = new int[queueLength];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = in.readUnsignedByte();
+        }
+        int score = in.readInt();
+        int linesCleared = in.readInt();
+        int level = in.readInt();
+        return new BoardSnapshot(matrix, piece, rotation, x, y, heldPiece, holdUsed,
+                seed, randomState, queue, score, linesCleared, level);
+    }
+}
@@ -1,19 +1,26 @@
 package com.comp2042.core;
 
+import com.comp2042.events.EventType;
 import com.comp2042.logic.workflow.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
 
 /**
  * Controls rotation state for a brick, tracking the current orientation
- * and providing the next rotation preview.
+ * and providing the next rotation preview. Rotations are looked up in the
+ * tables of a {@link RotationSystem} by piece, rotation, and direction.
  *
  * @author Eashwar
  * @version 1.0
  */
 public class BrickRotator {
 
+    public static final int COUNTER_CLOCKWISE = 0;
+    public static final int CLOCKWISE = 1;
+    public static final int HALF_TURN = 2;
+
     private Brick brick;
     private int currentShape = 0;
+    private RotationSystem rotationSystem = RotationSystem.SRS;
 
     /**
      * Computes the next rotation state for the current brick.
@@ -21,13 +28,72 @@ public class BrickRotator {
      * @return information containing the next shape matrix and its index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(brick.getShape(nextShape), nextShape);
+    }
+
+    /**
+     * Returns the index of the next rotation state without allocating.
+     *
+     * @return index of the next rotation state
+     */
+    public int getNextPosition() {
+        return (currentShape + 1) % brick.getRotationCount();
+    }
+
+    /**
+     * Returns the shape matrix for a rotation state of the current brick.
+     * The matrix is shared with the brick's shape table and must not be
+     * modified by callers.
+     *
+     * @param position index of the rotation state
+     * @return the shape matrix for that rotation
+     */
+    public int[][] getShape(int position) {
+        return brick.getShape(position);
     }
 
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return brick.getShape(currentShape);
+    }
+
+    public int getCurrentPosition() {
+        return currentShape;
+    }
+
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        this.rotationSystem = rotationSystem;
+    }
+
+    /**
+     * Returns the table entry for turning the current brick, to read its
+     * target and kicks from {@link #getRotationSystem()}. Boards try the
+     * kicks in order and keep the first that fits, so anything predicting
+     * a rotation must use the same order.
+     *
+     * @param direction {@link #COUNTER_CLOCKWISE}, {@link #CLOCKWISE} or {@link #HALF_TURN}
+     * @return the transition index
+     */
+    public int getTransition(int direction) {
+        return RotationSystem.transition(brick.getPieceId(), currentShape, direction);
+    }
+
+    /**
+     * Maps a rotation event to the direction it turns the brick.
+     *
+     * @param type the event type
+     * @return the rotation direction
+     */
+    public static int directionOf(EventType type) {
+        return switch (type) {
+            case ROTATE_CW -> CLOCKWISE;
+            case ROTATE_180 -> HALF_TURN;
+            default -> COUNTER_CLOCKWISE;
+        };
     }
 
     public void setCurrentShape(int currentShape) {
@@ -23,6 +23,13 @@ public final class Constants {
     public static final double BASE_TIME = 0.9;
     public static final double TIME_DECREMENT = 0.007;
     public static final double MIN_FALL_INTERVAL_MS = 50.0;
+    // fixed logic step of the game loop (125 Hz) and the longest frame it will catch up on
+    public static final long LOGIC_STEP_NANOS = 1_000_000_000L / 125;
+    public static final long MAX_FRAME_NANOS = 250_000_000L;
+    public static final int GRAVITY_TABLE_LEVELS = 30;
+    // -Dtetris.renderer=canvas draws the board onto a canvas instead of per-cell nodes
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+    public static final String RENDERER_CANVAS = "canvas";
 
     //GameController.java
     public static final int BOARD_ROWS = 20;
@@ -32,7 +39,57 @@ public final class Constants {
     public static final int BRICK_SPAWN_X = 3;
     public static final int BRICK_SPAWN_Y = -3;
     public static final int PREVIEW_COUNT = 3;
+    // upcoming pieces kept by the brick generator: one partly used bag plus a fresh one, rounded up to a power of two
+    public static final int BRICK_QUEUE_CAPACITY = 16;
     public static final String HIGHSCORE_FILE = "highscore.txt";
+    public static final long HIGHSCORE_FLUSH_MS = 2000;
+
+    //ReplayArchive.java
+    public static final String REPLAY_DIR = "replays";
+    public static final String REPLAY_EXTENSION = ".trp";
+    public static final int REPLAY_SNAPSHOT_PIECES = 10;
+    // timed games may run this much past TIMED_MODE_MS before a replay is rejected
+    public static final int REPLAY_TIME_SLACK_MS = 1000;
+    // the largest board a replay file may describe
+    public static final int REPLAY_MAX_ROWS = 256;
+    public static final int REPLAY_MAX_COLS = 256;
+    // how long close() waits for queued replays to finish writing
+    public static final long REPLAY_CLOSE_TIMEOUT_MS = 2000;
+
+    //BeamSearch.java
+    public static final int AI_BEAM_WIDTH = 16;
+    public static final long AI_TIME_BUDGET_MS = 50;
+
+    //Tournament.java
+    public static final int TOURNAMENT_MAX_PIECES = 10_000;
+
+    //WeightTuner.java
+    public static final int TUNER_POPULATION = 64;
+    public static final int TUNER_GAMES = 8;
+    public static final int TUNER_MAX_PIECES = 500;
+    // fraction of each generation carried over unchanged, and the spread of mutations
+    public static final double TUNER_ELITE_FRACTION = 0.1;
+    public static final double TUNER_MUTATION_SIGMA = 0.2;
+    public static final double TUNER_MUTATION_RATE = 0.3;
+
+    //HintService.java
+    public static final long HINT_TIME_BUDGET_MS = 20;
+    public static final double HINT_FILL_OPACITY = 0.3;
+    public static final double HINT_STROKE_OPACITY = 0.9;
+
+    //GameModeHandler.java
+    public static final long TIMED_MODE_MS = 120_000;
+
+    //FrameMetrics.java
+    public static final String METRICS_DIR = "metrics";
+    public static final double[] METRICS_PERCENTILES = {50, 90, 99, 99.9, 100};
+    public static final long METRICS_OVERLAY_REFRESH_NANOS = 250_000_000L;
+    // a pulse later than this after the last one missed a 60 Hz frame
+    public static final long SLOW_FRAME_NANOS = 20_000_000L;
+
+    //GameMetrics.java
+    // set to false to keep the metrics bean off the platform MBean server
+    public static final String JMX_PROPERTY = "tetris.jmx";
 
     //in Main.java
     public static final int WINDOW_WIDTH = 670;
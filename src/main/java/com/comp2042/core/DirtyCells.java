@@ -0,0 +1,150 @@
+package com.comp2042.core;
+
+import java.util.BitSet;
+
+/**
+ * Set of board cells changed since it was last cleared, kept as one bit per
+ * cell in row-major order. Boards mark cells as bricks merge and rows clear,
+ * so renderers can repaint only what changed. Resets and other changes the
+ * board cannot track cell by cell mark the whole board instead.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class DirtyCells {
+
+    private final int rows;
+    private final int cols;
+    private final BitSet cells;
+    private boolean all;
+
+    /**
+     * Creates an empty set for a board of the given size.
+     *
+     * @param rows number of rows in the board
+     * @param cols number of columns in the board
+     */
+    public DirtyCells(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        cells = new BitSet(rows * cols);
+    }
+
+    /**
+     * Marks a single cell; cells outside the board are ignored.
+     *
+     * @param row row index
+     * @param col column index
+     */
+    public void mark(int row, int col) {
+        if (row >= 0 && row < rows && col >= 0 && col < cols) {
+            cells.set(row * cols + col);
+        }
+    }
+
+    /**
+     * Marks every occupied cell of a brick placed at the given offset.
+     *
+     * @param brick the brick matrix
+     * @param x placement x-offset
+     * @param y placement y-offset
+     */
+    public void markBrick(int[][] brick, int x, int y) {
+        for (int j = 0; j < brick.length; j++) {
+            for (int i = 0; i < brick[j].length; i++) {
+                if (brick[j][i] != 0) {
+                    mark(y + j, x + i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks every cell of an inclusive range of rows.
+     *
+     * @param fromRow first row to mark
+     * @param toRow last row to mark
+     */
+    public void markRows(int fromRow, int toRow) {
+        int from = Math.max(fromRow, 0);
+        int to = Math.min(toRow, rows - 1);
+        if (from <= to) {
+            cells.set(from * cols, (to + 1) * cols);
+        }
+    }
+
+    /**
+     * Marks the whole board, for example after a reset.
+     */
+    public void markAll() {
+        all = true;
+    }
+
+    /**
+     * Adds every cell marked in another set of the same size.
+     *
+     * @param other the set to merge in
+     */
+    public void addAll(DirtyCells other) {
+        all |= other.all;
+        cells.or(other.cells);
+    }
+
+    public boolean isAllDirty() {
+        return all;
+    }
+
+    public boolean isEmpty() {
+        return !all && cells.isEmpty();
+    }
+
+    /**
+     * Checks whether a cell is marked.
+     *
+     * @param row row index
+     * @param col column index
+     * @return true if the cell changed
+     */
+    public boolean isDirty(int row, int col) {
+        return all || cells.get(row * cols + col);
+    }
+
+    /**
+     * Finds the next marked cell in row-major order. Use {@link #rowOf(int)}
+     * and {@link #colOf(int)} to turn the result into coordinates.
+     *
+     * @param fromCell cell index to start searching from
+     * @return the index of the next marked cell, or -1 if there is none
+     */
+    public int nextCell(int fromCell) {
+        if (all) {
+            return fromCell < rows * cols ? fromCell : -1;
+        }
+        return cells.nextSetBit(fromCell);
+    }
+
+    public int rowOf(int cell) {
+        return cell / cols;
+    }
+
+    public int colOf(int cell) {
+        return cell % cols;
+    }
+
+    /**
+     * Returns the number of marked cells.
+     *
+     * @return count of changed cells
+     */
+    public int count() {
+        return all ? rows * cols : cells.cardinality();
+    }
+
+    /**
+     * Unmarks every cell.
+     */
+    public void clear() {
+        all = false;
+        cells.clear();
+    }
+}
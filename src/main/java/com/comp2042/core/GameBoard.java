@@ -1,14 +1,15 @@
 package com.comp2042.core;
 
+import com.comp2042.engine.ScoreTracker;
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.logic.workflow.ClearRow;
-import com.comp2042.logic.workflow.NextShapeInfo;
-import com.comp2042.logic.workflow.Score;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.LineClearEvent;
+import com.comp2042.metrics.PieceLockEvent;
+import com.comp2042.metrics.PieceSpawnEvent;
 
-import java.util.List;
-import java.awt.Point;
 
 /**
  * Implements the Tetris board logic including movement, rotation, holding,
@@ -24,11 +25,19 @@ public class GameBoard implements Board {
     private final int height;
     private final com.comp2042.logic.bricks.RandomBrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
+
     private int[][] currentGameMatrix;
-    private Point currentOffset;
-    private final Score score;
+    private int offsetX;
+    private int offsetY;
+    private final ScoreTracker score;
+    private final SkylineIndex skyline;
+    private final DirtyCells dirtyCells;
     private com.comp2042.logic.bricks.Brick heldBrick;
     private boolean holdUsed;
+    // preview and hold matrices of the last view, rebuilt only after a spawn or hold changes them
+    private int[][][] previewData;
+    private int[][] holdData;
+    private long previewVersion;
 
     /**
      * Constructs a game board with specified dimensions and initializes state.
@@ -42,7 +51,9 @@ public class GameBoard implements Board {
         currentGameMatrix = new int[width][height];
         brickGenerator = new RandomBrickGenerator();
         brickRotator = new BrickRotator();
-        score = new Score();
+        score = new ScoreTracker();
+        skyline = new SkylineIndex(width, height);
+        dirtyCells = new DirtyCells(width, height);
     }
 
     @Override
@@ -52,16 +63,7 @@ public class GameBoard implements Board {
      * @return true if movement succeeds, false if blocked
      */
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.collidesWithBackground(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(offsetX, offsetY + 1);
     }
 
 
@@ -72,16 +74,7 @@ public class GameBoard implements Board {
      * @return true if movement succeeds, false otherwise
      */
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.collidesWithBackground(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(offsetX - 1, offsetY);
     }
 
     @Override
@@ -91,46 +84,66 @@ public class GameBoard implements Board {
      * @return true if movement succeeds, false otherwise
      */
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.collidesWithBackground(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(offsetX + 1, offsetY);
     }
 
     @Override
     /**
      * Attempts to rotate the active brick counterclockwise.
-     * Applies horizontal offsets if the immediate rotation collides.
      *
      * @return true if rotation succeeds, false otherwise
      */
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        int x = (int) currentOffset.getX();
-        int y = (int) currentOffset.getY();
-        if (!MatrixOperations.collidesWithBackground(currentMatrix, nextShape.getShape(), x, y)) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-        int[] kicks = new int[]{-1, 1, -2, 2};
-        for (int dx : kicks) {
-            int nx = x + dx;
-            if (!MatrixOperations.collidesWithBackground(currentMatrix, nextShape.getShape(), nx, y)) {
-                brickRotator.setCurrentShape(nextShape.getPosition());
-                currentOffset = new Point(nx, y);
+        return rotateBrick(BrickRotator.COUNTER_CLOCKWISE);
+    }
+
+    @Override
+    /**
+     * Attempts to rotate the active brick, trying the kicks of the
+     * rotation system in order when the rotation collides in place.
+     *
+     * @param direction the rotation direction
+     * @return true if rotation succeeds, false otherwise
+     */
+    public boolean rotateBrick(int direction) {
+        RotationSystem system = brickRotator.getRotationSystem();
+        int transition = brickRotator.getTransition(direction);
+        int target = system.target(transition);
+        int[][] nextShape = brickRotator.getShape(target);
+        for (int k = 0; k < system.kickCount(transition); k++) {
+            int nx = offsetX + system.kickX(transition, k);
+            int ny = offsetY + system.kickY(transition, k);
+            if (!MatrixOperations.collidesWithBackground(currentGameMatrix, nextShape, nx, ny)) {
+                brickRotator.setCurrentShape(target);
+                offsetX = nx;
+                offsetY = ny;
                 return true;
             }
         }
         return false;
     }
 
+    @Override
+    public RotationSystem getRotationSystem() {
+        return brickRotator.getRotationSystem();
+    }
+
+    @Override
+    public void setRotationSystem(RotationSystem rotationSystem) {
+        brickRotator.setRotationSystem(rotationSystem);
+    }
+
+    // moves and rotations only read the live matrix and update the offset in place,
+    // so a move allocates nothing
+    private boolean tryMove(int x, int y) {
+        if (MatrixOperations.collidesWithBackground(currentGameMatrix, brickRotator.getCurrentShape(), x, y)) {
+            return false;
+        }
+        offsetX = x;
+        offsetY = y;
+        return true;
+    }
+
     @Override
     /**
      * Holds the current brick or swaps it with the held one.
@@ -145,9 +158,12 @@ public class GameBoard implements Board {
         {
             return false;
         }
+        // an empty slot draws from the queue, which stays drawn even if the hold is undone
+        previewData = null;
         com.comp2042.logic.bricks.Brick previousCurrent = brickRotator.getBrick();
         com.comp2042.logic.bricks.Brick previousHeld = heldBrick;
-        Point previousOffset = new Point(currentOffset);
+        int previousX = offsetX;
+        int previousY = offsetY;
 
         // no brick in hold panel, so add the brick and spawn new one
         if (heldBrick == null)
@@ -164,15 +180,17 @@ public class GameBoard implements Board {
             heldBrick = previousCurrent;
         }
 
-        currentOffset = new Point(Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y);
-        boolean conflict = MatrixOperations.collidesWithBackground(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        offsetX = Constants.BRICK_SPAWN_X;
+        offsetY = Constants.BRICK_SPAWN_Y;
+        boolean conflict = MatrixOperations.collidesWithBackground(currentGameMatrix, brickRotator.getCurrentShape(), offsetX, offsetY);
 
         // collision error handling
         if (conflict)
         {
             brickRotator.setBrick(previousCurrent);
             heldBrick = previousHeld;
-            currentOffset = previousOffset;
+            offsetX = previousX;
+            offsetY = previousY;
             return false;
         }
         holdUsed = true;
@@ -188,33 +206,73 @@ public class GameBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y);
+        previewData = null;
+        offsetX = Constants.BRICK_SPAWN_X;
+        offsetY = Constants.BRICK_SPAWN_Y;
         holdUsed = false;
-        return MatrixOperations.collidesWithBackground(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        boolean blocked = MatrixOperations.collidesWithBackground(currentGameMatrix, brickRotator.getCurrentShape(), offsetX, offsetY);
+        PieceSpawnEvent.emit(currentBrick.getPieceId(), blocked);
+        return blocked;
     }
 
     @Override
     public int[][] getBoardMatrix() {
+        // the caller may write into the matrix, so rebuild the index before next use
+        // and repaint everything
+        skyline.invalidate();
+        dirtyCells.markAll();
         return currentGameMatrix;
     }
 
+    @Override
+    public int[][] getBoardMatrixView() {
+        return currentGameMatrix;
+    }
+
+    @Override
+    /**
+     * Computes the landing row of the active brick from the column skyline.
+     *
+     * @return the landing y-offset
+     */
+    public int getLandingY() {
+        return skyline.landingY(currentGameMatrix, brickRotator.getCurrentShape(), offsetX, offsetY);
+    }
+
+    @Override
+    /**
+     * Moves the active brick directly to its landing row.
+     *
+     * @return number of rows dropped
+     */
+    public int hardDropBrick() {
+        int landingY = getLandingY();
+        int dropped = landingY - offsetY;
+        offsetY = landingY;
+        return dropped;
+    }
+
     @Override
 
     //obtains the view data for next 3 bricks instead of 1
+    // the shapes are shared, not copied, and the preview is only rebuilt after it changed
     public ViewData getViewData() {
-        List<com.comp2042.logic.bricks.Brick> preview = brickGenerator.getNextBricks(Constants.PREVIEW_COUNT);
-        int[][][] nextBrickData = new int[preview.size()][][];
-        for (int i = 0; i < preview.size(); i++)
+        if (previewData == null)
         {
-            nextBrickData[i] = preview.get(i).getShapeMatrix().get(0);
-        }
-        int[][] holdData;
-        if (heldBrick != null) {
-            holdData = heldBrick.getShapeMatrix().get(0);
-        } else {
-            holdData = new int[4][4];
+            previewData = new int[Constants.PREVIEW_COUNT][][];
+            for (int i = 0; i < previewData.length; i++)
+            {
+                previewData[i] = brickGenerator.peek(i).getShape(0);
+            }
+            holdData = heldBrick != null ? heldBrick.getShape(0) : ShapeTable.empty();
+            previewVersion++;
         }
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), nextBrickData, holdData);
+        return new ViewData(brickRotator.getCurrentShape(), offsetX, offsetY, previewData, holdData, getLandingY(), previewVersion);
+    }
+
+    @Override
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
     }
 
     @Override
@@ -222,24 +280,50 @@ public class GameBoard implements Board {
      * Locks the active brick into the background matrix at its current offset.
      */
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.mergeBrickOntoMatrix(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        PieceLockEvent.emit(brickRotator.getBrick().getPieceId(), brickRotator.getCurrentPosition(), offsetX, offsetY);
+        skyline.recordMerge(currentGameMatrix, brickRotator.getCurrentShape(), offsetX, offsetY);
+        dirtyCells.markBrick(brickRotator.getCurrentShape(), offsetX, offsetY);
+        currentGameMatrix = MatrixOperations.mergeBrickOntoMatrix(currentGameMatrix, brickRotator.getCurrentShape(), offsetX, offsetY);
     }
 
     @Override
     /**
-     * Clears full rows from the background and updates the board matrix.
+     * Clears full rows from the background, compacting the board matrix in
+     * place. Full rows are found through the skyline index's fill counters,
+     * so a lock that clears nothing touches no cells.
      *
-     * @return summary data of cleared rows and the updated matrix
+     * @return summary data of cleared rows and the board matrix
      */
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.clearFullRows(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
+        int[] rowFill = skyline.rowFill(currentGameMatrix);
+        ClearRow clearRow = MatrixOperations.clearFullRows(currentGameMatrix, rowFill);
+        if (clearRow.getLinesRemoved() > 0) {
+            // the counters still describe the rows before the clear
+            markShiftedRows(rowFill);
+            skyline.recordClear(currentGameMatrix);
+            LineClearEvent.emit(clearRow.getLinesRemoved());
+        }
         return clearRow;
 
     }
 
+    // every row from the top of the stack down to the lowest cleared row changes;
+    // rows above the stack stay empty and rows below the lowest clear stay put
+    private void markShiftedRows(int[] rowFill) {
+        int cols = currentGameMatrix[0].length;
+        int top = 0;
+        while (top < rowFill.length && rowFill[top] == 0) {
+            top++;
+        }
+        int lowest = rowFill.length - 1;
+        while (lowest > top && rowFill[lowest] != cols) {
+            lowest--;
+        }
+        dirtyCells.markRows(top, lowest);
+    }
+
     @Override
-    public Score getScore() {
+    public ScoreTracker getScore() {
         return score;
     }
 
@@ -249,9 +333,59 @@ public class GameBoard implements Board {
      * Resets board, score, generators, and spawns the first brick.
      */
     public void newGame() {
+        brickGenerator.reset();
+        restart();
+    }
+
+    @Override
+    public void newGame(long seed) {
+        brickGenerator.reset(seed);
+        restart();
+    }
+
+    @Override
+    public long getSeed() {
+        return brickGenerator.getSeed();
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        int[] queue = new int[brickGenerator.queued()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = brickGenerator.peekPieceId(i);
+        }
+        return new BoardSnapshot(currentGameMatrix, brickRotator.getBrick().getPieceId(), brickRotator.getCurrentPosition(),
+                offsetX, offsetY, heldBrick == null ? BoardSnapshot.NO_PIECE : heldBrick.getPieceId(), holdUsed,
+                brickGenerator.getSeed(), brickGenerator.getRandomState(), queue,
+                score.getScore(), score.getLinesCleared(), score.getLevel());
+    }
+
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        int[][] matrix = snapshot.matrix();
+        if (matrix.length != currentGameMatrix.length || matrix[0].length != currentGameMatrix[0].length) {
+            throw new IllegalArgumentException("Snapshot is for a " + matrix.length + "x" + matrix[0].length + " board");
+        }
+        currentGameMatrix = MatrixOperations.copy(matrix);
+        skyline.invalidate();
+        brickGenerator.restore(snapshot.seed(), snapshot.randomState(), snapshot.queue());
+        brickRotator.setBrick(brickGenerator.brick(snapshot.getPiece()));
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        offsetX = snapshot.getX();
+        offsetY = snapshot.getY();
+        heldBrick = snapshot.getHeldPiece() == BoardSnapshot.NO_PIECE ? null : brickGenerator.brick(snapshot.getHeldPiece());
+        holdUsed = snapshot.isHoldUsed();
+        previewData = null;
+        dirtyCells.markAll();
+        score.restore(snapshot.getScore(), snapshot.getLinesCleared(), snapshot.getLevel());
+    }
+
+    // clears everything but the brick sequence, which the caller has just reset
+    private void restart() {
         currentGameMatrix = new int[width][height];
+        skyline.reset();
+        dirtyCells.markAll();
         score.reset();
-        brickGenerator.reset();
         heldBrick = null;
         holdUsed = false;
         createNewBrick();
@@ -263,5 +397,6 @@ public class GameBoard implements Board {
     public void clearHold() {
         heldBrick = null;
         holdUsed = false;
+        previewData = null;
     }
 }
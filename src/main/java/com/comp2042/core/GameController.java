@@ -1,42 +1,83 @@
 package com.comp2042.core;
 
+import com.comp2042.engine.HeadlessGame;
 import com.comp2042.events.EventSource;
 import com.comp2042.events.MoveEvent;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.logic.workflow.ClearRow;
 import com.comp2042.logic.workflow.DownData;
+import com.comp2042.logic.workflow.Score;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.FrameMetrics;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.HardDropEvent;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayRecorder;
 import com.comp2042.core.GameModeHandler.GameMode;
 
 /**
  * Coordinates user input, game board state updates, scoring, and UI events.
  * Acts as the mediator between input events, core logic, and the GUI layer.
+ * The game rules are applied by a {@link HeadlessGame}; this class adds the
+ * UI notifications and the bindable {@link Score}. The time each handler
+ * spends on game logic is added to the frame's {@link FrameMetrics}, and
+ * games, locks and cleared lines are counted in the {@link GameMetrics}.
  *
  * @author Eashwar
  * @version 1.0
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+    private final Board board;
+
+    private final HeadlessGame game;
+
+    private final Score score;
 
     private final GameEventListener viewGuiController;
 
+    private final ReplayRecorder replayRecorder = new ReplayRecorder();
+
+    private final FrameMetrics metrics = FrameMetrics.getDefault();
+
+    private final GameMetrics gameMetrics = GameMetrics.getDefault();
+
+    private ReplayArchive replayArchive;
+
+    private GameMode mode = GameMode.NORMAL;
+
     /**
-     * Creates a controller and initializes the game and UI bindings.
+     * Creates a controller backed by the standard {@link GameBoard} and
+     * initializes the game and UI bindings.
      *
      * @param c the UI event listener to receive game updates
      */
     public GameController(GameEventListener c) {
+        this(c, new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+    }
+
+    /**
+     * Creates a controller backed by the given board implementation, for
+     * example a {@link BitboardGameBoard}, and initializes the game and UI bindings.
+     *
+     * @param c the UI event listener to receive game updates
+     * @param board the board implementation to play on
+     */
+    public GameController(GameEventListener c, Board board) {
+        this.board = board;
+        this.game = new HeadlessGame(board);
+        this.score = new Score(board.getScore());
         viewGuiController = c;
         board.createNewBrick();
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindHighScore(board.getScore().highScoreProperty());
-        viewGuiController.bindLinesCleared(board.getScore().linesClearedProperty());
-        viewGuiController.bindLevelValue(board.getScore().levelProperty());
-        viewGuiController.bindLevel(board.getScore().levelProperty());
-        board.getScore().setMode(GameMode.NORMAL);
+        viewGuiController.setSnapshotSource(board::snapshot);
+        viewGuiController.initGameView(board.getBoardMatrixView(), board.getViewData());
+        viewGuiController.bindScore(score.scoreProperty());
+        viewGuiController.bindHighScore(score.highScoreProperty());
+        viewGuiController.bindLinesCleared(score.linesClearedProperty());
+        viewGuiController.bindLevelValue(score.levelProperty());
+        viewGuiController.bindLevel(score.levelProperty());
+        score.setMode(GameMode.NORMAL);
     }
 
     @Override
@@ -48,29 +89,25 @@ public class GameController implements InputEventListener {
      * @return drop outcome and refreshed view information
      */
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-                board.getScore().addLines(clearRow.getLinesRemoved());
-            }
-            if (board.createNewBrick()) {
-                boolean newHigh = board.getScore().scoreProperty().get() > 0 &&
-                        board.getScore().scoreProperty().get() == board.getScore().highScoreProperty().get();
-                viewGuiController.gameOver(newHigh);
+        long start = metrics.beginLogic();
+        replayRecorder.record(event);
+        ClearRow clearRow = game.moveDown(event.getEventSource() == EventSource.USER);
+        // a non-null result means the brick locked
+        if (clearRow != null) {
+            gameMetrics.pieceLocked(clearRow.getLinesRemoved());
+            if (game.isGameOver()) {
+                finishReplay();
+                score.flushHighScores();
+                viewGuiController.gameOver(board.getScore().isNewHighScore());
+            } else {
+                replayRecorder.pieceLocked(board);
             }
 
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-            }
+            refreshBackground();
         }
-        return new DownData(clearRow, board.getViewData());
+        DownData result = new DownData(clearRow, board.getViewData());
+        metrics.endLogic(start);
+        return result;
     }
 
     @Override
@@ -81,8 +118,12 @@ public class GameController implements InputEventListener {
      * @return current view data after the move
      */
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        long start = metrics.beginLogic();
+        replayRecorder.record(event);
+        game.moveLeft();
+        ViewData view = board.getViewData();
+        metrics.endLogic(start);
+        return view;
     }
 
     @Override
@@ -93,20 +134,28 @@ public class GameController implements InputEventListener {
      * @return current view data after the move
      */
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        long start = metrics.beginLogic();
+        replayRecorder.record(event);
+        game.moveRight();
+        ViewData view = board.getViewData();
+        metrics.endLogic(start);
+        return view;
     }
 
     @Override
     /**
-     * Rotates the active brick counterclockwise and returns updated view data.
+     * Rotates the active brick the way the event asks and returns updated view data.
      *
      * @param event the move event
      * @return current view data after rotation
      */
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        long start = metrics.beginLogic();
+        replayRecorder.record(event);
+        game.rotate(BrickRotator.directionOf(event.getEventType()));
+        ViewData view = board.getViewData();
+        metrics.endLogic(start);
+        return view;
     }
 
     @Override
@@ -117,8 +166,12 @@ public class GameController implements InputEventListener {
      * @return current view data after hold
      */
     public ViewData onHoldEvent(MoveEvent event) {
-        board.holdBrick();
-        return board.getViewData();
+        long start = metrics.beginLogic();
+        replayRecorder.record(event);
+        game.hold();
+        ViewData view = board.getViewData();
+        metrics.endLogic(start);
+        return view;
     }
 
 
@@ -127,8 +180,52 @@ public class GameController implements InputEventListener {
      * Resets the board and refreshes the background for a new game.
      */
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        finishReplay();
+        game.newGame();
+        gameMetrics.gameStarted();
+        startReplay();
+        refreshBackground();
+    }
+
+    @Override
+    /**
+     * Resets the board with the given brick sequence seed and refreshes the background.
+     *
+     * @param seed seed of the brick sequence
+     */
+    public void createNewGame(long seed) {
+        finishReplay();
+        game.newGame(seed);
+        gameMetrics.gameStarted();
+        startReplay();
+        refreshBackground();
+    }
+
+    /**
+     * Archives every game from now on into the given archive.
+     *
+     * @param replayArchive where finished games are saved, or null to stop archiving
+     */
+    public void setReplayArchive(ReplayArchive replayArchive) {
+        this.replayArchive = replayArchive;
+    }
+
+    // starts recording the game just created, if games are being archived
+    private void startReplay() {
+        if (replayArchive != null) {
+            int[][] matrix = board.getBoardMatrixView();
+            replayRecorder.start(board.getSeed(), mode.ordinal(), matrix.length, matrix[0].length, board.getRotationSystem());
+        }
+    }
+
+    /**
+     * Ends the current recording, if any, and hands it to the archive. Called
+     * on game over, on a new game, and when a timed game runs out.
+     */
+    public void finishReplay() {
+        if (replayArchive != null && replayRecorder.isRecording()) {
+            replayArchive.save(replayRecorder.finish(board.getScore().getScore()));
+        }
     }
 
     // method to set game mode
@@ -138,7 +235,8 @@ public class GameController implements InputEventListener {
      * @param mode the game mode to apply
      */
     public void setMode(GameMode mode) {
-        board.getScore().setMode(mode);
+        this.mode = mode;
+        score.setMode(mode);
     }
 
     /**
@@ -155,44 +253,49 @@ public class GameController implements InputEventListener {
      * @return drop outcome data and refreshed view information
      */
     public DownData onHardDropEvent(MoveEvent event) { // created method to handle hard drop event
-        int dropped = 0;
-        while (board.moveBrickDown())
-        {
-            dropped++;
-        }
-
-        // capture brick info before merging for pulse effect
-        ViewData landedBrick = board.getViewData();
-        int[][] brickShape = landedBrick.getBrickData();
-        int xPos = landedBrick.getxPosition();
-        int yPos = landedBrick.getyPosition();
+        long start = metrics.beginLogic();
+        HardDropEvent dropEvent = new HardDropEvent();
+        dropEvent.begin();
+        // capture brick info before dropping for pulse effect
+        // landing row comes from the board's skyline instead of stepping down row by row
+        ViewData current = board.getViewData();
+        int[][] brickShape = current.getBrickData();
+        int xPos = current.getxPosition();
+        int yPos = current.getLandingY();
 
-        board.mergeBrickToBackground();
-        ClearRow clearRow = board.clearRows();
+        replayRecorder.record(event);
+        ClearRow clearRow = game.hardDrop();
+        dropEvent.distance = yPos - current.getyPosition();
+        dropEvent.commit();
+        gameMetrics.pieceLocked(clearRow.getLinesRemoved());
 
-        if (clearRow.getLinesRemoved() > 0)
+        if (game.isGameOver())
         {
-            board.getScore().add(clearRow.getScoreBonus());
-            board.getScore().addLines(clearRow.getLinesRemoved());
+            finishReplay();
+            score.flushHighScores();
+            viewGuiController.gameOver(board.getScore().isNewHighScore());
         }
-
-        if (dropped > 0)
+        else
         {
-            board.getScore().add(dropped * 2);
+            replayRecorder.pieceLocked(board);
         }
 
-        if (board.createNewBrick())
-        {
-            boolean newHigh = board.getScore().scoreProperty().get() > 0 &&
-                    board.getScore().scoreProperty().get() == board.getScore().highScoreProperty().get();
-            viewGuiController.gameOver(newHigh);
-        }
-
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        refreshBackground();
 
         // trigger pulse effect for hard drop
         viewGuiController.pulseLandedBlocks(brickShape, xPos, yPos);
 
-        return new DownData(clearRow, board.getViewData());
+        DownData result = new DownData(clearRow, board.getViewData());
+        metrics.endLogic(start);
+        return result;
+    }
+
+    // hands only the changed cells to the view, then starts a new change set
+    /**
+     * Refreshes the view's background from the cells changed since the last refresh.
+     */
+    private void refreshBackground() {
+        viewGuiController.refreshGameBackground(board.getBoardMatrixView(), board.getDirtyCells());
+        board.getDirtyCells().clear();
     }
 }
@@ -2,6 +2,7 @@ package com.comp2042.core;
 
 import com.comp2042.input.InputEventListener;
 import com.comp2042.logic.workflow.ViewData;
+import java.util.function.Supplier;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 
@@ -29,6 +30,18 @@ public interface GameEventListener {
      */
     void refreshGameBackground(int[][] board);
 
+    /**
+     * Refreshes the rendered background, repainting only the cells that
+     * changed. The dirty set is only valid during the call. By default the
+     * whole background is refreshed.
+     *
+     * @param board the updated background matrix
+     * @param dirty the cells changed since the last refresh
+     */
+    default void refreshGameBackground(int[][] board, DirtyCells dirty) {
+        refreshGameBackground(board);
+    }
+
     /**
      * Registers the input event listener for handling user interactions.
      *
@@ -36,6 +49,15 @@ public interface GameEventListener {
      */
     void setEventListener(InputEventListener eventListener);
 
+    /**
+     * Registers a source of immutable game copies for work done off the FX
+     * thread, such as placement hints. Ignored by default.
+     *
+     * @param source returns a snapshot of the current game
+     */
+    default void setSnapshotSource(Supplier<BoardSnapshot> source) {
+    }
+
     /**
      * Binds the score property to UI elements.
      *
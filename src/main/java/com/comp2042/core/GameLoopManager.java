@@ -3,26 +3,38 @@ package com.comp2042.core;
 import com.comp2042.events.EventSource;
 import com.comp2042.events.EventType;
 import com.comp2042.events.MoveEvent;
+import com.comp2042.metrics.GameMetrics;
 import com.comp2042.ui.GuiController;
 import com.comp2042.ui.OverlayManager;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.control.Label;
-import javafx.util.Duration;
 
 /**
  * Manages the main game loop, timing, and mode changes, coordinating
  * periodic drop events and UI interactions.
+ * <p>
+ * Gravity runs on an {@link AnimationTimer} driven by a fixed-timestep
+ * {@link GravityClock}. {@link #play()}, {@link #pause()} and {@link #stop()}
+ * start and stop both together and are what the overlays call.
  *
  * @author Eashwar
  * @version 1.0
  */
 public class GameLoopManager {
+
+    /**
+     * Whether gravity is being applied, held until resumed, or reset.
+     */
+    public enum LoopState {
+        STOPPED, RUNNING, PAUSED
+    }
+
     private final GuiController guiController;
-    private Timeline timeLine;
+    private AnimationTimer gravityLoop;
+    private LoopState loopState = LoopState.STOPPED;
+    private final GravityClock gravityClock = new GravityClock();
     private GameModeHandler modeHandler;
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
@@ -46,7 +58,13 @@ public class GameLoopManager {
     public void setupModeHandler(Label timerLabel, OverlayManager overlayManager) {
         this.modeHandler = new GameModeHandler(
                 timerLabel,
-                () -> overlayManager.gameOver(false),
+                () -> {
+                    // a timed game ends here rather than on the board, so close its replay too
+                    if (guiController.getEventListener() instanceof GameController gc) {
+                        gc.finishReplay();
+                    }
+                    overlayManager.gameOver(false);
+                },
                 mode -> {
                     // logic to toggle renderer mode based on game mode
                     boolean isUpsideDown = (mode == GameModeHandler.GameMode.BOTTOMS_UP);
@@ -60,16 +78,59 @@ public class GameLoopManager {
     }
 
     /**
-     * Initializes the timeline that triggers periodic down events
-     * based on the current fall interval.
+     * Creates the frame loop that applies gravity. It starts stopped and
+     * runs from the next {@link #play()}.
+     */
+    public void setupGameLoop() {
+        stop();
+        this.gravityLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                applyGravity(gravityClock.advance(now));
+            }
+        };
+    }
+
+    /**
+     * Starts or resumes gravity, measuring from now so paused time is not counted.
      */
-    public void setupTimeline() {
-        this.timeLine = new Timeline(new KeyFrame(
-                Duration.millis(Constants.FALL_INTERVAL_MS),
-                ae -> guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        this.timeLine.setCycleCount(Animation.INDEFINITE);
-        this.timeLine.pause();
+    public void play() {
+        if (gravityLoop == null || loopState == LoopState.RUNNING) {
+            return;
+        }
+        gravityClock.resume(System.nanoTime());
+        gravityLoop.start();
+        loopState = LoopState.RUNNING;
+    }
+
+    /**
+     * Holds gravity, keeping the partial row carried so far.
+     */
+    public void pause() {
+        if (gravityLoop == null || loopState != LoopState.RUNNING) {
+            return;
+        }
+        gravityLoop.stop();
+        gravityClock.pause();
+        loopState = LoopState.PAUSED;
+    }
+
+    /**
+     * Stops gravity and discards the partial row, for a new game or mode.
+     */
+    public void stop() {
+        if (gravityLoop != null) {
+            gravityLoop.stop();
+        }
+        gravityClock.reset();
+        loopState = LoopState.STOPPED;
+    }
+
+    // drops the brick once per row due, stopping if the game ends or pauses midway
+    private void applyGravity(int rows) {
+        for (int i = 0; i < rows && isPlaying(); i++) {
+            guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        }
     }
 
     /**
@@ -85,8 +146,8 @@ public class GameLoopManager {
         return modeHandler;
     }
 
-    public Timeline getTimeLine() {
-        return timeLine;
+    public LoopState getLoopState() {
+        return loopState;
     }
 
     public BooleanProperty getIsPause() {
@@ -98,32 +159,17 @@ public class GameLoopManager {
     }
 
     /**
-     * Updates the fall interval according to the level and restarts the
-     * timeline when appropriate.
+     * Updates the fall interval according to the level. Gravity switches
+     * speed on the next frame; the loop is not restarted.
      *
      * @param level current game level
      */
     public void updateFallInterval(int level) {
-        double ms;
-        if (level <= 1) {
-            ms = Constants.FALL_INTERVAL_MS;
-        } else {
-            double base = Constants.BASE_TIME;
-            double dec = Constants.TIME_DECREMENT;
-            double t = Math.pow(Math.max(0.0, base - ((level - 1) * dec)), Math.max(0, level - 1));
-            ms = Math.max(Constants.MIN_FALL_INTERVAL_MS, t * 1000.0);
-        }
-        boolean wasRunning = timeLine != null && timeLine.getStatus() == Animation.Status.RUNNING;
-        if (timeLine != null) {
-            timeLine.stop();
-            timeLine.getKeyFrames().setAll(new KeyFrame(
-                    Duration.millis(ms),
-                    ae -> guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-            ));
-            timeLine.setCycleCount(Animation.INDEFINITE);
-            if (wasRunning && !isPause.get() && !isGameOver.get()) {
-                timeLine.play();
-            }
-        }
+        gravityClock.setLevel(level);
+        GameMetrics.getDefault().setGravityIntervalMs(GravityClock.intervalMs(level));
+    }
+
+    public long getFallIntervalNanos() {
+        return gravityClock.getIntervalNanos();
     }
 }
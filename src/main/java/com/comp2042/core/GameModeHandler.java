@@ -100,7 +100,7 @@ public final class GameModeHandler {
      */
     public void restartForNewGame() {
         stop();
-        if (current == GameMode.TIMED) startCountdown(120_000);
+        if (current == GameMode.TIMED) startCountdown(Constants.TIMED_MODE_MS);
         else if (timerLabel != null) timerLabel.setVisible(false);
     }
 
@@ -0,0 +1,129 @@
+package com.comp2042.core;
+
+/**
+ * Fixed-timestep gravity for the game loop. Frame times from the monotonic
+ * {@link System#nanoTime()} clock are consumed in whole logic steps of
+ * {@link Constants#LOGIC_STEP_NANOS}, and each step adds to a gravity
+ * accumulator that is paid out in whole rows, carrying the remainder to the
+ * next frame. Gravity therefore does not depend on the frame rate, and a late
+ * frame at a high level drops several rows at once instead of losing them.
+ * Fall intervals come from a table computed once per level.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class GravityClock {
+
+    private static final double[] INTERVAL_MS = new double[Constants.GRAVITY_TABLE_LEVELS + 1];
+    private static final long[] INTERVAL_NANOS = new long[Constants.GRAVITY_TABLE_LEVELS + 1];
+
+    static {
+        for (int level = 1; level < INTERVAL_MS.length; level++) {
+            INTERVAL_MS[level] = computeIntervalMs(level);
+            INTERVAL_NANOS[level] = Math.round(INTERVAL_MS[level] * 1_000_000.0);
+        }
+    }
+
+    private long intervalNanos = INTERVAL_NANOS[1];
+    private long lastNanos;
+    private boolean running;
+    private long lag;
+    private long gravity;
+
+    /**
+     * Returns the fall interval of a level in milliseconds.
+     *
+     * @param level the game level; levels past the table use its last entry
+     * @return the time between gravity rows
+     */
+    public static double intervalMs(int level) {
+        return INTERVAL_MS[clamp(level)];
+    }
+
+    /**
+     * Returns the fall interval of a level in nanoseconds, from the table.
+     *
+     * @param level the game level; levels past the table use its last entry
+     * @return the time between gravity rows
+     */
+    public static long intervalNanos(int level) {
+        return INTERVAL_NANOS[clamp(level)];
+    }
+
+    private static int clamp(int level) {
+        return Math.max(1, Math.min(level, Constants.GRAVITY_TABLE_LEVELS));
+    }
+
+    // level speed curve used to fill the table
+    private static double computeIntervalMs(int level) {
+        if (level <= 1) {
+            return Constants.FALL_INTERVAL_MS;
+        }
+        double base = Constants.BASE_TIME;
+        double dec = Constants.TIME_DECREMENT;
+        double t = Math.pow(Math.max(0.0, base - ((level - 1) * dec)), Math.max(0, level - 1));
+        return Math.max(Constants.MIN_FALL_INTERVAL_MS, t * 1000.0);
+    }
+
+    /**
+     * Switches to the fall speed of a level. Gravity already accumulated is kept.
+     *
+     * @param level the game level
+     */
+    public void setLevel(int level) {
+        intervalNanos = intervalNanos(level);
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    /**
+     * Starts measuring from the given time, so time spent paused is not counted.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     */
+    public void resume(long nowNanos) {
+        lastNanos = nowNanos;
+        running = true;
+    }
+
+    /**
+     * Stops measuring until the next {@link #resume(long)}.
+     */
+    public void pause() {
+        running = false;
+    }
+
+    /**
+     * Discards partial steps and partial rows, for example on a new game.
+     */
+    public void reset() {
+        running = false;
+        lag = 0;
+        gravity = 0;
+    }
+
+    /**
+     * Advances the clock to the given time and returns the gravity rows due.
+     * Frames longer than {@link Constants#MAX_FRAME_NANOS}, such as after a
+     * stall, are shortened so the board does not jump down after a hitch.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the number of rows the active brick should fall
+     */
+    public int advance(long nowNanos) {
+        if (!running) {
+            return 0;
+        }
+        long elapsed = Math.min(Math.max(0, nowNanos - lastNanos), Constants.MAX_FRAME_NANOS);
+        lastNanos = nowNanos;
+        lag += elapsed;
+        long steps = lag / Constants.LOGIC_STEP_NANOS;
+        lag -= steps * Constants.LOGIC_STEP_NANOS;
+        gravity += steps * Constants.LOGIC_STEP_NANOS;
+        int rows = (int) (gravity / intervalNanos);
+        gravity -= rows * intervalNanos;
+        return rows;
+    }
+}
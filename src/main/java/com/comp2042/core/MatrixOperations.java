@@ -4,6 +4,7 @@ import com.comp2042.logic.workflow.ClearRow;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.List;
 
@@ -147,8 +148,55 @@ public class MatrixOperations {
                 break;
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return new ClearRow(clearedRows.size(), tmp, scoreBonus(clearedRows.size()));
+    }
+
+    /**
+     * Clears fully occupied rows in place, finding them through per-row fill
+     * counters instead of scanning every cell. When no row is full the
+     * matrix is returned untouched; otherwise the remaining rows are moved
+     * down and the freed rows at the top are emptied, reusing the row arrays,
+     * so nothing is allocated besides the result.
+     *
+     * @param matrix the background matrix, modified when rows are cleared
+     * @param rowFill number of filled cells in each row of the matrix; not updated
+     * @return details of rows removed, the same matrix, and score bonus
+     */
+    public static ClearRow clearFullRows(final int[][] matrix, final int[] rowFill) {
+        int width = getWidth(matrix);
+        int height = getHeight(matrix);
+        int cleared = 0;
+        for (int i = 0; i < height; i++) {
+            if (rowFill[i] == width) {
+                cleared++;
+            }
+        }
+        if (cleared == 0) {
+            return new ClearRow(0, matrix, 0);
+        }
+        // swap each kept row down past the full ones, which end up on top in the order reached
+        int write = height - 1;
+        for (int i = height - 1; i >= 0; i--) {
+            if (rowFill[i] != width) {
+                int[] row = matrix[i];
+                matrix[i] = matrix[write];
+                matrix[write--] = row;
+            }
+        }
+        for (int i = write; i >= 0; i--) {
+            Arrays.fill(matrix[i], 0);
+        }
+        return new ClearRow(cleared, matrix, scoreBonus(cleared));
+    }
+
+    /**
+     * Computes the score bonus awarded for clearing the given number of rows.
+     *
+     * @param linesRemoved number of rows cleared at once
+     * @return the score bonus
+     */
+    public static int scoreBonus(int linesRemoved) {
+        return 50 * linesRemoved * linesRemoved;
     }
 
     /**
@@ -0,0 +1,366 @@
+package com.comp2042.core;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Precomputed rotation tables: for every piece, rotation index, and
+ * direction, the rotation index the piece turns to and the (x, y) offsets
+ * tried in order until one fits. The tables are flat primitive arrays
+ * indexed by {@link #transition(int, int, int)}, so a rotation is a few
+ * array reads and allocates nothing.
+ * <p>
+ * {@link #SRS} follows the Super Rotation System, with its separate kicks
+ * for the I piece and the common 180 degree extension. Kicks are defined
+ * for the SRS shapes in their bounding box, and the shapes of
+ * {@link ShapeTable} sit differently in theirs, so each table entry also
+ * carries the shift between the two; the cells a rotation ends on are the
+ * ones SRS gives. Directions are the true SRS ones whatever order the
+ * stored rotations run in, and every piece but O turns through all four
+ * states. {@link #LEGACY} is the rotation played before SRS, kept so older
+ * replays still play back as recorded; it steps only through the distinct
+ * shapes of a piece, so I, S and Z alternate between two.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public enum RotationSystem {
+
+    /** Rotation in place, then one and two columns left and right. */
+    LEGACY,
+    /** Super Rotation System wall and floor kicks. */
+    SRS;
+
+    /** The most kicks any transition tries. */
+    public static final int MAX_KICKS = 6;
+
+    private static final int MAX_ROTATIONS = 4;
+    private static final int DIRECTIONS = 3;
+
+    private final int[] targets = new int[ShapeTable.PIECE_COUNT * MAX_ROTATIONS * DIRECTIONS];
+    private final int[] kickCounts = new int[targets.length];
+    private final int[] kickX = new int[targets.length * MAX_KICKS];
+    private final int[] kickY = new int[targets.length * MAX_KICKS];
+
+    RotationSystem() {
+        for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+            int count = ShapeTable.rotationCount(piece);
+            for (int rotation = 0; rotation < count; rotation++) {
+                for (int direction = 0; direction < DIRECTIONS; direction++) {
+                    int t = transition(piece, rotation, direction);
+                    if (ordinal() == 0) {
+                        Tables.legacy(this, t, Tables.distinctShapes(piece), rotation, direction);
+                    } else {
+                        Tables.srs(this, t, piece, rotation, direction);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the table entry of a rotation.
+     *
+     * @param piece piece id
+     * @param rotation rotation index the piece turns from
+     * @param direction one of the {@link BrickRotator} direction constants
+     * @return the index to pass to the other lookups
+     */
+    public static int transition(int piece, int rotation, int direction) {
+        return (piece * MAX_ROTATIONS + rotation) * DIRECTIONS + direction;
+    }
+
+    /**
+     * Returns the rotation index a transition turns to.
+     *
+     * @param transition the entry from {@link #transition(int, int, int)}
+     * @return the target rotation index
+     */
+    public int target(int transition) {
+        return targets[transition];
+    }
+
+    public int kickCount(int transition) {
+        return kickCounts[transition];
+    }
+
+    /**
+     * Returns the column offset of a kick, counting the in-place rotation as kick 0.
+     *
+     * @param transition the entry from {@link #transition(int, int, int)}
+     * @param kick index of the kick, below {@link #kickCount(int)}
+     * @return the column offset
+     */
+    public int kickX(int transition, int kick) {
+        return kickX[transition * MAX_KICKS + kick];
+    }
+
+    /**
+     * Returns the row offset of a kick; positive values move the piece down.
+     *
+     * @param transition the entry from {@link #transition(int, int, int)}
+     * @param kick index of the kick, below {@link #kickCount(int)}
+     * @return the row offset
+     */
+    public int kickY(int transition, int kick) {
+        return kickY[transition * MAX_KICKS + kick];
+    }
+
+    // the raw tables, kept out of the enum so its constructor may read them
+    private static final class Tables {
+
+        private static final int[] LEGACY_KICKS = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0};
+        private static final int[] IN_PLACE = {0, 0};
+
+        // SRS kicks as (x, y) pairs with y up, for 0->R, R->0, R->2, 2->R, 2->L, L->2, L->0, 0->L
+        private static final int[][] SRS_PAIRS = {{0, 1}, {1, 0}, {1, 2}, {2, 1}, {2, 3}, {3, 2}, {3, 0}, {0, 3}};
+        private static final int[][] JLSTZ_KICKS = {
+                {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},
+                {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},
+                {0, 0, 1, 0, 1, -1, 0, 2, 1, 2},
+                {0, 0, -1, 0, -1, 1, 0, -2, -1, -2},
+                {0, 0, 1, 0, 1, 1, 0, -2, 1, -2},
+                {0, 0, -1, 0, -1, -1, 0, 2, -1, 2},
+                {0, 0, -1, 0, -1, -1, 0, 2, -1, 2},
+                {0, 0, 1, 0, 1, 1, 0, -2, 1, -2}
+        };
+        private static final int[][] I_KICKS = {
+                {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},
+                {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},
+                {0, 0, -1, 0, 2, 0, -1, 2, 2, -1},
+                {0, 0, 1, 0, -2, 0, 1, -2, -2, 1},
+                {0, 0, 2, 0, -1, 0, 2, 1, -1, -2},
+                {0, 0, -2, 0, 1, 0, -2, -1, 1, 2},
+                {0, 0, 1, 0, -2, 0, 1, -2, -2, 1},
+                {0, 0, -1, 0, 2, 0, -1, 2, 2, -1}
+        };
+        // 180 degree kicks from 0, R, 2 and L, y up
+        private static final int[][] HALF_TURN_KICKS = {
+                {0, 0, 0, 1, 1, 1, -1, 1, 1, 0, -1, 0},
+                {0, 0, 1, 0, 1, 2, 1, 1, 0, 2, 0, 1},
+                {0, 0, 0, -1, -1, -1, 1, -1, -1, 0, 1, 0},
+                {0, 0, -1, 0, -1, 2, -1, 1, 0, 2, 0, 1}
+        };
+
+        // SRS cells as (x, y) pairs with y down, per piece in the order of ShapeTable, for states 0, R, 2, L
+        private static final int[][][] SRS_CELLS = {
+                { // I
+                        {0, 1, 1, 1, 2, 1, 3, 1}, {2, 0, 2, 1, 2, 2, 2, 3},
+                        {0, 2, 1, 2, 2, 2, 3, 2}, {1, 0, 1, 1, 1, 2, 1, 3}
+                },
+                { // J
+                        {0, 0, 0, 1, 1, 1, 2, 1}, {1, 0, 2, 0, 1, 1, 1, 2},
+                        {0, 1, 1, 1, 2, 1, 2, 2}, {1, 0, 1, 1, 0, 2, 1, 2}
+                },
+                { // L
+                        {2, 0, 0, 1, 1, 1, 2, 1}, {1, 0, 1, 1, 1, 2, 2, 2},
+                        {0, 1, 1, 1, 2, 1, 0, 2}, {0, 0, 1, 0, 1, 1, 1, 2}
+                },
+                { // O
+                        {1, 0, 2, 0, 1, 1, 2, 1}, {1, 0, 2, 0, 1, 1, 2, 1},
+                        {1, 0, 2, 0, 1, 1, 2, 1}, {1, 0, 2, 0, 1, 1, 2, 1}
+                },
+                { // S
+                        {1, 0, 2, 0, 0, 1, 1, 1}, {1, 0, 1, 1, 2, 1, 2, 2},
+                        {1, 1, 2, 1, 0, 2, 1, 2}, {0, 0, 0, 1, 1, 1, 1, 2}
+                },
+                { // T
+                        {1, 0, 0, 1, 1, 1, 2, 1}, {1, 0, 1, 1, 2, 1, 1, 2},
+                        {0, 1, 1, 1, 2, 1, 1, 2}, {1, 0, 0, 1, 1, 1, 1, 2}
+                },
+                { // Z
+                        {0, 0, 1, 0, 1, 1, 2, 1}, {2, 0, 1, 1, 2, 1, 1, 2},
+                        {0, 1, 1, 1, 1, 2, 2, 2}, {1, 0, 0, 1, 1, 1, 0, 2}
+                }
+        };
+
+        // in place, then shifted sideways; every direction turns with the same kicks
+        static void legacy(RotationSystem system, int t, int count, int rotation, int direction) {
+            system.targets[t] = Math.floorMod(rotation + step(direction), count);
+            system.kickCounts[t] = LEGACY_KICKS.length / 2;
+            for (int k = 0; k < LEGACY_KICKS.length / 2; k++) {
+                system.kickX[t * MAX_KICKS + k] = LEGACY_KICKS[2 * k];
+            }
+        }
+
+        static void srs(RotationSystem system, int t, int piece, int rotation, int direction) {
+            int count = ShapeTable.rotationCount(piece);
+            int from = state(piece, rotation);
+            // the O piece has one state and turns in place
+            int to;
+            int target;
+            if (count == 1) {
+                to = from;
+                target = rotation;
+            } else {
+                int turn = direction == BrickRotator.CLOCKWISE ? 1 : direction == BrickRotator.HALF_TURN ? 2 : 3;
+                to = (from + turn) % MAX_ROTATIONS;
+                target = rotationOf(piece, to);
+            }
+            system.targets[t] = target;
+            int[] kicks = from == to ? IN_PLACE : kicks(piece, from, to);
+            system.kickCounts[t] = kicks.length / 2;
+            // shifts from each stored shape to its SRS shape, in board coordinates
+            int shiftX = offsetX(piece, to, target) - offsetX(piece, from, rotation);
+            int shiftY = offsetY(piece, to, target) - offsetY(piece, from, rotation);
+            for (int k = 0; k < kicks.length / 2; k++) {
+                system.kickX[t * MAX_KICKS + k] = kicks[2 * k] + shiftX;
+                system.kickY[t * MAX_KICKS + k] = -kicks[2 * k + 1] + shiftY;
+            }
+        }
+
+        // the leading stored rotations that are not a shift of an earlier one;
+        // these are the shapes the legacy rotation stepped through
+        static int distinctShapes(int piece) {
+            int count = ShapeTable.rotationCount(piece);
+            for (int r = 1; r < count; r++) {
+                for (int earlier = 0; earlier < r; earlier++) {
+                    if (sameShape(piece, earlier, r)) {
+                        return r;
+                    }
+                }
+            }
+            return count;
+        }
+
+        // whether two stored rotations hold the same cells up to a shift
+        private static boolean sameShape(int piece, int a, int b) {
+            int[][] first = ShapeTable.shape(piece, a);
+            int[][] second = ShapeTable.shape(piece, b);
+            int dx = minCol(second) - minCol(first);
+            int dy = minRow(second) - minRow(first);
+            for (int r = 0; r < first.length; r++) {
+                for (int c = 0; c < first[r].length; c++) {
+                    int rr = r + dy;
+                    int cc = c + dx;
+                    boolean shifted = rr >= 0 && rr < second.length && cc >= 0 && cc < second[rr].length && second[rr][cc] != 0;
+                    if ((first[r][c] != 0) != shifted) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static int minRow(int[][] shape) {
+            for (int r = 0; r < shape.length; r++) {
+                for (int cell : shape[r]) {
+                    if (cell != 0) {
+                        return r;
+                    }
+                }
+            }
+            return 0;
+        }
+
+        private static int minCol(int[][] shape) {
+            int min = Integer.MAX_VALUE;
+            for (int[] row : shape) {
+                for (int c = 0; c < row.length; c++) {
+                    if (row[c] != 0) {
+                        min = Math.min(min, c);
+                    }
+                }
+            }
+            return min;
+        }
+
+        // legacy turns step through the stored rotations, counterclockwise being the next one
+        private static int step(int direction) {
+            return direction == BrickRotator.COUNTER_CLOCKWISE ? 1 : direction == BrickRotator.CLOCKWISE ? -1 : 2;
+        }
+
+        private static int rotationOf(int piece, int state) {
+            for (int r = 0; r < ShapeTable.rotationCount(piece); r++) {
+                if (state(piece, r) == state) {
+                    return r;
+                }
+            }
+            throw new IllegalStateException("No rotation of piece " + piece + " in SRS state " + state);
+        }
+
+        private static int[] kicks(int piece, int from, int to) {
+            if ((from + 2) % MAX_ROTATIONS == to) {
+                return HALF_TURN_KICKS[from];
+            }
+            for (int i = 0; i < SRS_PAIRS.length; i++) {
+                if (SRS_PAIRS[i][0] == from && SRS_PAIRS[i][1] == to) {
+                    return piece == ShapeTable.I ? I_KICKS[i] : JLSTZ_KICKS[i];
+                }
+            }
+            throw new IllegalStateException("No SRS transition " + from + "->" + to);
+        }
+
+        // the SRS state a stored rotation is listed as: the state its cells match,
+        // the one a counterclockwise turn leads to when two match
+        private static int state(int piece, int rotation) {
+            int previous = rotation == 0 ? -1 : state(piece, rotation - 1);
+            if (previous >= 0 && matches(piece, (previous + 3) % MAX_ROTATIONS, rotation)) {
+                return (previous + 3) % MAX_ROTATIONS;
+            }
+            for (int s = 0; s < MAX_ROTATIONS; s++) {
+                if (matches(piece, s, rotation)) {
+                    return s;
+                }
+            }
+            throw new IllegalStateException("No SRS state for piece " + piece + " rotation " + rotation);
+        }
+
+        private static boolean matches(int piece, int state, int rotation) {
+            int[] cells = SRS_CELLS[piece][state];
+            int dx = offsetX(piece, state, rotation);
+            int dy = offsetY(piece, state, rotation);
+            int[][] shape = ShapeTable.shape(piece, rotation);
+            int filled = 0;
+            for (int[] row : shape) {
+                for (int cell : row) {
+                    filled += cell != 0 ? 1 : 0;
+                }
+            }
+            for (int i = 0; i < cells.length; i += 2) {
+                int r = cells[i + 1] - dy;
+                int c = cells[i] - dx;
+                if (r < 0 || r >= shape.length || c < 0 || c >= shape[r].length || shape[r][c] == 0) {
+                    return false;
+                }
+            }
+            return filled == cells.length / 2;
+        }
+
+        // how far the SRS shape sits right of the stored one in its box
+        private static int offsetX(int piece, int state, int rotation) {
+            int min = Integer.MAX_VALUE;
+            int[] cells = SRS_CELLS[piece][state];
+            for (int i = 0; i < cells.length; i += 2) {
+                min = Math.min(min, cells[i]);
+            }
+            int[][] shape = ShapeTable.shape(piece, rotation);
+            int stored = Integer.MAX_VALUE;
+            for (int[] row : shape) {
+                for (int c = 0; c < row.length; c++) {
+                    if (row[c] != 0) {
+                        stored = Math.min(stored, c);
+                    }
+                }
+            }
+            return min - stored;
+        }
+
+        // how far the SRS shape sits below the stored one in its box
+        private static int offsetY(int piece, int state, int rotation) {
+            int min = Integer.MAX_VALUE;
+            int[] cells = SRS_CELLS[piece][state];
+            for (int i = 1; i < cells.length; i += 2) {
+                min = Math.min(min, cells[i]);
+            }
+            int[][] shape = ShapeTable.shape(piece, rotation);
+            for (int r = 0; r < shape.length; r++) {
+                for (int cell : shape[r]) {
+                    if (cell != 0) {
+                        return min - r;
+                    }
+                }
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.comp2042.core;
+
+import java.util.Arrays;
+
+/**
+ * Incrementally maintained summary of a board matrix: the topmost occupied
+ * row of every column (its skyline) and the number of filled cells in every
+ * row. Merges and row clears update it locally, so full rows and landing
+ * positions can be found without rescanning the whole matrix.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+final class SkylineIndex {
+
+    private final int rows;
+    private final int cols;
+    private final int[] columnTop;
+    private final int[] rowFill;
+    private boolean stale;
+
+    /**
+     * Creates an index for an empty board.
+     *
+     * @param rows number of rows in the board
+     * @param cols number of columns in the board
+     */
+    SkylineIndex(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        columnTop = new int[cols];
+        rowFill = new int[rows];
+        reset();
+    }
+
+    /**
+     * Resets the index to describe an empty board.
+     */
+    void reset() {
+        Arrays.fill(columnTop, rows);
+        Arrays.fill(rowFill, 0);
+        stale = false;
+    }
+
+    /**
+     * Marks the index out of date, for example after the matrix has been
+     * handed out for writing. It is rebuilt on next use.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    /**
+     * Rebuilds the index from the matrix if it has been invalidated.
+     *
+     * @param matrix the board matrix
+     */
+    void ensureCurrent(int[][] matrix) {
+        if (!stale) {
+            return;
+        }
+        Arrays.fill(columnTop, rows);
+        for (int r = rows - 1; r >= 0; r--) {
+            int filled = 0;
+            for (int c = 0; c < cols; c++) {
+                if (matrix[r][c] != 0) {
+                    filled++;
+                    columnTop[c] = r;
+                }
+            }
+            rowFill[r] = filled;
+        }
+        stale = false;
+    }
+
+    /**
+     * Records the cells a brick is about to write into the matrix. Must be
+     * called before the merge so already occupied cells are not counted twice.
+     *
+     * @param matrix the board matrix before the merge
+     * @param brick the brick matrix
+     * @param x placement x-offset
+     * @param y placement y-offset
+     */
+    void recordMerge(int[][] matrix, int[][] brick, int x, int y) {
+        ensureCurrent(matrix);
+        for (int j = 0; j < brick.length; j++) {
+            int targetY = y + j;
+            if (targetY < 0 || targetY >= rows) {
+                continue;
+            }
+            for (int i = 0; i < brick[j].length; i++) {
+                int targetX = x + i;
+                if (brick[j][i] == 0 || targetX < 0 || targetX >= cols || matrix[targetY][targetX] != 0) {
+                    continue;
+                }
+                rowFill[targetY]++;
+                if (targetY < columnTop[targetX]) {
+                    columnTop[targetX] = targetY;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether a row is completely filled.
+     *
+     * @param row row index
+     * @return true when every cell in the row is occupied
+     */
+    boolean isFull(int row) {
+        return rowFill[row] == cols;
+    }
+
+    /**
+     * Returns the per-row fill counters. The array is live and must not be modified.
+     *
+     * @param matrix the board matrix, used to rebuild the index when stale
+     * @return fill count for every row
+     */
+    int[] rowFill(int[][] matrix) {
+        ensureCurrent(matrix);
+        return rowFill;
+    }
+
+    /**
+     * Updates the index after full rows were removed. The fill counters are
+     * compacted like the rows, and each column top is found again by scanning
+     * down from its previous position only.
+     *
+     * @param newMatrix the board matrix after the clear
+     */
+    void recordClear(int[][] newMatrix) {
+        int write = rows - 1;
+        for (int r = rows - 1; r >= 0; r--) {
+            if (rowFill[r] != cols) {
+                rowFill[write--] = rowFill[r];
+            }
+        }
+        for (int r = write; r >= 0; r--) {
+            rowFill[r] = 0;
+        }
+        // rows only ever move down, so nothing can appear above a column's old top
+        for (int c = 0; c < cols; c++) {
+            int top = columnTop[c];
+            while (top < rows && newMatrix[top][c] == 0) {
+                top++;
+            }
+            columnTop[c] = top;
+        }
+    }
+
+    /**
+     * Computes the row a brick would land on if dropped straight down. When
+     * the brick is above the skyline of every column it covers, this only
+     * looks at those column tops; otherwise (for example when tucked under an
+     * overhang) it falls back to stepping down with collision checks.
+     *
+     * @param matrix the board matrix
+     * @param brick the brick matrix
+     * @param x current x-offset
+     * @param y current y-offset
+     * @return the y-offset at which the brick comes to rest
+     */
+    int landingY(int[][] matrix, int[][] brick, int x, int y) {
+        ensureCurrent(matrix);
+        int landing = Integer.MAX_VALUE;
+        for (int i = 0; i < brick[0].length; i++) {
+            int lowest = lowestCell(brick, i);
+            if (lowest < 0) {
+                continue;
+            }
+            int col = x + i;
+            if (col < 0 || col >= cols || columnTop[col] == 0 || y + lowest >= columnTop[col]) {
+                return stepDown(matrix, brick, x, y);
+            }
+            landing = Math.min(landing, columnTop[col] - 1 - lowest);
+        }
+        return landing == Integer.MAX_VALUE ? y : Math.max(y, landing);
+    }
+
+    int columnTop(int col) {
+        return columnTop[col];
+    }
+
+    private static int lowestCell(int[][] brick, int col) {
+        for (int j = brick.length - 1; j >= 0; j--) {
+            if (brick[j][col] != 0) {
+                return j;
+            }
+        }
+        return -1;
+    }
+
+    private static int stepDown(int[][] matrix, int[][] brick, int x, int y) {
+        int landing = y;
+        while (!MatrixOperations.collidesWithBackground(matrix, brick, x, landing + 1)) {
+            landing++;
+        }
+        return landing;
+    }
+}
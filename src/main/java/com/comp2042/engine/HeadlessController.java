@@ -0,0 +1,91 @@
+package com.comp2042.engine;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BrickRotator;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.input.InputEventListener;
+import com.comp2042.logic.workflow.ClearRow;
+import com.comp2042.logic.workflow.DownData;
+import com.comp2042.logic.workflow.ViewData;
+
+/**
+ * Answers input events with a {@link HeadlessGame} and no UI, the same way
+ * {@link com.comp2042.core.GameController} does for the game window. Replays
+ * and bots drive it through the {@link InputEventListener} methods.
+ * Events that arrive after game over are ignored.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class HeadlessController implements InputEventListener {
+
+    private final HeadlessGame game;
+
+    /**
+     * Creates a controller playing on the given board.
+     *
+     * @param board the board to play on
+     */
+    public HeadlessController(Board board) {
+        this.game = new HeadlessGame(board);
+    }
+
+    public HeadlessGame getGame() {
+        return game;
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        ClearRow clearRow = game.isGameOver() ? null : game.moveDown(event.getEventSource() == EventSource.USER);
+        return new DownData(clearRow, game.getBoard().getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        if (!game.isGameOver()) {
+            game.moveLeft();
+        }
+        return game.getBoard().getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        if (!game.isGameOver()) {
+            game.moveRight();
+        }
+        return game.getBoard().getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        if (!game.isGameOver()) {
+            game.rotate(BrickRotator.directionOf(event.getEventType()));
+        }
+        return game.getBoard().getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        if (!game.isGameOver()) {
+            game.hold();
+        }
+        return game.getBoard().getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        ClearRow clearRow = game.isGameOver() ? null : game.hardDrop();
+        return new DownData(clearRow, game.getBoard().getViewData());
+    }
+
+    @Override
+    public void createNewGame() {
+        game.newGame();
+    }
+
+    @Override
+    public void createNewGame(long seed) {
+        game.newGame(seed);
+    }
+}
@@ -0,0 +1,150 @@
+package com.comp2042.engine;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.logic.workflow.ClearRow;
+
+/**
+ * Runs the game rules on a {@link Board} without any UI: soft and hard
+ * drops, locking, row clears, scoring, spawning, and game over. It needs no
+ * JavaFX runtime and does no file I/O, so bots, replay verification, and
+ * load tests can drive it directly. {@link com.comp2042.core.GameController}
+ * delegates to it so both apply the same rules.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class HeadlessGame {
+
+    private final Board board;
+    private boolean gameOver;
+
+    /**
+     * Creates a game on a standard board with the default dimensions.
+     */
+    public HeadlessGame() {
+        this(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+    }
+
+    /**
+     * Creates a game on the given board. The board must already have an
+     * active brick, or {@link #newGame()} must be called first.
+     *
+     * @param board the board to play on
+     */
+    public HeadlessGame(Board board) {
+        this.board = board;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public ScoreTracker getScore() {
+        return board.getScore();
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Resets the board and score and spawns the first brick.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+    }
+
+    /**
+     * Resets the board and score and starts the brick sequence of the given
+     * seed, so the same seed and inputs replay the same game.
+     *
+     * @param seed seed of the brick sequence
+     */
+    public void newGame(long seed) {
+        board.newGame(seed);
+        gameOver = false;
+    }
+
+    /**
+     * Continues from a snapshot taken during play.
+     *
+     * @param snapshot the saved state
+     */
+    public void restore(BoardSnapshot snapshot) {
+        board.restore(snapshot);
+        gameOver = false;
+    }
+
+    public boolean moveLeft() {
+        return board.moveBrickLeft();
+    }
+
+    public boolean moveRight() {
+        return board.moveBrickRight();
+    }
+
+    public boolean rotate() {
+        return board.rotateLeftBrick();
+    }
+
+    public boolean rotate(int direction) {
+        return board.rotateBrick(direction);
+    }
+
+    public boolean hold() {
+        return board.holdBrick();
+    }
+
+    /**
+     * Moves the active brick one row down, locking it when it cannot move.
+     * A user-initiated step that moves the brick scores one point.
+     *
+     * @param userInitiated whether the player pressed down, rather than gravity
+     * @return the rows cleared if the brick locked, or null if it moved
+     */
+    public ClearRow moveDown(boolean userInitiated) {
+        if (board.moveBrickDown()) {
+            if (userInitiated) {
+                board.getScore().add(1);
+            }
+            return null;
+        }
+        return lock(0);
+    }
+
+    /**
+     * Drops the active brick to its landing row and locks it, scoring two
+     * points per row dropped.
+     *
+     * @return the rows cleared by the lock
+     */
+    public ClearRow hardDrop() {
+        int dropped = board.hardDropBrick();
+        return lock(dropped * 2);
+    }
+
+    /**
+     * Merges the brick, clears rows, scores them, and spawns the next brick.
+     *
+     * @param dropPoints points earned by the drop that led to the lock
+     * @return the rows cleared
+     */
+    private ClearRow lock(int dropPoints) {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        ScoreTracker score = board.getScore();
+        if (clearRow.getLinesRemoved() > 0) {
+            score.add(clearRow.getScoreBonus());
+            score.addLines(clearRow.getLinesRemoved());
+        }
+        if (dropPoints > 0) {
+            score.add(dropPoints);
+        }
+        gameOver = board.createNewBrick();
+        return clearRow;
+    }
+}
@@ -0,0 +1,135 @@
+package com.comp2042.engine;
+
+import com.comp2042.core.Constants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain scoring state for the game engine: score, high score, lines cleared,
+ * and level, kept as primitives with no JavaFX or file access. Observers such
+ * as the UI's {@link com.comp2042.logic.workflow.Score} register a listener
+ * to mirror the values and persist high scores.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ScoreTracker {
+
+    /**
+     * Receives a callback after any scoring value changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void scoreChanged(ScoreTracker tracker);
+    }
+
+    private final List<Listener> listeners = new ArrayList<>();
+    private int score;
+    private int highScore;
+    private int linesCleared;
+    private int level = 1;
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getHighScore() {
+        return highScore;
+    }
+
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Registers a listener notified after every change.
+     *
+     * @param listener the listener to add
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Replaces the high score to beat, for example when the game mode changes.
+     *
+     * @param highScore the high score of the current mode
+     */
+    public void setHighScore(int highScore) {
+        this.highScore = highScore;
+        fireChanged();
+    }
+
+    /**
+     * Adds points to the score, raising the high score when it is exceeded.
+     *
+     * @param points points to add
+     */
+    public void add(int points) {
+        score += points;
+        if (score > highScore) {
+            highScore = score;
+        }
+        fireChanged();
+    }
+
+    /**
+     * Adds cleared lines, updating the level based on thresholds.
+     *
+     * @param lines number of lines cleared
+     */
+    public void addLines(int lines) {
+        if (lines <= 0) return;
+        linesCleared += lines;
+        level = 1 + (linesCleared / Constants.LINES_PER_LEVEL);
+        fireChanged();
+    }
+
+    /**
+     * Resets score, lines cleared, and level to initial values. The high score is kept.
+     */
+    public void reset() {
+        score = 0;
+        linesCleared = 0;
+        level = 1;
+        fireChanged();
+    }
+
+    /**
+     * Sets score, lines cleared, and level together, for example when a
+     * saved game state is restored. The high score is raised if exceeded.
+     *
+     * @param score        the score
+     * @param linesCleared the lines cleared
+     * @param level        the level
+     */
+    public void restore(int score, int linesCleared, int level) {
+        this.score = score;
+        this.linesCleared = linesCleared;
+        this.level = level;
+        if (score > highScore) {
+            highScore = score;
+        }
+        fireChanged();
+    }
+
+    /**
+     * Indicates whether the current score is a positive score that set the high score.
+     *
+     * @return true if the score equals the high score and is above zero
+     */
+    public boolean isNewHighScore() {
+        return score > 0 && score == highScore;
+    }
+
+    private void fireChanged() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).scoreChanged(this);
+        }
+    }
+}
@@ -2,10 +2,12 @@ package com.comp2042.events;
 
 /**
  * Enumerates the types of movement and control events in the game.
+ * {@link #ROTATE} turns counterclockwise. Replays store the ordinal, so
+ * new types go at the end.
  *
  * @author Eashwar
  * @version 1.0
  */
 public enum EventType {
-    DOWN, LEFT, RIGHT, ROTATE, HOLD, HARD_DROP
+    DOWN, LEFT, RIGHT, ROTATE, HOLD, HARD_DROP, ROTATE_CW, ROTATE_180
 }
@@ -65,4 +65,12 @@ public interface InputEventListener {
      * Creates and initializes a new game session.
      */
     void createNewGame();
+
+    /**
+     * Creates and initializes a new game session whose brick sequence is
+     * determined by the seed, as needed to replay a recorded game.
+     *
+     * @param seed seed of the brick sequence
+     */
+    void createNewGame(long seed);
 }
@@ -1,7 +1,8 @@
 package com.comp2042.input;
 
 import com.comp2042.logic.workflow.DownData;
-import com.comp2042.ui.GameRenderer;
+import com.comp2042.metrics.FrameMetrics;
+import com.comp2042.ui.BoardRenderer;
 import com.comp2042.ui.GuiController;
 import com.comp2042.events.EventSource;
 import com.comp2042.events.EventType;
@@ -13,6 +14,8 @@ import javafx.scene.input.KeyEvent;
 /**
  * Translates keyboard input into game events, delegating to the controller
  * and renderer for movement, rotation, holding, dropping, and overlay actions.
+ * Game keys are timestamped for {@link FrameMetrics} so the delay until the
+ * next frame shows them is measured.
  *
  * @author Eashwar
  * @version 1.0
@@ -20,7 +23,8 @@ import javafx.scene.input.KeyEvent;
 public class KeyboardInputManager implements EventHandler<KeyEvent> {
 
     private final GuiController controller;
-    private final GameRenderer renderer;
+    private final BoardRenderer renderer;
+    private final FrameMetrics metrics = FrameMetrics.getDefault();
 
     /**
      * Creates a keyboard input manager bound to a controller and renderer.
@@ -28,7 +32,7 @@ public class KeyboardInputManager implements EventHandler<KeyEvent> {
      * @param controller the GUI controller to dispatch actions to
      * @param renderer the renderer to update visual state
      */
-    public KeyboardInputManager(GuiController controller, GameRenderer renderer) {
+    public KeyboardInputManager(GuiController controller, BoardRenderer renderer) {
         this.controller = controller;
         this.renderer = renderer;
     }
@@ -45,9 +49,19 @@ public class KeyboardInputManager implements EventHandler<KeyEvent> {
 
         // Only proceed if we have a listener and the game is active
         if (eventListener != null && controller.isPlaying()) {
+            metrics.inputReceived(System.nanoTime());
             handleMovement(keyEvent, eventListener);
         }
 
+        if (keyEvent.getCode() == KeyCode.H) {
+            controller.toggleHints();
+        }
+        if (keyEvent.getCode() == KeyCode.F3) {
+            controller.getMetricsOverlay().toggle();
+        }
+        if (keyEvent.getCode() == KeyCode.F4) {
+            controller.getMetricsOverlay().dump();
+        }
         if (keyEvent.getCode() == KeyCode.N) {
             controller.getOverlayManager().newGame(null);
         }
@@ -82,6 +96,18 @@ public class KeyboardInputManager implements EventHandler<KeyEvent> {
             controller.updateGhost(vd);
             keyEvent.consume();
         }
+        if (keyEvent.getCode() == KeyCode.X) {
+            com.comp2042.logic.workflow.ViewData vd = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CW, EventSource.USER));
+            renderer.refreshBrick(vd);
+            controller.updateGhost(vd);
+            keyEvent.consume();
+        }
+        if (keyEvent.getCode() == KeyCode.Z) {
+            com.comp2042.logic.workflow.ViewData vd = eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER));
+            renderer.refreshBrick(vd);
+            controller.updateGhost(vd);
+            keyEvent.consume();
+        }
         if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
             controller.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
             keyEvent.consume();
@@ -10,5 +10,34 @@ import java.util.List;
  */
 public interface Brick {
 
+    /**
+     * Returns copies of every rotation matrix of this brick.
+     *
+     * @return a new list of rotation matrices that callers may modify
+     */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Returns the matrix of one rotation state without copying when the
+     * brick supports it. Callers must treat the result as read-only.
+     *
+     * @param rotation rotation index
+     * @return the shape matrix for that rotation
+     */
+    default int[][] getShape(int rotation) {
+        return getShapeMatrix().get(rotation);
+    }
+
+    default int getRotationCount() {
+        return getShapeMatrix().size();
+    }
+
+    /**
+     * Returns the {@link ShapeTable} piece id of this brick.
+     *
+     * @return the piece id, or -1 for bricks not backed by the table
+     */
+    default int getPieceId() {
+        return -1;
+    }
 }
@@ -1,41 +1,18 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.core.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Defines the I-shaped tetromino rotation states.
+ * Defines the I-shaped tetromino rotation states, backed by the shared
+ * {@link ShapeTable} entries.
  *
  * @author Eashwar
  * @version 1.0
  */
-final class IBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+final class IBrick extends TableBrick {
 
     /**
-     * Initializes the rotation matrices for the I-shaped brick.
+     * Creates the I-shaped brick.
      */
     public IBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {1, 1, 1, 1},
-                {0, 0, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0},
-                {0, 1, 0, 0}
-        });
+        super(ShapeTable.I);
     }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
-    }
-
 }
@@ -1,52 +1,18 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.core.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Defines the J-shaped tetromino rotation states.
+ * Defines the J-shaped tetromino rotation states, backed by the shared
+ * {@link ShapeTable} entries.
  *
  * @author Eashwar
  * @version 1.0
  */
-final class JBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+final class JBrick extends TableBrick {
 
     /**
-     * Initializes the rotation matrices for the J-shaped brick.
+     * Creates the J-shaped brick.
      */
     public JBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {2, 2, 2, 0},
-                {0, 0, 2, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 2, 0},
-                {0, 2, 0, 0},
-                {0, 2, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 0, 0},
-                {0, 2, 2, 2},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 2, 0},
-                {0, 0, 2, 0},
-                {0, 2, 2, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        super(ShapeTable.J);
     }
 }
@@ -1,52 +1,18 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.core.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Defines the L-shaped tetromino rotation states.
+ * Defines the L-shaped tetromino rotation states, backed by the shared
+ * {@link ShapeTable} entries.
  *
  * @author Eashwar
  * @version 1.0
  */
-final class LBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+final class LBrick extends TableBrick {
 
     /**
-     * Initializes the rotation matrices for the L-shaped brick.
+     * Creates the L-shaped brick.
      */
     public LBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 3},
-                {0, 3, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 3, 0},
-                {0, 0, 3, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 0, 3, 0},
-                {3, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 3, 0, 0},
-                {0, 3, 0, 0},
-                {0, 3, 3, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        super(ShapeTable.L);
     }
 }
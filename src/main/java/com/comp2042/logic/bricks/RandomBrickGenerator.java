@@ -1,61 +1,217 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.Collections;
+import java.util.SplittableRandom;
+
+import com.comp2042.core.Constants;
 
 /**
  * Generates bricks using a 7-bag randomization system to balance distribution.
  * Maintains a queue of upcoming bricks and supports preview operations.
  * All popular Tetris games use the 7-bag system for randomization.
+ * <p>
+ * Bags are shuffled with a SplitMix64 generator seeded per game, so the
+ * same seed always yields the same sequence, and its state can be saved and
+ * restored with {@link #getRandomState()} and {@link #restore}. Upcoming piece
+ * ids are kept in a fixed-size ring buffer that can be peeked without allocating.
  *
  * @author Eashwar
  * @version 1.0
  */
-public class RandomBrickGenerator implements BrickGenerator {
+public final class RandomBrickGenerator implements BrickGenerator {
+
+    private static final int BAG_SIZE = ShapeTable.PIECE_COUNT;
+    private static final int CAPACITY = Constants.BRICK_QUEUE_CAPACITY;
+    private static final int MASK = CAPACITY - 1;
 
-    private final List<Brick> brickList;
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private final Brick[] bricks;
+    private final SplittableRandom seeds;
+    private final int[] queue = new int[CAPACITY];
+    private final int[] bag = new int[BAG_SIZE];
+    private int head;
+    private int size;
+    private long seed;
+    private SplitMix64 random;
 
     /**
-     * Constructs the generator and initializes the bag of bricks.
+     * Constructs an unseeded generator; every game gets a fresh random seed.
      */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-        refillBag();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a generator whose first game uses the given seed. Later
+     * games started with {@link #reset()} draw their seeds from it too, so the
+     * whole series is reproducible.
+     *
+     * @param seed seed of the first game
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplittableRandom(seed), seed);
+    }
+
+    private RandomBrickGenerator(SplittableRandom seeds) {
+        this(seeds, seeds.nextLong());
+    }
+
+    private RandomBrickGenerator(SplittableRandom seeds, long firstSeed) {
+        this.seeds = seeds;
+        bricks = new Brick[] {new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()};
+        reset(firstSeed);
     }
 
     /**
-     * Resets the generator, clearing previews and refilling the bag.
+     * Resets the generator, clearing previews and refilling the bag from a new seed.
      */
     public void reset() {
-        nextBricks.clear();
+        reset(seeds.nextLong());
+    }
+
+    /**
+     * Resets the generator to the start of the sequence for the given seed.
+     *
+     * @param seed seed of the new sequence
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        random = new SplitMix64(seed);
+        head = 0;
+        size = 0;
         refillBag();
     }
 
+    /**
+     * Returns the seed of the current sequence, for recording a replay.
+     *
+     * @return the seed passed to the last reset
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the shuffle generator's state, which together with the queued
+     * piece ids determines every brick still to come.
+     *
+     * @return the generator state
+     */
+    public long getRandomState() {
+        return random.getState();
+    }
+
+    /**
+     * Returns how many piece ids are queued.
+     *
+     * @return the number of queued pieces
+     */
+    public int queued() {
+        return size;
+    }
+
+    /**
+     * Restores a state saved from {@link #getSeed()}, {@link #getRandomState()}
+     * and the queued piece ids.
+     *
+     * @param seed        seed of the sequence
+     * @param randomState the shuffle generator's state
+     * @param queue       the queued piece ids, next first
+     */
+    public void restore(long seed, long randomState, int[] queue) {
+        if (queue.length < BAG_SIZE || queue.length > CAPACITY) {
+            throw new IllegalArgumentException("Queue must hold " + BAG_SIZE + " to " + CAPACITY + " pieces");
+        }
+        this.seed = seed;
+        random = new SplitMix64(randomState);
+        head = 0;
+        size = queue.length;
+        for (int i = 0; i < size; i++) {
+            if (queue[i] < 0 || queue[i] >= BAG_SIZE) {
+                throw new IllegalArgumentException("Unknown piece id " + queue[i]);
+            }
+            this.queue[i] = queue[i];
+        }
+    }
+
+    /**
+     * Returns this generator's brick for a piece id.
+     *
+     * @param pieceId the piece id
+     * @return the brick
+     */
+    public Brick brick(int pieceId) {
+        return bricks[pieceId];
+    }
+
     // using the famous 7 bag system
     // this way blocks dont repeat very often and one of the 7 different bricks comes
     // before each brick is repeated
     /**
-     * Refills the bag with a shuffled set of the 7 bricks.
+     * Appends a shuffled set of the 7 piece ids to the queue.
      */
     private void refillBag() {
-        List<Brick> bag = new ArrayList<>(brickList);
-        Collections.shuffle(bag, ThreadLocalRandom.current());
-        for (Brick b : bag)
-        {
-            nextBricks.add(b);
+        for (int i = 0; i < BAG_SIZE; i++) {
+            bag[i] = i;
+        }
+        for (int i = BAG_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = bag[i];
+            bag[i] = bag[j];
+            bag[j] = t;
+        }
+        for (int i = 0; i < BAG_SIZE; i++) {
+            queue[(head + size++) & MASK] = bag[i];
+        }
+    }
+
+    /**
+     * Retrieves and removes the next piece id; refills the bag when low.
+     *
+     * @return the next piece id
+     */
+    public int nextPieceId() {
+        int piece = queue[head];
+        head = (head + 1) & MASK;
+        size--;
+        // keep at least a full bag queued so any preview fits
+        if (size < BAG_SIZE) {
+            refillBag();
+        }
+        return piece;
+    }
+
+    /**
+     * Returns an upcoming piece id without removing it or allocating.
+     *
+     * @param index 0 for the next piece, 1 for the one after, and so on
+     * @return the piece id
+     * @throws IndexOutOfBoundsException if index is not below {@link #previewCapacity()}
+     */
+    public int peekPieceId(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
         }
+        return queue[(head + index) & MASK];
+    }
+
+    /**
+     * Returns an upcoming brick without removing it or allocating.
+     *
+     * @param index 0 for the next brick, 1 for the one after, and so on
+     * @return the brick
+     */
+    public Brick peek(int index) {
+        return bricks[peekPieceId(index)];
+    }
+
+    /**
+     * Returns how many upcoming bricks can always be peeked.
+     *
+     * @return the guaranteed preview length
+     */
+    public int previewCapacity() {
+        return BAG_SIZE;
     }
 
     @Override
@@ -65,10 +221,7 @@ public class RandomBrickGenerator implements BrickGenerator {
      * @return the next brick
      */
     public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
-            refillBag();
-        }
-        return nextBricks.poll();
+        return bricks[nextPieceId()];
     }
 
     @Override
@@ -78,32 +231,25 @@ public class RandomBrickGenerator implements BrickGenerator {
      * @return the upcoming brick
      */
     public Brick getNextBrick() {
-        return nextBricks.peek();
+        return peek(0);
     }
 
     @Override
 
     // instead of giving the next one brick, it returns the next "count" bricks
     /**
-     * Returns a preview list of the next `count` bricks.
+     * Returns a preview list of the next `count` bricks. Prefer
+     * {@link #peek(int)} on hot paths, since this allocates a list.
      *
-     * @param count number of bricks to preview
+     * @param count number of bricks to preview, at most {@link #previewCapacity()}
      * @return list of upcoming bricks
      */
-    public java.util.List<Brick> getNextBricks(int count) {
-        if (nextBricks.size() < count)
+    public List<Brick> getNextBricks(int count) {
+        int n = Math.min(count, size);
+        List<Brick> result = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
         {
-            refillBag();
-        }
-        java.util.List<Brick> result = new java.util.ArrayList<>(count);
-        int i = 0;
-        for (Brick b : nextBricks)
-        {
-            if (i++ >= count)
-            {
-                break;
-            }
-            result.add(b);
+            result.add(peek(i));
         }
         return result;
     }
@@ -1,40 +1,18 @@
 package com.comp2042.logic.bricks;
 
-import com.comp2042.core.MatrixOperations;
-
-import java.util.ArrayList;
-import java.util.List;
-
 /**
- * Defines the S-shaped tetromino rotation states.
+ * Defines the S-shaped tetromino rotation states, backed by the shared
+ * {@link ShapeTable} entries.
  *
  * @author Eashwar
  * @version 1.0
  */
-final class SBrick implements Brick {
-
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+final class SBrick extends TableBrick {
 
     /**
-     * Initializes the rotation matrices for the S-shaped brick.
+     * Creates the S-shaped brick.
      */
     public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-    }
-
-    @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+        super(ShapeTable.S);
     }
 }
@@ -0,0 +1,134 @@
+package com.comp2042.logic.bricks;
+
+import com.comp2042.core.MatrixOperations;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Shared, precomputed table of every tetromino rotation state, indexed by
+ * piece id and rotation. The matrices are created once and handed out
+ * without copying, so callers must treat them as read-only.
+ * Piece ids follow the 7-bag order; the colour code of a piece is its id plus one.
+ * Rotations are listed counterclockwise, and every piece but O has four.
+ * For I, S and Z opposite rotations are the same shape one cell apart, and
+ * the legacy rotation only uses their first two.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ShapeTable {
+
+    public static final int I = 0;
+    public static final int J = 1;
+    public static final int L = 2;
+    public static final int O = 3;
+    public static final int S = 4;
+    public static final int T = 5;
+    public static final int Z = 6;
+    public static final int PIECE_COUNT = 7;
+
+    // the empty 4x4 matrix shown for an empty hold slot
+    private static final int[][] EMPTY = new int[4][4];
+
+    private static final int[][][][] SHAPES = {
+            { // I
+                    {{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 1, 0, 0}, {0, 1, 0, 0}, {0, 1, 0, 0}, {0, 1, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}},
+                    {{0, 0, 1, 0}, {0, 0, 1, 0}, {0, 0, 1, 0}, {0, 0, 1, 0}}
+            },
+            { // J
+                    {{0, 0, 0, 0}, {2, 2, 2, 0}, {0, 0, 2, 0}, {0, 0, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 2, 2, 0}, {0, 2, 0, 0}, {0, 2, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 2, 0, 0}, {0, 2, 2, 2}, {0, 0, 0, 0}},
+                    {{0, 0, 2, 0}, {0, 0, 2, 0}, {0, 2, 2, 0}, {0, 0, 0, 0}}
+            },
+            { // L
+                    {{0, 0, 0, 0}, {0, 3, 3, 3}, {0, 3, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 3, 3, 0}, {0, 0, 3, 0}, {0, 0, 3, 0}},
+                    {{0, 0, 0, 0}, {0, 0, 3, 0}, {3, 3, 3, 0}, {0, 0, 0, 0}},
+                    {{0, 3, 0, 0}, {0, 3, 0, 0}, {0, 3, 3, 0}, {0, 0, 0, 0}}
+            },
+            { // O
+                    {{0, 0, 0, 0}, {0, 4, 4, 0}, {0, 4, 4, 0}, {0, 0, 0, 0}}
+            },
+            { // S
+                    {{0, 0, 0, 0}, {0, 5, 5, 0}, {5, 5, 0, 0}, {0, 0, 0, 0}},
+                    {{5, 0, 0, 0}, {5, 5, 0, 0}, {0, 5, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 0, 0, 0}, {0, 5, 5, 0}, {5, 5, 0, 0}},
+                    {{0, 5, 0, 0}, {0, 5, 5, 0}, {0, 0, 5, 0}, {0, 0, 0, 0}}
+            },
+            { // T
+                    {{0, 0, 0, 0}, {6, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 6, 0, 0}, {0, 6, 6, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 6, 0, 0}, {6, 6, 0, 0}, {0, 6, 0, 0}, {0, 0, 0, 0}}
+            },
+            { // Z
+                    {{0, 0, 0, 0}, {7, 7, 0, 0}, {0, 7, 7, 0}, {0, 0, 0, 0}},
+                    {{0, 7, 0, 0}, {7, 7, 0, 0}, {7, 0, 0, 0}, {0, 0, 0, 0}},
+                    {{0, 0, 0, 0}, {0, 0, 0, 0}, {7, 7, 0, 0}, {0, 7, 7, 0}},
+                    {{0, 0, 7, 0}, {0, 7, 7, 0}, {0, 7, 0, 0}, {0, 0, 0, 0}}
+            }
+    };
+
+    /**
+     * Prevents instantiation of utility class.
+     */
+    private ShapeTable() {}
+
+    /**
+     * Returns the shared matrix for a piece rotation. The matrix is not a
+     * copy and must not be modified.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @return the read-only shape matrix
+     */
+    public static int[][] shape(int piece, int rotation) {
+        return SHAPES[piece][rotation];
+    }
+
+    /**
+     * Reads one cell of a piece rotation.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param row row within the 4x4 shape
+     * @param col column within the 4x4 shape
+     * @return the colour code of the cell, or 0 when empty
+     */
+    public static int cell(int piece, int rotation, int row, int col) {
+        return SHAPES[piece][rotation][row][col];
+    }
+
+    /**
+     * Returns a shared empty 4x4 matrix. The matrix is not a copy and must
+     * not be modified.
+     *
+     * @return the read-only empty matrix
+     */
+    public static int[][] empty() {
+        return EMPTY;
+    }
+
+    public static int rotationCount(int piece) {
+        return SHAPES[piece].length;
+    }
+
+    public static int colour(int piece) {
+        return piece + 1;
+    }
+
+    /**
+     * Creates a deep copy of every rotation of a piece, for callers that
+     * need their own mutable matrices.
+     *
+     * @param piece piece id
+     * @return a new list of copied rotation matrices
+     */
+    public static List<int[][]> copyOf(int piece) {
+        return MatrixOperations.deepCopyList(Arrays.asList(SHAPES[piece]));
+    }
+}
@@ -0,0 +1,64 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * The SplitMix64 generator behind {@link java.util.SplittableRandom}, with its
+ * single word of state exposed so a brick sequence can be snapshotted and
+ * resumed exactly.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+final class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    SplitMix64(long state) {
+        this.state = state;
+    }
+
+    long getState() {
+        return state;
+    }
+
+    long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the next 32-bit value, mixed the way
+     * {@link java.util.SplittableRandom#nextInt()} mixes it.
+     *
+     * @return the next value
+     */
+    int nextInt() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Returns a uniformly distributed value in [0, bound), drawn exactly as
+     * {@link java.util.SplittableRandom#nextInt(int)} draws it, so a seed
+     * gives the same bricks as it did before the state was exposed.
+     *
+     * @param bound the exclusive upper bound, positive
+     * @return the next value
+     */
+    int nextInt(int bound) {
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // reject the values that would bias the modulo
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            // retry
+        }
+        return r;
+    }
+}
@@ -0,0 +1,45 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * Base for the built-in bricks, adapting the {@link Brick} contract onto the
+ * shared {@link ShapeTable}. Read-only lookups never copy; the legacy
+ * {@link #getShapeMatrix()} still returns fresh copies.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+abstract class TableBrick implements Brick {
+
+    private final int piece;
+
+    /**
+     * Creates a brick backed by the table entries of the given piece.
+     *
+     * @param piece piece id in the shape table
+     */
+    TableBrick(int piece) {
+        this.piece = piece;
+    }
+
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return ShapeTable.copyOf(piece);
+    }
+
+    @Override
+    public int[][] getShape(int rotation) {
+        return ShapeTable.shape(piece, rotation);
+    }
+
+    @Override
+    public int getRotationCount() {
+        return ShapeTable.rotationCount(piece);
+    }
+
+    @Override
+    public int getPieceId() {
+        return piece;
+    }
+}
@@ -0,0 +1,314 @@
+package com.comp2042.logic.workflow;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.comp2042.core.Constants;
+import com.comp2042.metrics.GameMetrics;
+import com.comp2042.metrics.HighScoreWriteEvent;
+
+/**
+ * Write-behind persistence for the per-mode high scores. Updates only replace
+ * the pending values in memory; a background thread writes the latest values
+ * on a timer, on request after a game over, and on close. Each write holds a
+ * lock file, merges with what is on disk so the higher score wins, and
+ * replaces the file atomically through a temporary file, so two running
+ * instances cannot corrupt it. Every write is recorded as a flight recorder
+ * {@link HighScoreWriteEvent} and timed in the {@link GameMetrics}.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class HighScoreStore implements AutoCloseable {
+
+    /**
+     * Immutable high scores for the three game modes.
+     */
+    public static final class Values {
+        private final int normal;
+        private final int timed;
+        private final int bottomsUp;
+
+        public Values(int normal, int timed, int bottomsUp) {
+            this.normal = normal;
+            this.timed = timed;
+            this.bottomsUp = bottomsUp;
+        }
+
+        public int getNormal() { return normal; }
+        public int getTimed() { return timed; }
+        public int getBottomsUp() { return bottomsUp; }
+
+        /**
+         * Combines two sets of values, keeping the higher score of each mode.
+         *
+         * @param other the values to combine with
+         * @return the per-mode maximum
+         */
+        public Values max(Values other) {
+            return new Values(Math.max(normal, other.normal), Math.max(timed, other.timed), Math.max(bottomsUp, other.bottomsUp));
+        }
+    }
+
+    private static final Values EMPTY = new Values(0, 0, 0);
+
+    // locks held by this JVM are per process, so flushes from every store are serialised here first
+    private static final Object IO_LOCK = new Object();
+
+    private static HighScoreStore defaultStore;
+
+    private final Path path;
+    private final Path tempPath;
+    private final Path lockPath;
+    private final AtomicReference<Values> pending = new AtomicReference<>();
+    private final ScheduledExecutorService writer;
+
+    /**
+     * Creates a store for the given file, flushing every
+     * {@link Constants#HIGHSCORE_FLUSH_MS} milliseconds.
+     *
+     * @param path the high score file
+     */
+    public HighScoreStore(Path path) {
+        this.path = path;
+        this.tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        this.lockPath = path.resolveSibling(path.getFileName() + ".lock");
+        writer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "highscore-writer");
+            t.setDaemon(true);
+            return t;
+        });
+        writer.scheduleWithFixedDelay(this::flushQuietly,
+                Constants.HIGHSCORE_FLUSH_MS, Constants.HIGHSCORE_FLUSH_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the shared store for {@link Constants#HIGHSCORE_FILE}.
+     *
+     * @return the default store
+     */
+    public static synchronized HighScoreStore getDefault() {
+        if (defaultStore == null)
+        {
+            defaultStore = new HighScoreStore(Paths.get(Constants.HIGHSCORE_FILE));
+        }
+        return defaultStore;
+    }
+
+    /**
+     * Reads the stored high scores, including values still waiting to be written.
+     *
+     * @return the stored values, or zeros if there is no readable file
+     */
+    public Values load() {
+        Values stored;
+        synchronized (IO_LOCK)
+        {
+            try (FileChannel channel = openLock())
+            {
+                FileLock lock = channel.lock();
+                try
+                {
+                    stored = read();
+                }
+                finally
+                {
+                    lock.release();
+                }
+            }
+            catch (IOException e)
+            {
+                stored = EMPTY;
+            }
+        }
+        Values waiting = pending.get();
+        return waiting == null ? stored : stored.max(waiting);
+    }
+
+    /**
+     * Queues new values for writing. Only the latest values are kept, so
+     * repeated updates between flushes cost a single write.
+     *
+     * @param values the current high scores
+     */
+    public void submit(Values values) {
+        pending.set(values);
+    }
+
+    /**
+     * Asks the background thread to write pending values now, without waiting.
+     */
+    public void flushAsync() {
+        if (!writer.isShutdown())
+        {
+            writer.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Writes pending values on the calling thread.
+     *
+     * @throws IOException if the file cannot be written; the values stay pending
+     */
+    public void flush() throws IOException {
+        Values values = pending.getAndSet(null);
+        if (values == null)
+        {
+            return;
+        }
+        try
+        {
+            write(values);
+        }
+        catch (IOException e)
+        {
+            // keep them for the next attempt unless newer values arrived meanwhile
+            pending.compareAndSet(null, values);
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the background thread and writes any pending values.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try
+        {
+            writer.awaitTermination(Constants.HIGHSCORE_FLUSH_MS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try
+        {
+            flush();
+        }
+        catch (IOException ignored) {}
+    }
+
+    /**
+     * Merges the values with the file under the lock and replaces it atomically.
+     *
+     * @param values values to write
+     * @throws IOException if the file cannot be written
+     */
+    private void write(Values values) throws IOException {
+        long start = System.nanoTime();
+        HighScoreWriteEvent event = new HighScoreWriteEvent();
+        event.begin();
+        event.normal = values.normal;
+        event.timed = values.timed;
+        event.bottomsUp = values.bottomsUp;
+        try
+        {
+            writeLocked(values);
+            event.succeeded = true;
+        }
+        finally
+        {
+            event.commit();
+            GameMetrics.getDefault().highScoreWritten(System.nanoTime() - start);
+        }
+    }
+
+    // the part of a write the flight recorder event times
+    private void writeLocked(Values values) throws IOException {
+        synchronized (IO_LOCK)
+        {
+            try (FileChannel channel = openLock())
+            {
+                FileLock lock = channel.lock();
+                try
+                {
+                    replace(values);
+                }
+                finally
+                {
+                    lock.release();
+                }
+            }
+        }
+    }
+
+    // merges with the file and swaps the result in; the caller holds the lock
+    private void replace(Values values) throws IOException {
+        // another instance may have written a higher score since we loaded
+        Values merged = values.max(read());
+        String content = "normal=" + merged.normal + "\n" + "timed=" + merged.timed + "\n" + "bottomsUp=" + merged.bottomsUp + "\n";
+        Files.writeString(tempPath, content);
+        try
+        {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private FileChannel openLock() throws IOException {
+        return FileChannel.open(lockPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    // loop to check game mode and assign high score accordingly
+    /**
+     * Parses the high score file, accepting the per-mode and the older single-value format.
+     *
+     * @return the values in the file, or zeros if missing or unreadable
+     */
+    private Values read() {
+        if (!Files.exists(path))
+        {
+            return EMPTY;
+        }
+        int normal = 0;
+        int timed = 0;
+        int bottomsUp = 0;
+        try
+        {
+            String s = Files.readString(path).trim();
+            if (s.contains("="))
+            {
+                for (String line : s.split("\\r?\\n"))
+                {
+                    String[] kv = line.split("=");
+                    if (kv.length == 2)
+                    {
+                        String key = kv[0].trim();
+                        int val = Integer.parseInt(kv[1].trim());
+                        if ("normal".equalsIgnoreCase(key)) normal = val;
+                        if ("timed".equalsIgnoreCase(key)) timed = val;
+                        if ("bottomsUp".equalsIgnoreCase(key) || "bottoms_up".equalsIgnoreCase(key)) bottomsUp = val;
+                    }
+                }
+            }
+            else if (!s.isEmpty())
+            {
+                normal = Integer.parseInt(s);
+            }
+        }
+        catch (Exception e)
+        {
+            return EMPTY;
+        }
+        return new Values(normal, timed, bottomsUp);
+    }
+}
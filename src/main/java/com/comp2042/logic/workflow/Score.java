@@ -1,19 +1,15 @@
 package com.comp2042.logic.workflow;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import com.comp2042.core.Constants;
 import com.comp2042.core.GameModeHandler.GameMode;
+import com.comp2042.engine.ScoreTracker;
 
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
 /**
- * Tracks score, high scores per mode, lines cleared, and level progression.
- * Handles loading and saving high scores from a file.
+ * JavaFX view of a {@link ScoreTracker}: mirrors its values into properties
+ * for binding, keeps the high score of each mode, and loads and saves high
+ * scores through a {@link HighScoreStore}. The scoring rules live in the tracker.
  *
  * @author Eashwar
  * @version 1.0
@@ -24,16 +20,46 @@ public final class Score {
     private final IntegerProperty highScore = new SimpleIntegerProperty(0);
     private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
     private final IntegerProperty level = new SimpleIntegerProperty(1);
+    private final ScoreTracker tracker;
+    private final HighScoreStore store;
     private GameMode mode = GameMode.NORMAL;
     private int highNormal = 0; // seperate high scores for each game mode
     private int highTimed = 0;
     private int highBottomsUp = 0;
 
     /**
-     * Initializes score state and loads persisted high scores.
+     * Initializes score state on its own tracker and loads persisted high scores.
      */
     public Score() {
+        this(new ScoreTracker());
+    }
+
+    /**
+     * Observes the given tracker and loads persisted high scores into it
+     * from the default store.
+     *
+     * @param tracker the engine score state to mirror
+     */
+    public Score(ScoreTracker tracker) {
+        this(tracker, HighScoreStore.getDefault());
+    }
+
+    /**
+     * Observes the given tracker, loading and saving high scores through the given store.
+     *
+     * @param tracker the engine score state to mirror
+     * @param store where high scores are persisted
+     */
+    public Score(ScoreTracker tracker, HighScoreStore store) {
+        this.tracker = tracker;
+        this.store = store;
         loadHighScore();
+        tracker.addListener(this::sync);
+        tracker.setHighScore(highNormal);
+    }
+
+    public ScoreTracker getTracker() {
+        return tracker;
     }
 
     public IntegerProperty scoreProperty() {
@@ -57,11 +83,11 @@ public final class Score {
     public void setMode(GameMode mode) {
         this.mode = mode;
         if (mode == GameMode.NORMAL) {
-            highScore.setValue(highNormal);
+            tracker.setHighScore(highNormal);
         } else if (mode == GameMode.TIMED) {
-            highScore.setValue(highTimed);
+            tracker.setHighScore(highTimed);
         } else {
-            highScore.setValue(highBottomsUp);
+            tracker.setHighScore(highBottomsUp);
         }
     }
 
@@ -70,36 +96,19 @@ public final class Score {
     }
 
     /**
-     * Adds points to the score and updates high scores per mode when exceeded.
-     * Persists new high score values.
+     * Adds points to the score; the high score follows when exceeded.
      *
      * @param i points to add
      */
     public void add(int i){
-
-        score.setValue(score.getValue() + i);
-        //compare and save high score
-        if (score.getValue() > highScore.getValue())
-        {
-            highScore.setValue(score.getValue());
-            if (mode == GameMode.NORMAL) {
-                highNormal = highScore.get();
-            } else if (mode == GameMode.TIMED) {
-                highTimed = highScore.get();
-            } else {
-                highBottomsUp = highScore.get();
-            }
-            saveHighScore();
-        }
+        tracker.add(i);
     }
 
     /**
      * Resets score, lines cleared, and level to initial values.
      */
     public void reset() {
-        score.setValue(0);
-        linesCleared.setValue(0);
-        level.setValue(1);
+        tracker.reset();
     }
 
     /**
@@ -108,65 +117,69 @@ public final class Score {
      * @param lines number of lines cleared
      */
     public void addLines(int lines) {
-        if (lines <= 0) return;
-        int total = linesCleared.get() + lines;
-        linesCleared.set(total);
-        int newLevel = 1 + (total / Constants.LINES_PER_LEVEL);
-        if (newLevel != level.get()) level.set(newLevel);
+        tracker.addLines(lines);
     }
 
-    // load high score from the .txt file
+    // copies tracker values into the properties
+    // compare and save high score
     /**
-     * Loads high score values from the configured file.
+     * Mirrors the tracker into the bound properties, storing and persisting
+     * the high score of the current mode when it was beaten.
+     *
+     * @param t the tracker that changed
      */
-    private void loadHighScore() {
-        Path path = Paths.get(Constants.HIGHSCORE_FILE);
-        if (Files.exists(path))
+    private void sync(ScoreTracker t) {
+        score.set(t.getScore());
+        linesCleared.set(t.getLinesCleared());
+        level.set(t.getLevel());
+        int high = t.getHighScore();
+        if (high > currentModeHigh())
         {
-            try
-            {
-                // loop to check game mode and assign high score accoridngly
-                String s = Files.readString(path).trim();
-                if (!s.isEmpty())
-                {
-                    if (s.contains("="))
-                    {
-                        String[] lines = s.split("\\r?\\n");
-                        for (String line : lines)
-                        {
-                            String[] kv = line.split("=");
-                            if (kv.length == 2)
-                            {
-                                String key = kv[0].trim();
-                                int val = Integer.parseInt(kv[1].trim());
-                                if ("normal".equalsIgnoreCase(key)) highNormal = val;
-                                if ("timed".equalsIgnoreCase(key)) highTimed = val;
-                                if ("bottomsUp".equalsIgnoreCase(key) || "bottoms_up".equalsIgnoreCase(key)) highBottomsUp = val;
-                            }
-                        }
-                    }
-                    else
-                    {
-                        int val = Integer.parseInt(s);
-                        highNormal = val;
-                    }
-                    highScore.setValue(highNormal);
-                }
+            if (mode == GameMode.NORMAL) {
+                highNormal = high;
+            } else if (mode == GameMode.TIMED) {
+                highTimed = high;
+            } else {
+                highBottomsUp = high;
             }
-            catch (Exception ignored) {}
+            saveHighScore();
+        }
+        highScore.set(high);
+    }
+
+    private int currentModeHigh() {
+        if (mode == GameMode.NORMAL) {
+            return highNormal;
+        } else if (mode == GameMode.TIMED) {
+            return highTimed;
         }
+        return highBottomsUp;
     }
 
-    // write new high score into the .txt file
+    // load high score from the .txt file
+    /**
+     * Loads high score values from the store.
+     */
+    private void loadHighScore() {
+        HighScoreStore.Values values = store.load();
+        highNormal = values.getNormal();
+        highTimed = values.getTimed();
+        highBottomsUp = values.getBottomsUp();
+    }
+
+    // writing is left to the store's background thread, so a record run
+    // no longer touches the disk on every point
     /**
-     * Persists high score values to the configured file.
+     * Queues the current high score values for writing.
      */
     private void saveHighScore() {
-        Path path = Paths.get(Constants.HIGHSCORE_FILE);
-        try
-        {
-            String content = "normal=" + highNormal + "\n" + "timed=" + highTimed + "\n" + "bottomsUp=" + highBottomsUp + "\n";
-            Files.writeString(path, content);
-        } catch (IOException ignored) {}
+        store.submit(new HighScoreStore.Values(highNormal, highTimed, highBottomsUp));
+    }
+
+    /**
+     * Asks the store to write queued high scores now, for example at game over.
+     */
+    public void flushHighScores() {
+        store.flushAsync();
     }
 }
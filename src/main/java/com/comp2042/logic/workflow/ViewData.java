@@ -3,19 +3,31 @@ package com.comp2042.logic.workflow;
 import com.comp2042.core.MatrixOperations;
 
 /**
- * Snapshot of the current view state including active brick, position,
- * preview bricks, and held brick.
+ * Immutable snapshot of the current view state including active brick,
+ * position, preview bricks, and held brick. The matrices are shared with
+ * the board's shape tables rather than copied, so building a snapshot and
+ * reading it through the cell accessors costs nothing; the shared matrices
+ * never leave this class, and the getters hand out copies for callers that
+ * want their own. The preview version changes whenever the preview or hold
+ * does, so renderers can skip redrawing them in between.
  *
  * @author Eashwar
  * @version 1.0
  */
 public final class ViewData {
 
+    // marks view data built without a known landing row
+    public static final int NO_LANDING = Integer.MIN_VALUE;
+    // marks view data whose preview may differ from any earlier one
+    public static final long NO_VERSION = -1L;
+
     private final int[][] brickData;
     private final int xPosition;
     private final int yPosition;
     private final int[][][] nextBrickData;  //updated to hold 3 next bricks
     private final int[][] holdBrickData; // only brick can be help and swapped so 2d array
+    private final int landingY;
+    private final long previewVersion;
 
     /**
      * Creates view data with brick and preview information.
@@ -27,17 +39,69 @@ public final class ViewData {
      * @param holdBrickData matrix for the held brick
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][][] nextBrickData, int[][] holdBrickData) {
+        this(brickData, xPosition, yPosition, nextBrickData, holdBrickData, NO_LANDING);
+    }
+
+    /**
+     * Creates view data that also carries the active brick's landing row.
+     *
+     * @param brickData the active brick matrix
+     * @param xPosition brick x-position
+     * @param yPosition brick y-position
+     * @param nextBrickData preview matrices for upcoming bricks
+     * @param holdBrickData matrix for the held brick
+     * @param landingY y-position the brick would land on, or {@link #NO_LANDING}
+     */
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][][] nextBrickData, int[][] holdBrickData, int landingY) {
+        this(brickData, xPosition, yPosition, nextBrickData, holdBrickData, landingY, NO_VERSION);
+    }
+
+    /**
+     * Creates view data without copying. The matrices are kept as given and
+     * must not be modified afterwards; boards pass their shared shape tables
+     * and a preview array they never change once handed out.
+     *
+     * @param brickData the active brick matrix
+     * @param xPosition brick x-position
+     * @param yPosition brick y-position
+     * @param nextBrickData preview matrices for upcoming bricks
+     * @param holdBrickData matrix for the held brick
+     * @param landingY y-position the brick would land on, or {@link #NO_LANDING}
+     * @param previewVersion changes whenever the preview or hold changes, or {@link #NO_VERSION}
+     */
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][][] nextBrickData, int[][] holdBrickData,
+                    int landingY, long previewVersion) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
         this.holdBrickData = holdBrickData;
+        this.landingY = landingY;
+        this.previewVersion = previewVersion;
     }
 
+    /**
+     * Returns a copy of the active brick matrix. Prefer
+     * {@link #brickCell(int, int)} to read it.
+     *
+     * @return a new matrix
+     */
     public int[][] getBrickData() {
         return MatrixOperations.copy(brickData);
     }
 
+    public int brickCell(int row, int col) {
+        return brickData[row][col];
+    }
+
+    public int getBrickHeight() {
+        return brickData.length;
+    }
+
+    public int getBrickWidth() {
+        return brickData[0].length;
+    }
+
     public int getxPosition() {
         return xPosition;
     }
@@ -46,6 +110,35 @@ public final class ViewData {
         return yPosition;
     }
 
+    public int getLandingY() {
+        return landingY;
+    }
+
+    public long getPreviewVersion() {
+        return previewVersion;
+    }
+
+    /**
+     * Checks whether another snapshot shows the same active brick in the same
+     * rotation, so a cache built from its cells is still valid.
+     *
+     * @param other an earlier snapshot, or null
+     * @return true if both share the active brick matrix
+     */
+    public boolean sameBrick(ViewData other) {
+        return other != null && brickData == other.brickData;
+    }
+
+    /**
+     * Checks whether another snapshot is known to show the same preview and hold.
+     *
+     * @param other an earlier snapshot, or null
+     * @return true if both carry the same preview version
+     */
+    public boolean samePreview(ViewData other) {
+        return other != null && previewVersion != NO_VERSION && previewVersion == other.previewVersion;
+    }
+
     // changed the method to get next brick data
     // updated it from holding the structure of the next brick as a 2d array
     // to holding a queue of the next 3 next bricks as 2 arrays
@@ -59,8 +152,44 @@ public final class ViewData {
 
     }
 
+    public int getPreviewCount() {
+        return nextBrickData.length;
+    }
+
+    /**
+     * Reads one cell of an upcoming brick.
+     *
+     * @param index position in the preview, next first
+     * @param row row in the brick matrix
+     * @param col column in the brick matrix
+     * @return the cell's colour code, 0 if empty
+     */
+    public int nextCell(int index, int row, int col) {
+        return nextBrickData[index][row][col];
+    }
+
+    public int getNextHeight(int index) {
+        return nextBrickData[index].length;
+    }
+
+    public int getNextWidth(int index) {
+        return nextBrickData[index][0].length;
+    }
+
     public int[][] getHoldBrickData() {
 
         return MatrixOperations.copy(holdBrickData);
     }
+
+    public int holdCell(int row, int col) {
+        return holdBrickData[row][col];
+    }
+
+    public int getHoldHeight() {
+        return holdBrickData.length;
+    }
+
+    public int getHoldWidth() {
+        return holdBrickData[0].length;
+    }
 }
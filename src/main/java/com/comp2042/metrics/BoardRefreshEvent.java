@@ -0,0 +1,29 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for repainting the landed blocks.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.BoardRefresh")
+@Label("Board Refresh")
+@Category({"Tetris", "Rendering"})
+@Description("The background cells were repainted")
+@StackTrace(false)
+public final class BoardRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Cells")
+    @Description("Cells repainted")
+    public int cells;
+
+    @Label("Full")
+    @Description("Whether the whole board was repainted")
+    public boolean full;
+}
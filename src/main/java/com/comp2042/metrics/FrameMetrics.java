@@ -0,0 +1,297 @@
+package com.comp2042.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.comp2042.core.Constants;
+
+/**
+ * Collects per-frame timings of the game: the time spent in game logic and
+ * in rendering during each frame, the time between frames, and the latency
+ * from a key press to the first frame drawn after it, as well as how long
+ * each FX pulse takes and how much the FX thread allocates per frame.
+ * Logic and render time are summed over a frame and recorded when the
+ * frame ends with {@link #pulse}, so a histogram holds one value per frame
+ * that did that kind of work.
+ * <p>
+ * The timing calls are made on the FX thread; the histograms may be read
+ * from any thread.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class FrameMetrics {
+
+    private static FrameMetrics defaultMetrics;
+
+    private final LatencyHistogram frames = new LatencyHistogram();
+    private final LatencyHistogram logic = new LatencyHistogram();
+    private final LatencyHistogram render = new LatencyHistogram();
+    private final LatencyHistogram input = new LatencyHistogram();
+    private final LatencyHistogram pulses = new LatencyHistogram();
+
+    // bytes allocated by the FX thread between pulses, when the JVM can count them
+    private final com.sun.management.ThreadMXBean threads = allocationCounter();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong allocatedFrames = new AtomicLong();
+    private final AtomicLong peakAllocatedBytes = new AtomicLong();
+    private long lastAllocated = -1;
+
+    // work done in the frame so far, and where the logic being timed started
+    private long frameLogic;
+    private long frameRender;
+    private long renderAtLogicStart;
+    private long lastPulse;
+    private long pulseStart;
+    // the oldest key press not yet on screen, 0 if none
+    private long pendingInput;
+
+    /**
+     * Creates metrics with nothing recorded. The game itself records into
+     * {@link #getDefault()}.
+     */
+    public FrameMetrics() {
+    }
+
+    /**
+     * Returns the metrics shared by the game's controllers and renderers.
+     *
+     * @return the default metrics
+     */
+    public static synchronized FrameMetrics getDefault() {
+        if (defaultMetrics == null)
+        {
+            defaultMetrics = new FrameMetrics();
+        }
+        return defaultMetrics;
+    }
+
+    /**
+     * Starts timing a piece of game logic.
+     *
+     * @return the start time to hand to {@link #endLogic}
+     */
+    public long beginLogic() {
+        renderAtLogicStart = frameRender;
+        return System.nanoTime();
+    }
+
+    /**
+     * Adds the logic time since {@link #beginLogic} to the frame. Rendering
+     * done by the logic in the meantime is left to the render time.
+     *
+     * @param start the value returned by {@link #beginLogic}
+     */
+    public void endLogic(long start) {
+        frameLogic += System.nanoTime() - start - (frameRender - renderAtLogicStart);
+    }
+
+    /**
+     * Adds the render time since the given start to the frame.
+     *
+     * @param start a {@link System#nanoTime} taken when the rendering began
+     */
+    public void endRender(long start) {
+        frameRender += System.nanoTime() - start;
+    }
+
+    /**
+     * Notes a key press. Only the oldest press not yet shown is kept, so
+     * presses within one frame are measured from the first.
+     *
+     * @param now the time the press was received
+     */
+    public void inputReceived(long now) {
+        if (pendingInput == 0)
+        {
+            pendingInput = now;
+        }
+    }
+
+    /**
+     * Notes the start of a pulse, so {@link #pulse} can time it.
+     *
+     * @param now the pulse time given to animation timers
+     */
+    public void pulseStarted(long now) {
+        pulseStart = now;
+    }
+
+    /**
+     * Ends the frame being drawn: records its logic and render time, the
+     * time since the last frame, the latency of any key press waiting for
+     * it, and how long the pulse took since {@link #pulseStarted}. Gaps
+     * longer than {@link Constants#MAX_FRAME_NANOS} are idle time rather
+     * than slow frames and are not recorded; frames longer than
+     * {@link Constants#SLOW_FRAME_NANOS} are also sent to the flight
+     * recorder as a {@link SlowFrameEvent}.
+     *
+     * @param now the frame time
+     */
+    public void pulse(long now) {
+        if (lastPulse != 0 && now - lastPulse <= Constants.MAX_FRAME_NANOS)
+        {
+            frames.record(now - lastPulse);
+            if (now - lastPulse > Constants.SLOW_FRAME_NANOS)
+            {
+                SlowFrameEvent.emit(now - lastPulse, frameLogic, frameRender);
+            }
+        }
+        lastPulse = now;
+        if (frameLogic > 0) logic.record(frameLogic);
+        if (frameRender > 0) render.record(frameRender);
+        frameLogic = 0;
+        frameRender = 0;
+        if (pendingInput != 0)
+        {
+            input.record(now - pendingInput);
+            pendingInput = 0;
+        }
+        if (pulseStart != 0)
+        {
+            pulses.record(now - pulseStart);
+            pulseStart = 0;
+        }
+        recordAllocation();
+    }
+
+    // the FX thread's allocation since the last pulse
+    private void recordAllocation() {
+        if (threads == null)
+        {
+            return;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes();
+        if (allocated < 0)
+        {
+            return;
+        }
+        if (lastAllocated >= 0)
+        {
+            long bytes = allocated - lastAllocated;
+            allocatedBytes.addAndGet(bytes);
+            allocatedFrames.incrementAndGet();
+            peakAllocatedBytes.accumulateAndGet(bytes, Math::max);
+        }
+        lastAllocated = allocated;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported())
+        {
+            return counter;
+        }
+        return null;
+    }
+
+    public LatencyHistogram getFrames() { return frames; }
+    public LatencyHistogram getLogic() { return logic; }
+    public LatencyHistogram getRender() { return render; }
+    public LatencyHistogram getInput() { return input; }
+    public LatencyHistogram getPulses() { return pulses; }
+
+    /**
+     * Returns the mean number of bytes the FX thread allocated per frame.
+     *
+     * @return bytes per frame, or 0 if allocation cannot be measured
+     */
+    public long getAllocatedBytesPerFrame() {
+        long n = allocatedFrames.get();
+        return n == 0 ? 0L : allocatedBytes.get() / n;
+    }
+
+    public long getPeakAllocatedBytesPerFrame() {
+        return peakAllocatedBytes.get();
+    }
+
+    /**
+     * Forgets every recording.
+     */
+    public void reset() {
+        frames.reset();
+        logic.reset();
+        render.reset();
+        input.reset();
+        pulses.reset();
+        allocatedBytes.set(0L);
+        allocatedFrames.set(0L);
+        peakAllocatedBytes.set(0L);
+    }
+
+    /**
+     * Describes the recordings in a few lines, one per histogram, with the
+     * 50th and 99th percentiles and the maximum in milliseconds.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        line(sb, "frame", frames);
+        line(sb, "logic", logic);
+        line(sb, "render", render);
+        line(sb, "input", input);
+        line(sb, "pulse", pulses);
+        return sb.toString();
+    }
+
+    /**
+     * Writes the summary and the percentile distribution of every histogram
+     * to a new file in the given directory, creating it when needed.
+     *
+     * @param directory where to write the file
+     * @return the file written
+     * @throws IOException if the file cannot be written
+     */
+    public Path dump(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("metrics-%d.txt", System.currentTimeMillis()));
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+        {
+            out.write(summary());
+            distribution(out, "frame", frames);
+            distribution(out, "logic", logic);
+            distribution(out, "render", render);
+            distribution(out, "input", input);
+            distribution(out, "pulse", pulses);
+            out.write(String.format(Locale.ROOT, "%nallocated per frame: mean %d B, peak %d B%n",
+                    getAllocatedBytesPerFrame(), getPeakAllocatedBytesPerFrame()));
+        }
+        return file;
+    }
+
+    /**
+     * Writes the default metrics to {@link Constants#METRICS_DIR}.
+     *
+     * @return the file written
+     * @throws IOException if the file cannot be written
+     */
+    public Path dump() throws IOException {
+        return dump(Paths.get(Constants.METRICS_DIR));
+    }
+
+    private static void line(StringBuilder sb, String name, LatencyHistogram h) {
+        sb.append(String.format(Locale.ROOT, "%-6s p50 %6.2f  p99 %6.2f  max %6.2f ms  (%d)%n",
+                name, millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)), millis(h.getMax()), h.getCount()));
+    }
+
+    private static void distribution(Writer out, String name, LatencyHistogram h) throws IOException {
+        out.write(String.format(Locale.ROOT, "%n%s: count %d, mean %.3f ms%n", name, h.getCount(), millis(h.getMean())));
+        for (double p : Constants.METRICS_PERCENTILES)
+        {
+            out.write(String.format(Locale.ROOT, "%8.3f%%  %10.3f ms%n", p, millis(h.getValueAtPercentile(p))));
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
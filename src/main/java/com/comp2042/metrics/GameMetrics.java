@@ -0,0 +1,197 @@
+package com.comp2042.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.comp2042.core.Constants;
+
+/**
+ * Live counters of the game for monitoring over JMX: pieces and lines,
+ * their rates over the game in progress, the current gravity interval,
+ * and the pulse, allocation, and high score write timings. Frame timings
+ * come from a {@link FrameMetrics}; everything else is fed in by the
+ * controller, the loop, and the high score store. Safe to read from any
+ * thread.
+ * <p>
+ * {@link #register} only adds the bean to the platform MBean server, which
+ * local tools such as JConsole reach through the attach API. No remote
+ * connector is opened; remote access needs the usual
+ * {@code com.sun.management.jmxremote} options on the command line.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+    public static final String OBJECT_NAME = "com.comp2042:type=GameMetrics";
+
+    private static GameMetrics defaultMetrics;
+
+    private final FrameMetrics frames;
+    private final LongSupplier clock;
+    private final LatencyHistogram highScoreWrites = new LatencyHistogram();
+
+    private final AtomicLong piecesPlaced = new AtomicLong();
+    private final AtomicLong linesCleared = new AtomicLong();
+    private final AtomicLong gamesStarted = new AtomicLong();
+    // the game in progress
+    private final AtomicLong gameStart = new AtomicLong();
+    private final AtomicLong gamePieces = new AtomicLong();
+    private final AtomicLong gameLines = new AtomicLong();
+    private volatile double gravityIntervalMs;
+
+    /**
+     * Creates metrics reading frame timings from the given frame metrics.
+     *
+     * @param frames the frame metrics of the game
+     * @param clock nanosecond clock the rates are measured with
+     */
+    public GameMetrics(FrameMetrics frames, LongSupplier clock) {
+        this.frames = frames;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the metrics of the game, reading the default {@link FrameMetrics}.
+     *
+     * @return the default metrics
+     */
+    public static synchronized GameMetrics getDefault() {
+        if (defaultMetrics == null)
+        {
+            defaultMetrics = new GameMetrics(FrameMetrics.getDefault(), System::nanoTime);
+        }
+        return defaultMetrics;
+    }
+
+    /**
+     * Registers the default metrics with the platform MBean server, unless
+     * {@link Constants#JMX_PROPERTY} is set to false.
+     * Registering again does nothing.
+     *
+     * @return true if the bean is registered
+     */
+    public static boolean register() {
+        if ("false".equalsIgnoreCase(System.getProperty(Constants.JMX_PROPERTY)))
+        {
+            return false;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try
+        {
+            server.registerMBean(getDefault(), new ObjectName(OBJECT_NAME));
+            return true;
+        }
+        catch (InstanceAlreadyExistsException e)
+        {
+            return true;
+        }
+        catch (JMException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Starts measuring the rates of a new game.
+     */
+    public void gameStarted() {
+        gameStart.set(clock.getAsLong());
+        gamePieces.set(0L);
+        gameLines.set(0L);
+        gamesStarted.incrementAndGet();
+    }
+
+    /**
+     * Counts a locked piece and the lines it cleared.
+     *
+     * @param lines rows removed by the lock
+     */
+    public void pieceLocked(int lines) {
+        piecesPlaced.incrementAndGet();
+        gamePieces.incrementAndGet();
+        if (lines > 0)
+        {
+            linesCleared.addAndGet(lines);
+            gameLines.addAndGet(lines);
+        }
+    }
+
+    public void setGravityIntervalMs(double intervalMs) {
+        this.gravityIntervalMs = intervalMs;
+    }
+
+    /**
+     * Records how long writing the high scores took.
+     *
+     * @param nanos the write time
+     */
+    public void highScoreWritten(long nanos) {
+        highScoreWrites.record(nanos);
+    }
+
+    @Override
+    public long getPiecesPlaced() { return piecesPlaced.get(); }
+
+    @Override
+    public long getLinesCleared() { return linesCleared.get(); }
+
+    @Override
+    public long getGamesStarted() { return gamesStarted.get(); }
+
+    @Override
+    public double getLinesPerMinute() {
+        return gameLines.get() / Math.max(gameSeconds(), 1e-9) * 60.0;
+    }
+
+    @Override
+    public double getPiecesPerSecond() {
+        return gamePieces.get() / Math.max(gameSeconds(), 1e-9);
+    }
+
+    @Override
+    public double getGravityIntervalMs() { return gravityIntervalMs; }
+
+    @Override
+    public double getAveragePulseMs() { return millis(frames.getPulses().getMean()); }
+
+    @Override
+    public double getPeakPulseMs() { return millis(frames.getPulses().getMax()); }
+
+    @Override
+    public long getAllocatedBytesPerFrame() { return frames.getAllocatedBytesPerFrame(); }
+
+    @Override
+    public long getPeakAllocatedBytesPerFrame() { return frames.getPeakAllocatedBytesPerFrame(); }
+
+    @Override
+    public double getAverageHighScorePersistMs() { return millis(highScoreWrites.getMean()); }
+
+    @Override
+    public double getPeakHighScorePersistMs() { return millis(highScoreWrites.getMax()); }
+
+    @Override
+    public void reset() {
+        piecesPlaced.set(0L);
+        linesCleared.set(0L);
+        gamesStarted.set(0L);
+        highScoreWrites.reset();
+        frames.reset();
+    }
+
+    // zero before the first game, so the rates stay zero
+    private double gameSeconds() {
+        long start = gameStart.get();
+        return start == 0 ? 0.0 : (clock.getAsLong() - start) / 1e9;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
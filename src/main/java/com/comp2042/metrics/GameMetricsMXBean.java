@@ -0,0 +1,41 @@
+package com.comp2042.metrics;
+
+/**
+ * Management interface of the running game, registered under
+ * {@link GameMetrics#OBJECT_NAME}. Times are in milliseconds; rates are
+ * taken over the game in progress.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public interface GameMetricsMXBean {
+
+    long getPiecesPlaced();
+
+    long getLinesCleared();
+
+    long getGamesStarted();
+
+    double getLinesPerMinute();
+
+    double getPiecesPerSecond();
+
+    double getGravityIntervalMs();
+
+    double getAveragePulseMs();
+
+    double getPeakPulseMs();
+
+    long getAllocatedBytesPerFrame();
+
+    long getPeakAllocatedBytesPerFrame();
+
+    double getAverageHighScorePersistMs();
+
+    double getPeakHighScorePersistMs();
+
+    /**
+     * Forgets every count and timing; the game in progress keeps its rates.
+     */
+    void reset();
+}
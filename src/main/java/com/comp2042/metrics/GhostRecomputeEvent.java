@@ -0,0 +1,28 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for finding and placing the ghost brick.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.GhostRecompute")
+@Label("Ghost Recompute")
+@Category({"Tetris", "Rendering"})
+@Description("The landing spot of the active brick was found and the ghost placed there")
+@StackTrace(false)
+public final class GhostRecomputeEvent extends jdk.jfr.Event {
+
+    @Label("Landing Row")
+    public int landingY;
+
+    @Label("Simulated")
+    @Description("Whether the fall was simulated because the board gave no landing row")
+    public boolean simulated;
+}
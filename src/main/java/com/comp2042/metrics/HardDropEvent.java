@@ -0,0 +1,26 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a hard drop, timed over the whole drop
+ * including the lock, clear, and next spawn.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.HardDrop")
+@Label("Hard Drop")
+@Category({"Tetris", "Gameplay"})
+@Description("The active brick was dropped straight to its landing row")
+@StackTrace(false)
+public final class HardDropEvent extends jdk.jfr.Event {
+
+    @Label("Distance")
+    @Description("Rows the brick fell")
+    public int distance;
+}
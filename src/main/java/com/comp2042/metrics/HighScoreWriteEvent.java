@@ -0,0 +1,34 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for writing the high scores to disk, timed over
+ * the locked merge and atomic replace.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.HighScoreWrite")
+@Label("High Score Write")
+@Category({"Tetris", "Persistence"})
+@Description("Pending high scores were written to the high score file")
+@StackTrace(false)
+public final class HighScoreWriteEvent extends jdk.jfr.Event {
+
+    @Label("Normal")
+    public int normal;
+
+    @Label("Timed")
+    public int timed;
+
+    @Label("Bottoms Up")
+    public int bottomsUp;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
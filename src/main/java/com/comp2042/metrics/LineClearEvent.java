@@ -0,0 +1,37 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for full rows being removed.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"Tetris", "Gameplay"})
+@Description("Full rows were removed from the board")
+@StackTrace(false)
+public final class LineClearEvent extends jdk.jfr.Event {
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * Records a clear if the event is enabled.
+     *
+     * @param rows number of rows removed
+     */
+    public static void emit(int rows) {
+        LineClearEvent event = new LineClearEvent();
+        if (event.shouldCommit()) {
+            event.rows = rows;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a brick locking into the stack.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"Tetris", "Gameplay"})
+@Description("A brick was merged into the background")
+@StackTrace(false)
+public final class PieceLockEvent extends jdk.jfr.Event {
+
+    @Label("Piece")
+    @Description("ShapeTable piece id, or -1 for bricks outside the table")
+    int piece;
+
+    @Label("Rotation")
+    int rotation;
+
+    @Label("X")
+    int x;
+
+    @Label("Y")
+    int y;
+
+    /**
+     * Records a lock if the event is enabled.
+     *
+     * @param piece piece id
+     * @param rotation rotation index
+     * @param x column offset
+     * @param y row offset
+     */
+    public static void emit(int piece, int rotation, int x, int y) {
+        PieceLockEvent event = new PieceLockEvent();
+        if (event.shouldCommit()) {
+            event.piece = piece;
+            event.rotation = rotation;
+            event.x = x;
+            event.y = y;
+            event.commit();
+        }
+    }
+}
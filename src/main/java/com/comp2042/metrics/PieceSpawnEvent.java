@@ -0,0 +1,44 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a brick entering play.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.PieceSpawn")
+@Label("Piece Spawn")
+@Category({"Tetris", "Gameplay"})
+@Description("A brick entered play at the spawn position")
+@StackTrace(false)
+public final class PieceSpawnEvent extends jdk.jfr.Event {
+
+    @Label("Piece")
+    @Description("ShapeTable piece id, or -1 for bricks outside the table")
+    int piece;
+
+    @Label("Blocked")
+    @Description("Whether the brick spawned into the stack, ending the game")
+    boolean blocked;
+
+    /**
+     * Records a spawn if the event is enabled.
+     *
+     * @param piece piece id
+     * @param blocked whether the spawn collided with the stack
+     */
+    public static void emit(int piece, boolean blocked) {
+        PieceSpawnEvent event = new PieceSpawnEvent();
+        if (event.shouldCommit()) {
+            event.piece = piece;
+            event.blocked = blocked;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for an FX pulse that came later than
+ * {@link com.comp2042.core.Constants#SLOW_FRAME_NANOS} after the one before.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+@Name("com.comp2042.SlowFrame")
+@Label("Slow Frame")
+@Category({"Tetris", "Rendering"})
+@Description("An FX pulse overran the frame budget")
+@StackTrace(false)
+public final class SlowFrameEvent extends jdk.jfr.Event {
+
+    @Label("Frame Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long frameTime;
+
+    @Label("Logic Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long logicTime;
+
+    @Label("Render Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long renderTime;
+
+    /**
+     * Records a slow frame if the event is enabled.
+     *
+     * @param frameTime time since the previous pulse
+     * @param logicTime game logic time in the frame
+     * @param renderTime render time in the frame
+     */
+    static void emit(long frameTime, long logicTime, long renderTime) {
+        SlowFrameEvent event = new SlowFrameEvent();
+        if (event.shouldCommit()) {
+            event.frameTime = frameTime;
+            event.logicTime = logicTime;
+            event.renderTime = renderTime;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.comp2042.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.RotationSystem;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+/**
+ * A recorded game: the brick sequence seed, the board size, the game mode,
+ * the rotation system, and every move event with the time it arrived, in milliseconds since the
+ * game started. Board snapshots taken every few pieces let a viewer seek
+ * without simulating from the start, see {@link ReplaySeeker}.
+ * <p>
+ * The binary form is a small header followed by one unsigned LEB128 varint
+ * per event holding the time since the previous event, the source, and the
+ * type. Most events fit in one or two bytes, so a two minute game is a few
+ * kilobytes. The snapshots follow, each tagged with the number of events
+ * played before it.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class Replay {
+
+    private static final int MAGIC = 0x5452504C; // "TRPL"
+    private static final int VERSION = 4;
+    // version 1 files have no snapshot section, versions before 3 no final score,
+    // and versions before 4 were played with the legacy rotation
+    private static final int VERSION_NO_SNAPSHOTS = 1;
+    private static final int VERSION_NO_SCORE = 2;
+    private static final int VERSION_LEGACY_ROTATION = 3;
+
+    // marks a replay that does not state its final score
+    public static final int NO_SCORE = -1;
+    private static final int TYPE_BITS = 3;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    private static final int SOURCE_BIT = 1 << TYPE_BITS;
+    private static final int DELTA_SHIFT = TYPE_BITS + 1;
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+    private static final RotationSystem[] ROTATION_SYSTEMS = RotationSystem.values();
+
+    // a ninth event type or a third source would spill into the neighbouring bits and corrupt replays
+    static {
+        if (TYPES.length > 1 << TYPE_BITS || SOURCES.length > 2) {
+            throw new IllegalStateException("Event types and sources no longer fit the replay event code; widen it and bump VERSION");
+        }
+    }
+
+    private final long seed;
+    private final int finalScore;
+    private final int mode;
+    private final RotationSystem rotationSystem;
+    private final int rows;
+    private final int cols;
+    private final byte[] events;
+    private final int[] times;
+    private final int[] snapshotEvents;
+    private final BoardSnapshot[] snapshots;
+
+    /**
+     * Creates a replay from recorded events of a game played with SRS rotation.
+     *
+     * @param seed   seed of the brick sequence
+     * @param finalScore the score the game ended with, or {@link #NO_SCORE}
+     * @param mode   ordinal of the game mode
+     * @param rows   board rows
+     * @param cols   board columns
+     * @param events event codes, one per event
+     * @param times  event times in milliseconds since the start, non-decreasing
+     * @param snapshotEvents for each snapshot, the number of events played before it, increasing
+     * @param snapshots board snapshots
+     */
+    Replay(long seed, int finalScore, int mode, int rows, int cols, byte[] events, int[] times, int[] snapshotEvents, BoardSnapshot[] snapshots) {
+        this(seed, finalScore, mode, RotationSystem.SRS, rows, cols, events, times, snapshotEvents, snapshots);
+    }
+
+    /**
+     * Creates a replay from recorded events.
+     *
+     * @param seed   seed of the brick sequence
+     * @param finalScore the score the game ended with, or {@link #NO_SCORE}
+     * @param mode   ordinal of the game mode
+     * @param rotationSystem the rotation system the game was played with
+     * @param rows   board rows
+     * @param cols   board columns
+     * @param events event codes, one per event
+     * @param times  event times in milliseconds since the start, non-decreasing
+     * @param snapshotEvents for each snapshot, the number of events played before it, increasing
+     * @param snapshots board snapshots
+     */
+    Replay(long seed, int finalScore, int mode, RotationSystem rotationSystem, int rows, int cols, byte[] events, int[] times,
+           int[] snapshotEvents, BoardSnapshot[] snapshots) {
+        if (events.length != times.length || snapshotEvents.length != snapshots.length) {
+            throw new IllegalArgumentException("Replay arrays differ in length");
+        }
+        this.seed = seed;
+        this.finalScore = finalScore;
+        this.mode = mode;
+        this.rotationSystem = rotationSystem;
+        this.rows = rows;
+        this.cols = cols;
+        this.events = events;
+        this.times = times;
+        this.snapshotEvents = snapshotEvents;
+        this.snapshots = snapshots;
+    }
+
+    // packs an event's type and source into one code
+    static byte encode(MoveEvent event) {
+        int code = event.getEventType().ordinal();
+        if (event.getEventSource() == EventSource.THREAD) {
+            code |= SOURCE_BIT;
+        }
+        return (byte) code;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the score the recording client says the game ended with.
+     *
+     * @return the claimed final score, or {@link #NO_SCORE}
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    public int getMode() {
+        return mode;
+    }
+
+    public RotationSystem getRotationSystem() {
+        return rotationSystem;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int size() {
+        return events.length;
+    }
+
+    public EventType getType(int index) {
+        return TYPES[events[index] & TYPE_MASK];
+    }
+
+    public EventSource getSource(int index) {
+        return (events[index] & SOURCE_BIT) != 0 ? EventSource.THREAD : EventSource.USER;
+    }
+
+    /**
+     * Returns when an event arrived.
+     *
+     * @param index the event index
+     * @return milliseconds since the game started
+     */
+    public int getTime(int index) {
+        return times[index];
+    }
+
+    /**
+     * Returns the length of the game up to its last event.
+     *
+     * @return duration in milliseconds
+     */
+    public int getDuration() {
+        return times.length == 0 ? 0 : times[times.length - 1];
+    }
+
+    public int snapshotCount() {
+        return snapshots.length;
+    }
+
+    public BoardSnapshot getSnapshot(int index) {
+        return snapshots[index];
+    }
+
+    /**
+     * Returns where a snapshot was taken.
+     *
+     * @param index the snapshot index
+     * @return the number of events played before the snapshot
+     */
+    public int getSnapshotEvent(int index) {
+        return snapshotEvents[index];
+    }
+
+    /**
+     * Finds the latest snapshot taken at or before an event position.
+     *
+     * @param eventIndex number of events played
+     * @return the snapshot index, or -1 if there is none
+     */
+    public int snapshotBefore(int eventIndex) {
+        int lo = 0;
+        int hi = snapshotEvents.length - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (snapshotEvents[mid] <= eventIndex) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds how many events had been played at a point in time.
+     *
+     * @param timeMs milliseconds since the start
+     * @return the number of events at or before that time
+     */
+    public int eventsAt(int timeMs) {
+        int lo = 0;
+        int hi = times.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= timeMs) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Writes the replay in its binary form. The stream is not closed.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(mode);
+        data.writeByte(rotationSystem.ordinal());
+        data.writeLong(seed);
+        writeVarint(data, finalScore + 1L);
+        writeVarint(data, rows);
+        writeVarint(data, cols);
+        writeVarint(data, events.length);
+        int last = 0;
+        for (int i = 0; i < events.length; i++) {
+            long delta = times[i] - last;
+            last = times[i];
+            writeVarint(data, delta << DELTA_SHIFT | events[i]);
+        }
+        writeVarint(data, snapshots.length);
+        int lastEvent = 0;
+        for (int i = 0; i < snapshots.length; i++) {
+            writeVarint(data, snapshotEvents[i] - lastEvent);
+            lastEvent = snapshotEvents[i];
+            snapshots[i].writeTo(data);
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads a replay written by {@link #writeTo(OutputStream)}.
+     *
+     * @param in the stream to read from
+     * @return the replay
+     * @throws IOException if the stream is not a replay, is truncated, or
+     *                     holds sizes or counts out of range
+     */
+    public static Replay readFrom(InputStream in) throws IOException {
+        // read whole so every count can be checked against the bytes left before allocating
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(in.readAllBytes()));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version < VERSION_NO_SNAPSHOTS || version > VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int mode = data.readUnsignedByte();
+        RotationSystem rotationSystem = RotationSystem.LEGACY;
+        if (version > VERSION_LEGACY_ROTATION) {
+            int system = data.readUnsignedByte();
+            if (system >= ROTATION_SYSTEMS.length) {
+                throw new IOException("Unknown rotation system " + system);
+            }
+            rotationSystem = ROTATION_SYSTEMS[system];
+        }
+        long seed = data.readLong();
+        int finalScore = version <= VERSION_NO_SCORE ? NO_SCORE : (int) (readVarint(data) - 1);
+        int rows = readBounded(data, 1, Constants.REPLAY_MAX_ROWS, "rows");
+        int cols = readBounded(data, 1, Constants.REPLAY_MAX_COLS, "columns");
+        // every event takes at least one byte
+        int count = readBounded(data, 0, data.available(), "event count");
+        byte[] events = new byte[count];
+        int[] times = new int[count];
+        int time = 0;
+        for (int i = 0; i < count; i++) {
+            long value = readVarint(data);
+            int code = (int) (value & ((1 << DELTA_SHIFT) - 1));
+            if ((code & TYPE_MASK) >= TYPES.length) {
+                throw new IOException("Unknown event type " + (code & TYPE_MASK));
+            }
+            long delta = value >>> DELTA_SHIFT;
+            if (delta > Integer.MAX_VALUE - time) {
+                throw new IOException("Replay time overflows");
+            }
+            time += (int) delta;
+            events[i] = (byte) code;
+            times[i] = time;
+        }
+        int[] snapshotEvents = new int[0];
+        BoardSnapshot[] snapshots = new BoardSnapshot[0];
+        if (version != VERSION_NO_SNAPSHOTS) {
+            int snapshotCount = readBounded(data, 0, Math.min(count + 1L, data.available()), "snapshot count");
+            snapshotEvents = new int[snapshotCount];
+            snapshots = new BoardSnapshot[snapshotCount];
+            int event = 0;
+            for (int i = 0; i < snapshotCount; i++) {
+                event += readBounded(data, 0, count - event, "snapshot event");
+                snapshotEvents[i] = event;
+                snapshots[i] = BoardSnapshot.readFrom(data, rows, cols);
+            }
+        }
+        return new Replay(seed, finalScore, mode, rotationSystem, rows, cols, events, times, snapshotEvents, snapshots);
+    }
+
+    private static void writeVarint(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    // reads a varint and checks it lies in [min, max] before it is used as an int
+    private static int readBounded(DataInputStream in, long min, long max, String what) throws IOException {
+        long value = readVarint(in);
+        if (value < min || value > max) {
+            throw new IOException("Replay " + what + " " + Long.toUnsignedString(value) + " out of range");
+        }
+        return (int) value;
+    }
+
+        private static long readVarint(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated replay");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,113 @@
+package com.comp2042.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.comp2042.core.Constants;
+
+/**
+ * Saves finished replays into a directory on a background thread, one file
+ * per game, so archiving never blocks the game.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ReplayArchive implements AutoCloseable {
+
+    private static ReplayArchive defaultArchive;
+
+    private final Path directory;
+    private final ExecutorService writer;
+
+    /**
+     * Creates an archive writing into the given directory, creating it when needed.
+     *
+     * @param directory the directory to save replays in
+     */
+    public ReplayArchive(Path directory) {
+        this.directory = directory;
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "replay-writer");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns the shared archive for {@link Constants#REPLAY_DIR}.
+     *
+     * @return the default archive
+     */
+    public static synchronized ReplayArchive getDefault() {
+        if (defaultArchive == null)
+        {
+            defaultArchive = new ReplayArchive(Paths.get(Constants.REPLAY_DIR));
+        }
+        return defaultArchive;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Queues a replay to be written. Empty replays are skipped.
+     *
+     * @param replay the finished game
+     */
+    public void save(Replay replay) {
+        if (replay == null || replay.size() == 0 || writer.isShutdown())
+        {
+            return;
+        }
+        long finishedAt = System.currentTimeMillis();
+        writer.execute(() -> {
+            try
+            {
+                write(replay, finishedAt);
+            }
+            catch (IOException ignored) {}
+        });
+    }
+
+    /**
+     * Writes a replay on the calling thread.
+     *
+     * @param replay the replay to write
+     * @param finishedAt wall-clock time used to name the file
+     * @return the file written
+     * @throws IOException if the file cannot be written
+     */
+    public Path write(Replay replay, long finishedAt) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(String.format("replay-%d-%016x%s", finishedAt, replay.getSeed(), Constants.REPLAY_EXTENSION));
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file)))
+        {
+            replay.writeTo(out);
+        }
+        return file;
+    }
+
+    /**
+     * Finishes writing queued replays and stops the background thread.
+     */
+    @Override
+    public void close() {
+        writer.shutdown();
+        try
+        {
+            writer.awaitTermination(Constants.REPLAY_CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
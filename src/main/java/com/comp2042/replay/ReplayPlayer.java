@@ -0,0 +1,110 @@
+package com.comp2042.replay;
+
+import java.util.concurrent.locks.LockSupport;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Board;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.input.InputEventListener;
+
+/**
+ * Plays a {@link Replay} back into an {@link InputEventListener}: a new game
+ * is started with the recorded seed and every event is passed to the same
+ * method it originally went to. Playback can follow the recorded timing at
+ * any speed, or run as fast as possible.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ReplayPlayer {
+
+    // shared event instances, since events carry no state beyond type and source
+    private static final MoveEvent[][] EVENTS = new MoveEvent[EventType.values().length][];
+
+    static {
+        EventSource[] sources = EventSource.values();
+        for (EventType type : EventType.values()) {
+            EVENTS[type.ordinal()] = new MoveEvent[sources.length];
+            for (EventSource source : sources) {
+                EVENTS[type.ordinal()][source.ordinal()] = new MoveEvent(type, source);
+            }
+        }
+    }
+
+    private ReplayPlayer() {}
+
+    /**
+     * Replays a game on a new headless board of the recorded size.
+     *
+     * @param replay the recorded game
+     * @return the game in its final state
+     */
+    public static HeadlessGame play(Replay replay) {
+        HeadlessController controller = new HeadlessController(newBoard(replay));
+        play(replay, controller);
+        return controller.getGame();
+    }
+
+    // a board of the recorded size and rotation; the bitboard is the faster board and plays identically
+    static Board newBoard(Replay replay) {
+        Board board = replay.getCols() <= Long.SIZE
+                ? new BitboardGameBoard(replay.getRows(), replay.getCols())
+                : new GameBoard(replay.getRows(), replay.getCols());
+        board.setRotationSystem(replay.getRotationSystem());
+        return board;
+    }
+
+    /**
+     * Replays a game into a listener as fast as possible.
+     *
+     * @param replay   the recorded game
+     * @param listener the listener receiving the events
+     */
+    public static void play(Replay replay, InputEventListener listener) {
+        play(replay, listener, 0);
+    }
+
+    /**
+     * Replays a game into a listener, following the recorded timing.
+     *
+     * @param replay   the recorded game
+     * @param listener the listener receiving the events
+     * @param speed    playback speed relative to real time, or 0 to not wait at all
+     */
+    public static void play(Replay replay, InputEventListener listener, double speed) {
+        listener.createNewGame(replay.getSeed());
+        long start = System.nanoTime();
+        for (int i = 0; i < replay.size(); i++) {
+            if (speed > 0) {
+                long due = start + (long) (replay.getTime(i) * 1_000_000L / speed);
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+            dispatch(listener, replay, i);
+        }
+    }
+
+    // route a recorded event to the listener method it was recorded from
+    static void dispatch(InputEventListener listener, Replay replay, int index) {
+        MoveEvent event = EVENTS[replay.getType(index).ordinal()][replay.getSource(index).ordinal()];
+        switch (event.getEventType()) {
+            case DOWN -> listener.onDownEvent(event);
+            case LEFT -> listener.onLeftEvent(event);
+            case RIGHT -> listener.onRightEvent(event);
+            case ROTATE, ROTATE_CW, ROTATE_180 -> listener.onRotateEvent(event);
+            case HOLD -> listener.onHoldEvent(event);
+            case HARD_DROP -> listener.onHardDropEvent(event);
+        }
+    }
+}
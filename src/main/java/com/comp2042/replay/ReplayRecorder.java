@@ -0,0 +1,156 @@
+package com.comp2042.replay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.RotationSystem;
+import com.comp2042.events.MoveEvent;
+
+/**
+ * Records the move events of one game at a time, timestamped from a
+ * monotonic clock, and turns them into a {@link Replay}. Every
+ * {@link Constants#REPLAY_SNAPSHOT_PIECES} locked pieces it also keeps a
+ * board snapshot, so the replay can be seeked.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ReplayRecorder {
+
+    private final LongSupplier nanoClock;
+    private byte[] events = new byte[256];
+    private int[] times = new int[256];
+    private int count;
+    private int pieces;
+    private final List<BoardSnapshot> snapshots = new ArrayList<>();
+    private int[] snapshotEvents = new int[16];
+    private long startNanos;
+    private long seed;
+    private int mode;
+    private RotationSystem rotationSystem;
+    private int rows;
+    private int cols;
+    private boolean recording;
+
+    /**
+     * Creates a recorder timed by {@link System#nanoTime()}.
+     */
+    public ReplayRecorder() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates a recorder timed by the given clock.
+     *
+     * @param nanoClock monotonic time source in nanoseconds
+     */
+    public ReplayRecorder(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts recording a new game played with SRS rotation, discarding
+     * anything not yet finished.
+     *
+     * @param seed seed of the game's brick sequence
+     * @param mode ordinal of the game mode
+     * @param rows board rows
+     * @param cols board columns
+     */
+    public void start(long seed, int mode, int rows, int cols) {
+        start(seed, mode, rows, cols, RotationSystem.SRS);
+    }
+
+    /**
+     * Starts recording a new game, discarding anything not yet finished.
+     *
+     * @param seed seed of the game's brick sequence
+     * @param mode ordinal of the game mode
+     * @param rows board rows
+     * @param cols board columns
+     * @param rotationSystem the rotation system the game is played with
+     */
+    public void start(long seed, int mode, int rows, int cols, RotationSystem rotationSystem) {
+        this.seed = seed;
+        this.mode = mode;
+        this.rotationSystem = rotationSystem;
+        this.rows = rows;
+        this.cols = cols;
+        count = 0;
+        pieces = 0;
+        snapshots.clear();
+        startNanos = nanoClock.getAsLong();
+        recording = true;
+    }
+
+    /**
+     * Records an event at the current time. Does nothing when not recording.
+     *
+     * @param event the event passed to the game
+     */
+    public void record(MoveEvent event) {
+        if (!recording) {
+            return;
+        }
+        if (count == events.length) {
+            events = Arrays.copyOf(events, count * 2);
+            times = Arrays.copyOf(times, count * 2);
+        }
+        long elapsedMs = (nanoClock.getAsLong() - startNanos) / 1_000_000L;
+        events[count] = Replay.encode(event);
+        // clamp so a misbehaving clock cannot produce negative deltas
+        times[count] = (int) Math.min(Integer.MAX_VALUE, Math.max(count == 0 ? 0 : times[count - 1], elapsedMs));
+        count++;
+    }
+
+    /**
+     * Counts a locked piece, taking a snapshot of the board every
+     * {@link Constants#REPLAY_SNAPSHOT_PIECES} pieces. Call it after the
+     * event that locked the piece has been handled and the next brick spawned.
+     *
+     * @param board the board being recorded
+     */
+    public void pieceLocked(Board board) {
+        if (!recording || ++pieces % Constants.REPLAY_SNAPSHOT_PIECES != 0) {
+            return;
+        }
+        if (snapshots.size() == snapshotEvents.length) {
+            snapshotEvents = Arrays.copyOf(snapshotEvents, snapshots.size() * 2);
+        }
+        snapshotEvents[snapshots.size()] = count;
+        snapshots.add(board.snapshot());
+    }
+
+    /**
+     * Stops recording and returns the game recorded so far, without a final score.
+     *
+     * @return the replay, or null if nothing was being recorded
+     */
+    public Replay finish() {
+        return finish(Replay.NO_SCORE);
+    }
+
+    /**
+     * Stops recording and returns the game recorded so far.
+     *
+     * @param finalScore the score the game ended with, checked when the replay is verified
+     * @return the replay, or null if nothing was being recorded
+     */
+    public Replay finish(int finalScore) {
+        if (!recording) {
+            return null;
+        }
+        recording = false;
+        return new Replay(seed, finalScore, mode, rotationSystem, rows, cols, Arrays.copyOf(events, count), Arrays.copyOf(times, count),
+                Arrays.copyOf(snapshotEvents, snapshots.size()), snapshots.toArray(new BoardSnapshot[0]));
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.replay;
+
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+
+/**
+ * Positions a headless game anywhere in a {@link Replay}, for scrubbing in a
+ * replay viewer. A seek restores the nearest snapshot at or before the target
+ * and simulates only the events after it, so any position is reached in at
+ * most {@link com.comp2042.core.Constants#REPLAY_SNAPSHOT_PIECES} pieces of
+ * simulation. Seeking forward from the current position continues from it
+ * when that is closer than the snapshot.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ReplaySeeker {
+
+    private final Replay replay;
+    private final HeadlessController controller;
+    private int position;
+
+    /**
+     * Creates a seeker positioned at the start of the replay.
+     *
+     * @param replay the replay to seek in
+     */
+    public ReplaySeeker(Replay replay) {
+        this.replay = replay;
+        this.controller = new HeadlessController(ReplayPlayer.newBoard(replay));
+        restart();
+    }
+
+    /**
+     * Returns the game at the current position. It is reused by every seek.
+     *
+     * @return the game state
+     */
+    public HeadlessGame getGame() {
+        return controller.getGame();
+    }
+
+    /**
+     * Returns the current position.
+     *
+     * @return the number of events played
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Moves to the state after the given number of events.
+     *
+     * @param eventIndex number of events to have played, clamped to the replay
+     */
+    public void seek(int eventIndex) {
+        int target = Math.max(0, Math.min(eventIndex, replay.size()));
+        int snapshot = replay.snapshotBefore(target);
+        int snapshotEvent = snapshot < 0 ? 0 : replay.getSnapshotEvent(snapshot);
+        // going back, or a snapshot lies between here and the target
+        if (target < position || snapshotEvent > position) {
+            if (snapshot < 0) {
+                restart();
+            } else {
+                controller.getGame().restore(replay.getSnapshot(snapshot));
+                position = snapshotEvent;
+            }
+        }
+        while (position < target) {
+            ReplayPlayer.dispatch(controller, replay, position++);
+        }
+    }
+
+    /**
+     * Moves to the state at a point in time.
+     *
+     * @param timeMs milliseconds since the start of the game
+     */
+    public void seekTime(int timeMs) {
+        seek(replay.eventsAt(timeMs));
+    }
+
+    private void restart() {
+        controller.createNewGame(replay.getSeed());
+        position = 0;
+    }
+}
@@ -0,0 +1,232 @@
+package com.comp2042.replay;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameModeHandler.GameMode;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+
+/**
+ * Checks submitted replays by re-simulating them headlessly. A replay is
+ * accepted only if it is on the standard board, every snapshot matches the
+ * simulated state where it was taken, no event follows game over, a timed
+ * game stays within its time limit, and the simulated final score equals
+ * the score it claims. Directories are verified in parallel on a fork-join
+ * pool using every core.
+ * <p>
+ * Usage: {@code ReplayVerifier <directory> [threads]}; the exit status is 1
+ * if any replay was rejected.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class ReplayVerifier {
+
+    /**
+     * The outcome of verifying one replay.
+     */
+    public static final class Result {
+        private final Path file;
+        private final boolean valid;
+        private final int claimedScore;
+        private final int verifiedScore;
+        private final String reason;
+
+        Result(Path file, boolean valid, int claimedScore, int verifiedScore, String reason) {
+            this.file = file;
+            this.valid = valid;
+            this.claimedScore = claimedScore;
+            this.verifiedScore = verifiedScore;
+            this.reason = reason;
+        }
+
+        public Path getFile() { return file; }
+        public boolean isValid() { return valid; }
+        public int getClaimedScore() { return claimedScore; }
+        public int getVerifiedScore() { return verifiedScore; }
+
+        /**
+         * Explains why the replay was rejected.
+         *
+         * @return the reason, or null for a valid replay
+         */
+        public String getReason() { return reason; }
+
+        @Override
+        public String toString() {
+            String name = file == null ? "replay" : file.toString();
+            return valid ? "OK       " + name + " score " + verifiedScore : "REJECTED " + name + ": " + reason;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a verifier using one thread per core.
+     */
+    public ReplayVerifier() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a verifier with the given parallelism.
+     *
+     * @param threads number of replays verified at once
+     */
+    public ReplayVerifier(int threads) {
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Verifies every replay file in a directory.
+     *
+     * @param directory directory holding replay files
+     * @return one result per file, in file name order
+     * @throws IOException if the directory cannot be listed
+     */
+    public List<Result> verifyDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(directory))
+        {
+            files = list.filter(p -> p.getFileName().toString().endsWith(Constants.REPLAY_EXTENSION)).sorted().toList();
+        }
+        return verifyFiles(files);
+    }
+
+    /**
+     * Verifies replay files in parallel.
+     *
+     * @param files the replay files
+     * @return one result per file, in the same order
+     */
+    public List<Result> verifyFiles(List<Path> files) {
+        List<Callable<Result>> tasks = new ArrayList<>(files.size());
+        for (Path file : files)
+        {
+            tasks.add(() -> verifyFile(file));
+        }
+        List<Result> results = new ArrayList<>(files.size());
+        List<Future<Result>> futures = pool.invokeAll(tasks);
+        for (int i = 0; i < futures.size(); i++)
+        {
+            try
+            {
+                results.add(futures.get(i).get());
+            }
+            catch (ExecutionException e)
+            {
+                results.add(new Result(files.get(i), false, Replay.NO_SCORE, 0, "verification failed: " + e.getCause()));
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Reads and verifies one replay file.
+     *
+     * @param file the replay file
+     * @return the result; unreadable files are rejected
+     */
+    public static Result verifyFile(Path file) {
+        Replay replay;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file)))
+        {
+            replay = Replay.readFrom(in);
+        }
+        catch (IOException e)
+        {
+            return new Result(file, false, Replay.NO_SCORE, 0, "unreadable: " + e.getMessage());
+        }
+        return verify(file, replay);
+    }
+
+    /**
+     * Verifies a replay by simulating it from the start.
+     *
+     * @param file   where the replay came from, for reporting; may be null
+     * @param replay the replay
+     * @return the result
+     */
+    public static Result verify(Path file, Replay replay) {
+        int claimed = replay.getFinalScore();
+        if (claimed == Replay.NO_SCORE) {
+            return new Result(file, false, claimed, 0, "no final score recorded");
+        }
+        if (replay.getRows() != Constants.BOARD_ROWS || replay.getCols() != Constants.BOARD_COLS) {
+            return new Result(file, false, claimed, 0, "non-standard board " + replay.getRows() + "x" + replay.getCols());
+        }
+        if (replay.getMode() == GameMode.TIMED.ordinal()
+                && replay.getDuration() > Constants.TIMED_MODE_MS + Constants.REPLAY_TIME_SLACK_MS) {
+            return new Result(file, false, claimed, 0, "timed game lasted " + replay.getDuration() + " ms");
+        }
+
+        HeadlessController controller = new HeadlessController(ReplayPlayer.newBoard(replay));
+        controller.createNewGame(replay.getSeed());
+        HeadlessGame game = controller.getGame();
+        Board board = game.getBoard();
+        int snapshot = 0;
+        for (int i = 0; i <= replay.size(); i++) {
+            // snapshots are taken after the event before them, so check them before playing on
+            while (snapshot < replay.snapshotCount() && replay.getSnapshotEvent(snapshot) == i) {
+                if (!replay.getSnapshot(snapshot).equals(board.snapshot())) {
+                    return new Result(file, false, claimed, game.getScore().getScore(), "snapshot " + snapshot + " does not match the game");
+                }
+                snapshot++;
+            }
+            if (i == replay.size()) {
+                break;
+            }
+            if (game.isGameOver()) {
+                return new Result(file, false, claimed, game.getScore().getScore(), "events after game over");
+            }
+            ReplayPlayer.dispatch(controller, replay, i);
+        }
+
+        int verified = game.getScore().getScore();
+        if (verified != claimed) {
+            return new Result(file, false, claimed, verified, "claimed " + claimed + " but the game scores " + verified);
+        }
+        return new Result(file, true, claimed, verified, null);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayVerifier <directory> [threads]");
+            System.exit(2);
+        }
+        ReplayVerifier verifier = args.length > 1 ? new ReplayVerifier(Integer.parseInt(args[1])) : new ReplayVerifier();
+        long start = System.nanoTime();
+        List<Result> results = verifier.verifyDirectory(Paths.get(args[0]));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+
+        int rejected = 0;
+        for (Result result : results) {
+            System.out.println(result);
+            if (!result.isValid()) {
+                rejected++;
+            }
+        }
+        System.out.println(results.size() + " replays, " + rejected + " rejected, in " + elapsedMs + " ms");
+        verifier.pool.shutdown();
+        System.exit(rejected == 0 ? 0 : 1);
+    }
+}
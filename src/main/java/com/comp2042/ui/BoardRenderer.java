@@ -0,0 +1,134 @@
+package com.comp2042.ui;
+
+import com.comp2042.core.DirtyCells;
+import com.comp2042.logic.workflow.ViewData;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+/**
+ * Draws the board, active brick, ghost, hint, next bricks, and hold brick.
+ * Implemented by the scene-graph renderer and the canvas renderer so the
+ * controller can switch between them.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public interface BoardRenderer {
+
+    /**
+     * Enables or disables upside-down rendering.
+     *
+     * @param value whether upside-down mode is active
+     */
+    void setUpsideDown(boolean value);
+
+    /**
+     * Maps a logical row to the visual row based on mode.
+     *
+     * @param logicRow the logical matrix row
+     * @param totalHeight total rows in the matrix
+     * @return visual row index
+     */
+    int getVisualRow(int logicRow, int totalHeight);
+
+    /**
+     * Prepares the renderer for a new game.
+     *
+     * @param boardMatrix background matrix
+     * @param brick current view data
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Refreshes active brick, next bricks, and hold brick visuals.
+     *
+     * @param brick current view data
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Refreshes the background according to the board matrix.
+     *
+     * @param board background matrix
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Repaints only the background cells that changed. The dirty set is
+     * only valid during the call.
+     *
+     * @param board background matrix
+     * @param dirty the cells changed since the last refresh
+     */
+    void refreshGameBackground(int[][] board, DirtyCells dirty);
+
+    /**
+     * Shows the ghost brick at the landing position of the active brick.
+     *
+     * @param brick current view data
+     * @param boardMatrix background matrix
+     */
+    void refreshGhost(ViewData brick, int[][] boardMatrix);
+
+    /**
+     * Hides the ghost brick.
+     */
+    void clearGhost();
+
+    /**
+     * Shows a suggested placement as a second ghost, next to the landing ghost.
+     *
+     * @param shape brick matrix of the suggested piece and rotation
+     * @param x suggested x-position
+     * @param y suggested y-position
+     */
+    void showHint(int[][] shape, int x, int y);
+
+    /**
+     * Hides the suggested placement.
+     */
+    void clearHint();
+
+    /**
+     * Shows or hides the active brick, hiding the ghost with it.
+     *
+     * @param visible whether the active brick should be visible
+     */
+    void setBrickVisible(boolean visible);
+
+    /**
+     * Clears everything drawn when switching menus or modes.
+     */
+    void clearAll();
+
+    /**
+     * Pulses landed blocks for visual feedback after hard drop.
+     *
+     * @param brickData brick matrix to pulse
+     * @param xPosition x-position
+     * @param yPosition y-position
+     */
+    void pulseLandedBlocks(int[][] brickData, int xPosition, int yPosition);
+
+    /**
+     * Maps a color code to a paint.
+     *
+     * @param i color code
+     * @return paint value
+     */
+    default Paint getFillColor(int i) {
+        Paint returnPaint;
+        switch (i) {
+            case 0: returnPaint = Color.TRANSPARENT; break;
+            case 1: returnPaint = Color.AQUA; break;
+            case 2: returnPaint = Color.BLUEVIOLET; break;
+            case 3: returnPaint = Color.DARKGREEN; break;
+            case 4: returnPaint = Color.YELLOW; break;
+            case 5: returnPaint = Color.RED; break;
+            case 6: returnPaint = Color.BEIGE; break;
+            case 7: returnPaint = Color.BURLYWOOD; break;
+            default: returnPaint = Color.WHITE; break;
+        }
+        return returnPaint;
+    }
+}
@@ -0,0 +1,692 @@
+package com.comp2042.ui;
+
+import com.comp2042.core.Constants;
+import com.comp2042.core.DirtyCells;
+import com.comp2042.core.MatrixOperations;
+import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.BoardRefreshEvent;
+import com.comp2042.metrics.FrameMetrics;
+import com.comp2042.metrics.GhostRecomputeEvent;
+import javafx.animation.AnimationTimer;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Renders the board, active brick, ghost, hint, next bricks, and hold brick onto
+ * one {@link Canvas} per panel instead of a {@link javafx.scene.shape.Rectangle}
+ * node per cell. Blocks are drawn from rounded sprites pre-rendered once per
+ * colour, and all changes made during a pulse are drawn together on the next frame.
+ * The board has two stacked canvases: landed blocks stay drawn on the lower
+ * one and only changed cells are repainted, while the active brick and ghost
+ * are redrawn on the upper one. Cells of the active brick above the top row are not drawn.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public class CanvasGameRenderer implements BoardRenderer {
+
+    private static final int SPRITE_COUNT = 9;
+    private static final double GHOST_FILL_OPACITY = 0.15;
+    private static final double GHOST_STROKE_OPACITY = 0.6;
+    private static final double GHOST_STROKE_WIDTH = 1.2;
+
+    private final GridPane gamePanel;
+    private final GridPane nextBrickPanel1;
+    private final GridPane nextBrickPanel2;
+    private final GridPane nextBrickPanel3;
+    private final GridPane holdBrickPanel;
+
+    private Canvas boardCanvas;
+    private Canvas pieceCanvas;
+    private Canvas nextCanvas1;
+    private Canvas nextCanvas2;
+    private Canvas nextCanvas3;
+    private Canvas holdCanvas;
+
+    private Image[] sprites;
+    private Image[] ghostSprites;
+    private Image[] hintSprites;
+
+    private boolean isUpsideDown = false;
+    private int[][] board;
+    private ViewData brick;
+    // copy of the active brick's shape, taken again only when the brick or its rotation changes
+    private int[][] brickShape;
+    private ViewData shapeBrick;
+    private boolean brickVisible = true;
+    private boolean ghostVisible = false;
+    private int ghostY;
+    private boolean hintVisible = false;
+    private int[][] hintShape;
+    private int hintX;
+    private int hintY;
+    private boolean previewsDirty;
+    private boolean piecesDirty;
+    private boolean fullRepaint = true;
+    private DirtyCells pendingCells;
+    private final FrameMetrics metrics = FrameMetrics.getDefault();
+
+    private final List<Pulse> pulses = new ArrayList<>();
+    private double[] cellScale;
+
+    private boolean redrawScheduled = false;
+    private final AnimationTimer redrawTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            redraw(now);
+            // keep running only while a pulse is animating
+            if (pulses.isEmpty())
+            {
+                stop();
+                redrawScheduled = false;
+            }
+        }
+    };
+
+    /**
+     * Constructs a canvas renderer drawing into the given panels. The active
+     * brick is drawn on the board canvas, so the brick panel is hidden.
+     *
+     * @param gamePanel main board panel
+     * @param brickPanel active brick panel, unused by this renderer
+     * @param nextBrickPanel1 next brick panel (1)
+     * @param nextBrickPanel2 next brick panel (2)
+     * @param nextBrickPanel3 next brick panel (3)
+     * @param holdBrickPanel hold brick panel
+     */
+    public CanvasGameRenderer(GridPane gamePanel, GridPane brickPanel,
+                              GridPane nextBrickPanel1, GridPane nextBrickPanel2, GridPane nextBrickPanel3, GridPane holdBrickPanel) {
+        this.gamePanel = gamePanel;
+        this.nextBrickPanel1 = nextBrickPanel1;
+        this.nextBrickPanel2 = nextBrickPanel2;
+        this.nextBrickPanel3 = nextBrickPanel3;
+        this.holdBrickPanel = holdBrickPanel;
+        brickPanel.setVisible(false);
+    }
+
+    @Override
+    public void setUpsideDown(boolean value) {
+        if (isUpsideDown != value)
+        {
+            fullRepaint = true;
+            piecesDirty = true;
+        }
+        this.isUpsideDown = value;
+        requestRedraw();
+    }
+
+    @Override
+    public int getVisualRow(int logicRow, int totalHeight) {
+        return isUpsideDown ?
+                (totalHeight - 1 - logicRow) : logicRow;
+    }
+
+    // canvases are created once and reused by every later game
+    /**
+     * Creates the sprites and canvases on first use and shows the new game.
+     *
+     * @param boardMatrix background matrix
+     * @param brick current view data
+     */
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        if (sprites == null)
+        {
+            createSprites();
+        }
+        boardCanvas = ensureCanvas(boardCanvas, gamePanel, boardMatrix.length, boardMatrix[0].length);
+        pieceCanvas = ensureCanvas(pieceCanvas, gamePanel, boardMatrix.length, boardMatrix[0].length);
+        pendingCells = new DirtyCells(boardMatrix.length, boardMatrix[0].length);
+
+        nextCanvas1 = ensureCanvas(nextCanvas1, nextBrickPanel1, brick.getNextHeight(0), brick.getNextWidth(0));
+        nextCanvas2 = ensureCanvas(nextCanvas2, nextBrickPanel2, brick.getNextHeight(1), brick.getNextWidth(1));
+        nextCanvas3 = ensureCanvas(nextCanvas3, nextBrickPanel3, brick.getNextHeight(2), brick.getNextWidth(2));
+        holdCanvas = ensureCanvas(holdCanvas, holdBrickPanel, brick.getHoldHeight(), brick.getHoldWidth());
+
+        cellScale = new double[boardMatrix.length * boardMatrix[0].length];
+        Arrays.fill(cellScale, 1.0);
+        pulses.clear();
+
+        this.board = boardMatrix;
+        this.brick = brick;
+        ghostVisible = false;
+        hintVisible = false;
+        fullRepaint = true;
+        piecesDirty = true;
+        previewsDirty = true;
+        requestRedraw();
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        // the previews only change on a spawn or hold
+        previewsDirty |= !brick.samePreview(this.brick);
+        this.brick = brick;
+        piecesDirty = true;
+        requestRedraw();
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        this.board = board;
+        fullRepaint = true;
+        requestRedraw();
+    }
+
+    // changes are collected until the next frame draws them
+    @Override
+    public void refreshGameBackground(int[][] board, DirtyCells dirty) {
+        this.board = board;
+        if (pendingCells == null)
+        {
+            fullRepaint = true;
+        }
+        else
+        {
+            pendingCells.addAll(dirty);
+        }
+        requestRedraw();
+    }
+
+    // landing position comes from the board when available, otherwise simulate the fall
+    @Override
+    public void refreshGhost(ViewData brick, int[][] boardMatrix) {
+        if (brick == null || boardMatrix == null) return;
+        int x = brick.getxPosition();
+        int yf = brick.getLandingY();
+        // the same shape landing on the same row needs no redraw; a simulated fall always does
+        if (ghostVisible && yf == ghostY && isCurrentBrick(brick)) return;
+        GhostRecomputeEvent event = new GhostRecomputeEvent();
+        event.begin();
+
+        if (yf == ViewData.NO_LANDING)
+        {
+            event.simulated = true;
+            yf = brick.getyPosition();
+            int[][] shape = shapeOf(brick);
+            while (!MatrixOperations.collidesWithBackground(boardMatrix, shape, x, yf + 1))
+            {
+                yf++;
+            }
+        }
+
+        this.brick = brick;
+        ghostY = yf;
+        ghostVisible = yf >= 0;
+        piecesDirty = true;
+        event.landingY = yf;
+        event.commit();
+        requestRedraw();
+    }
+
+    private boolean isCurrentBrick(ViewData brick) {
+        return brick.sameBrick(this.brick)
+                && brick.getxPosition() == this.brick.getxPosition() && brick.getyPosition() == this.brick.getyPosition();
+    }
+
+    @Override
+    public void clearGhost() {
+        if (ghostVisible)
+        {
+            ghostVisible = false;
+            piecesDirty = true;
+            requestRedraw();
+        }
+    }
+
+    @Override
+    public void showHint(int[][] shape, int x, int y) {
+        hintShape = shape;
+        hintX = x;
+        hintY = y;
+        hintVisible = true;
+        piecesDirty = true;
+        requestRedraw();
+    }
+
+    @Override
+    public void clearHint() {
+        if (hintVisible)
+        {
+            hintVisible = false;
+            piecesDirty = true;
+            requestRedraw();
+        }
+    }
+
+    @Override
+    public void setBrickVisible(boolean visible) {
+        brickVisible = visible;
+        if (!visible)
+        {
+            ghostVisible = false;
+            hintVisible = false;
+        }
+        piecesDirty = true;
+        requestRedraw();
+    }
+
+    @Override
+    public void clearAll() {
+        board = null;
+        brick = null;
+        ghostVisible = false;
+        hintVisible = false;
+        pulses.clear();
+        if (cellScale != null) Arrays.fill(cellScale, 1.0);
+        fullRepaint = true;
+        piecesDirty = true;
+        previewsDirty = true;
+        requestRedraw();
+    }
+
+    @Override
+    public void pulseLandedBlocks(int[][] brickData, int xPosition, int yPosition) {
+        if (board == null || brickData == null)
+        {
+            return;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < brickData.length; i++)
+        {
+            for (int j = 0; j < brickData[i].length; j++)
+            {
+                int row = yPosition + i;
+                int col = xPosition + j;
+                if (brickData[i][j] != 0 && row >= 0 && row < board.length && col >= 0 && col < board[0].length)
+                {
+                    pulses.add(new Pulse(row * board[0].length + col, start));
+                }
+            }
+        }
+        requestRedraw();
+    }
+
+    /**
+     * Schedules a redraw on the next frame, coalescing repeated requests.
+     */
+    private void requestRedraw() {
+        if (!redrawScheduled)
+        {
+            redrawScheduled = true;
+            redrawTimer.start();
+        }
+    }
+
+    /**
+     * Draws every canvas from the current state.
+     *
+     * @param now frame timestamp in nanoseconds
+     */
+    private void redraw(long now) {
+        if (boardCanvas == null)
+        {
+            return;
+        }
+        long start = System.nanoTime();
+        updatePulses(now);
+        BoardRefreshEvent event = new BoardRefreshEvent();
+        event.begin();
+        if (fullRepaint)
+        {
+            drawBoard();
+            event.cells = board == null ? 0 : board.length * board[0].length;
+            event.full = true;
+        }
+        else
+        {
+            event.cells = pendingCells.count();
+            drawChangedCells();
+        }
+        event.commit();
+        fullRepaint = false;
+        pendingCells.clear();
+
+        if (piecesDirty)
+        {
+            drawPieces();
+            piecesDirty = false;
+        }
+
+        if (previewsDirty)
+        {
+            drawNextPreview(nextCanvas1, 0);
+            drawNextPreview(nextCanvas2, 1);
+            drawNextPreview(nextCanvas3, 2);
+            drawHoldPreview(holdCanvas);
+            previewsDirty = false;
+        }
+        metrics.endRender(start);
+    }
+
+    /**
+     * Repaints every landed block onto the board canvas.
+     */
+    private void drawBoard() {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, boardCanvas.getWidth(), boardCanvas.getHeight());
+        if (board == null)
+        {
+            return;
+        }
+
+        int rows = board.length;
+        int cols = board[0].length;
+        for (int i = 0; i < rows; i++)
+        {
+            int visualRow = getVisualRow(i, rows);
+            for (int j = 0; j < cols; j++)
+            {
+                if (board[i][j] != 0)
+                {
+                    drawCell(gc, sprites[spriteIndex(board[i][j])], j, visualRow, cellScale[i * cols + j]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Repaints only the board cells collected since the last frame.
+     */
+    private void drawChangedCells() {
+        if (board == null)
+        {
+            return;
+        }
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        int rows = board.length;
+        int cols = board[0].length;
+        for (int cell = pendingCells.nextCell(0); cell >= 0; cell = pendingCells.nextCell(cell + 1))
+        {
+            int row = pendingCells.rowOf(cell);
+            int col = pendingCells.colOf(cell);
+            int visualRow = getVisualRow(row, rows);
+            gc.clearRect(cellX(col), cellY(visualRow), Constants.BRICK_SIZE, Constants.BRICK_SIZE);
+            if (board[row][col] != 0)
+            {
+                drawCell(gc, sprites[spriteIndex(board[row][col])], col, visualRow, cellScale[row * cols + col]);
+            }
+        }
+    }
+
+    /**
+     * Redraws the hint, ghost and active brick onto the piece canvas.
+     */
+    private void drawPieces() {
+        GraphicsContext gc = pieceCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, pieceCanvas.getWidth(), pieceCanvas.getHeight());
+        if (board == null || brick == null || !brickVisible)
+        {
+            return;
+        }
+        if (hintVisible)
+        {
+            drawBrick(gc, hintSprites, hintShape, hintX, hintY, board.length);
+        }
+        int[][] shape = shapeOf(brick);
+        if (ghostVisible)
+        {
+            drawBrick(gc, ghostSprites, shape, brick.getxPosition(), ghostY, board.length);
+        }
+        drawBrick(gc, sprites, shape, brick.getxPosition(), brick.getyPosition(), board.length);
+    }
+
+    /**
+     * Draws a brick at a logical board position, skipping cells off the board.
+     *
+     * @param gc target graphics context
+     * @param spriteSet sprites to draw with
+     * @param shape brick matrix
+     * @param x x-position
+     * @param y y-position
+     * @param rows number of board rows
+     */
+    private void drawBrick(GraphicsContext gc, Image[] spriteSet, int[][] shape, int x, int y, int rows) {
+        for (int i = 0; i < shape.length; i++)
+        {
+            int row = y + i;
+            if (row < 0 || row >= rows)
+            {
+                continue;
+            }
+            int visualRow = getVisualRow(row, rows);
+            for (int j = 0; j < shape[i].length; j++)
+            {
+                if (shape[i][j] != 0)
+                {
+                    drawCell(gc, spriteSet[spriteIndex(shape[i][j])], x + j, visualRow, 1.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the active brick's shape, copying it only when the brick or its
+     * rotation changed since the last call.
+     *
+     * @param brick current view data
+     * @return the renderer's copy of the shape
+     */
+    private int[][] shapeOf(ViewData brick) {
+        if (!brick.sameBrick(shapeBrick))
+        {
+            brickShape = brick.getBrickData();
+            shapeBrick = brick;
+        }
+        return brickShape;
+    }
+
+    /**
+     * Clears a preview canvas and draws an upcoming brick into it.
+     *
+     * @param canvas target canvas
+     * @param index position in the preview, next first
+     */
+    private void drawNextPreview(Canvas canvas, int index) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (brick == null)
+        {
+            return;
+        }
+        for (int i = 0; i < brick.getNextHeight(index); i++)
+        {
+            for (int j = 0; j < brick.getNextWidth(index); j++)
+            {
+                int code = brick.nextCell(index, i, j);
+                if (code != 0)
+                {
+                    drawCell(gc, sprites[spriteIndex(code)], j, i, 1.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears the hold canvas and draws the held brick into it.
+     *
+     * @param canvas target canvas
+     */
+    private void drawHoldPreview(Canvas canvas) {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (brick == null)
+        {
+            return;
+        }
+        for (int i = 0; i < brick.getHoldHeight(); i++)
+        {
+            for (int j = 0; j < brick.getHoldWidth(); j++)
+            {
+                int code = brick.holdCell(i, j);
+                if (code != 0)
+                {
+                    drawCell(gc, sprites[spriteIndex(code)], j, i, 1.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws one block sprite into a grid cell, scaled around its centre.
+     *
+     * @param gc target graphics context
+     * @param sprite block sprite
+     * @param col grid column
+     * @param row grid row
+     * @param scale size factor, 1 for a full block
+     */
+    private void drawCell(GraphicsContext gc, Image sprite, int col, int row, double scale) {
+        double size = Constants.BRICK_SIZE * scale;
+        double inset = (Constants.BRICK_SIZE - size) / 2;
+        gc.drawImage(sprite, cellX(col) + inset, cellY(row) + inset, size, size);
+    }
+
+    private double cellX(int col) {
+        return col * (Constants.BRICK_SIZE + gamePanel.getHgap());
+    }
+
+    private double cellY(int row) {
+        return row * (Constants.BRICK_SIZE + gamePanel.getVgap());
+    }
+
+    // same shape as Effects.createPulseEffect: shrink to PULSE_SCALE and back
+    /**
+     * Updates the scale of every pulsing cell, marking it for repaint, and
+     * drops finished pulses after restoring their cells to full size.
+     *
+     * @param now frame timestamp in nanoseconds
+     */
+    private void updatePulses(long now) {
+        if (cellScale == null || pulses.isEmpty())
+        {
+            return;
+        }
+        int cols = board != null ? board[0].length : 1;
+        double half = Constants.PULSE_DURATION_MS / 2;
+        Iterator<Pulse> it = pulses.iterator();
+        while (it.hasNext())
+        {
+            Pulse p = it.next();
+            double t = Math.max(0, (now - p.start) / 1_000_000.0);
+            if (t >= Constants.PULSE_DURATION_MS)
+            {
+                cellScale[p.cell] = 1.0;
+                it.remove();
+            }
+            else
+            {
+                double progress = t < half ? t / half : 1 - (t - half) / half;
+                cellScale[p.cell] = 1 - (1 - Constants.PULSE_SCALE) * progress;
+            }
+            pendingCells.mark(p.cell / cols, p.cell % cols);
+        }
+    }
+
+    /**
+     * Returns the canvas for a panel, creating it or resizing it to fit the grid.
+     *
+     * @param canvas existing canvas, or null
+     * @param panel panel that hosts the canvas
+     * @param rows number of grid rows
+     * @param cols number of grid columns
+     * @return the canvas sized for the grid
+     */
+    private static Canvas ensureCanvas(Canvas canvas, GridPane panel, int rows, int cols) {
+        double width = cols * Constants.BRICK_SIZE + (cols - 1) * panel.getHgap();
+        double height = rows * Constants.BRICK_SIZE + (rows - 1) * panel.getVgap();
+        if (canvas == null)
+        {
+            canvas = new Canvas(width, height);
+            canvas.setMouseTransparent(true);
+            panel.add(canvas, 0, 0);
+        }
+        else
+        {
+            canvas.setWidth(width);
+            canvas.setHeight(height);
+        }
+        return canvas;
+    }
+
+    /**
+     * Pre-renders a rounded block sprite, a ghost sprite and a hint sprite for every colour code.
+     */
+    private void createSprites() {
+        sprites = new Image[SPRITE_COUNT];
+        ghostSprites = new Image[SPRITE_COUNT];
+        hintSprites = new Image[SPRITE_COUNT];
+        for (int code = 1; code < SPRITE_COUNT; code++)
+        {
+            Paint paint = getFillColor(code);
+            Color base = paint instanceof Color ? (Color) paint : Color.WHITE;
+            sprites[code] = createSprite(base, null);
+            ghostSprites[code] = createSprite(
+                    Color.color(base.getRed(), base.getGreen(), base.getBlue(), GHOST_FILL_OPACITY),
+                    Color.color(base.getRed(), base.getGreen(), base.getBlue(), GHOST_STROKE_OPACITY));
+            hintSprites[code] = createSprite(
+                    Color.color(base.getRed(), base.getGreen(), base.getBlue(), Constants.HINT_FILL_OPACITY),
+                    Color.color(1, 1, 1, Constants.HINT_STROKE_OPACITY));
+        }
+    }
+
+    /**
+     * Renders one rounded block to an image.
+     *
+     * @param fill block fill
+     * @param stroke inner outline, or null for none
+     * @return the rendered sprite
+     */
+    private static Image createSprite(Color fill, Color stroke) {
+        Canvas canvas = new Canvas(Constants.BRICK_SIZE, Constants.BRICK_SIZE);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(fill);
+        gc.fillRoundRect(0, 0, Constants.BRICK_SIZE, Constants.BRICK_SIZE, Constants.BRICK_ARC, Constants.BRICK_ARC);
+        if (stroke != null)
+        {
+            // stroke drawn inside the block like StrokeType.INSIDE
+            double inset = GHOST_STROKE_WIDTH / 2;
+            gc.setStroke(stroke);
+            gc.setLineWidth(GHOST_STROKE_WIDTH);
+            gc.strokeRoundRect(inset, inset, Constants.BRICK_SIZE - GHOST_STROKE_WIDTH, Constants.BRICK_SIZE - GHOST_STROKE_WIDTH,
+                    Constants.BRICK_ARC, Constants.BRICK_ARC);
+        }
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        return canvas.snapshot(params, null);
+    }
+
+    /**
+     * Maps a colour code to its sprite slot; unknown codes share the white sprite.
+     *
+     * @param code colour code
+     * @return sprite index
+     */
+    private static int spriteIndex(int code) {
+        return code >= 1 && code < SPRITE_COUNT - 1 ? code : SPRITE_COUNT - 1;
+    }
+
+    /**
+     * A landed cell that is currently pulsing.
+     */
+    private static final class Pulse {
+        private final int cell;
+        private final long start;
+
+        Pulse(int cell, long start) {
+            this.cell = cell;
+            this.start = start;
+        }
+    }
+}
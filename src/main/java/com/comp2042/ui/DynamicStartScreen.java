@@ -188,7 +188,7 @@ public class DynamicStartScreen extends Pane {
 
         FlyingTetromino(double x, double y, double speed, Brick brick) {
             this.x = x; this.y = y; this.speed = speed;
-            this.shape = brick.getShapeMatrix().get(0);
+            this.shape = brick.getShape(0);
             this.color = extractColor(shape);
             this.rotation = random.nextDouble() * 360;
             this.scale = 0.8 + random.nextDouble() * 0.6;
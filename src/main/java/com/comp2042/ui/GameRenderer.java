@@ -1,22 +1,26 @@
 package com.comp2042.ui;
 
 import com.comp2042.core.Constants;
+import com.comp2042.core.DirtyCells;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.BoardRefreshEvent;
+import com.comp2042.metrics.FrameMetrics;
 import javafx.application.Platform;
 import javafx.beans.property.DoubleProperty;
 import javafx.scene.layout.GridPane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 
 /**
  * Renders the board, active brick, next bricks, and hold brick, supporting
- * standard and upside-down visual modes with utility effects.
+ * standard and upside-down visual modes with utility effects. Every cell
+ * is its own {@link Rectangle} node. Time spent updating the nodes is added
+ * to the frame's {@link FrameMetrics}.
  *
  * @author Eashwar
  * @version 1.0
  */
-public class GameRenderer {
+public class GameRenderer implements BoardRenderer {
 
     private final GridPane gamePanel;
     private final GridPane brickPanel;
@@ -29,6 +33,11 @@ public class GameRenderer {
     private final DoubleProperty gamePanelSceneY;
 
     private boolean isUpsideDown = false;
+    // set when the grid no longer matches the last board, so deltas are not enough
+    private boolean fullRepaintPending = true;
+    private GhostBrickHandler ghostBrickHandler;
+    private GhostBrickHandler hintHandler;
+    private final FrameMetrics metrics = FrameMetrics.getDefault();
 
     Rectangle[][] displayMatrix;
     Rectangle[][] rectangles;
@@ -36,6 +45,8 @@ public class GameRenderer {
     Rectangle[][] nextBrickRectangles2;
     Rectangle[][] nextBrickRectangles3;
     Rectangle[][] holdBrickRectangles;
+    // the view whose next and hold bricks are on screen
+    private ViewData lastPreview;
 
     // game renderer definition
     /**
@@ -69,8 +80,12 @@ public class GameRenderer {
      *
      * @param value whether upside-down mode is active
      */
+    @Override
     public void setUpsideDown(boolean value) {
+        if (isUpsideDown != value) fullRepaintPending = true;
         this.isUpsideDown = value;
+        if (ghostBrickHandler != null) ghostBrickHandler.setUpsideDown(value);
+        if (hintHandler != null) hintHandler.setUpsideDown(value);
     }
 
     // helper to calculate visual row based on mode
@@ -82,20 +97,22 @@ public class GameRenderer {
      * @param totalHeight total rows in the matrix
      * @return visual row index
      */
+    @Override
     public int getVisualRow(int logicRow, int totalHeight) {
         return isUpsideDown ?
                 (totalHeight - 1 - logicRow) : logicRow;
     }
 
     /**
-     * Initializes all panels and grids for rendering.
+     * Initializes all panels and grids for rendering, and the ghost brick handler.
      *
      * @param boardMatrix background matrix
      * @param brick current view data
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         displayMatrix = createGrid(boardMatrix.length, boardMatrix[0].length, gamePanel, true);
-        rectangles = createGrid(brick.getBrickData().length, brick.getBrickData()[0].length, brickPanel, brick.getBrickData());
+        rectangles = createGrid(brick.getBrickHeight(), brick.getBrickWidth(), brickPanel, brick.getBrickData());
 
         int[][][] nextBrickDataArr = brick.getNextBrickData();
 
@@ -109,6 +126,20 @@ public class GameRenderer {
 
         int[][] holdData = brick.getHoldBrickData();
         holdBrickRectangles = createGrid(holdData.length, holdData[0].length, holdBrickPanel, holdData);
+        lastPreview = brick;
+        fullRepaintPending = true;
+
+        // set up ghost brick handler
+        ghostBrickHandler = new GhostBrickHandler(gamePanel, brickPanel, gamePanelSceneX, gamePanelSceneY, this);
+        ghostBrickHandler.setUpsideDown(isUpsideDown);
+        ghostBrickHandler.init(brick);
+        // the hint panel is kept across games
+        if (hintHandler == null)
+        {
+            hintHandler = new GhostBrickHandler(gamePanel, brickPanel, gamePanelSceneX, gamePanelSceneY, this);
+        }
+        hintHandler.setUpsideDown(isUpsideDown);
+        hintHandler.clear();
 
         Platform.runLater(() -> positionBrickPanel(brick));
     }
@@ -148,29 +179,6 @@ public class GameRenderer {
         return grid;
     }
 
-    // changed to public so gui controller can access
-    /**
-     * Maps a color code to a paint.
-     *
-     * @param i color code
-     * @return paint value
-     */
-    public Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0: returnPaint = Color.TRANSPARENT; break;
-            case 1: returnPaint = Color.AQUA; break;
-            case 2: returnPaint = Color.BLUEVIOLET; break;
-            case 3: returnPaint = Color.DARKGREEN; break;
-            case 4: returnPaint = Color.YELLOW; break;
-            case 5: returnPaint = Color.RED; break;
-            case 6: returnPaint = Color.BEIGE; break;
-            case 7: returnPaint = Color.BURLYWOOD; break;
-            default: returnPaint = Color.WHITE; break;
-        }
-        return returnPaint;
-    }
-
     // Calculates Y position from bottom if upside down
     /**
      * Positions the active brick panel according to current view data.
@@ -187,7 +195,7 @@ public class GameRenderer {
         if (isUpsideDown)
         {
             // flip the Y positio and we subtract brick height to align it properly.
-            yPos = Constants.BOARD_ROWS - brick.getyPosition() - brick.getBrickData().length;
+            yPos = Constants.BOARD_ROWS - brick.getyPosition() - brick.getBrickHeight();
         }
         else
         {
@@ -204,20 +212,28 @@ public class GameRenderer {
      *
      * @param brick current view data
      */
+    @Override
     public void refreshBrick(ViewData brick) {
+        long start = System.nanoTime();
         positionBrickPanel(brick);
 
         // update main brick (contains specific mirroring logic)
         updateActiveBrick(brick);
 
-        // update next bricks
-        int[][][] nextBrickDataArr = brick.getNextBrickData();
-        updateGrid(nextBrickDataArr[0], nextBrickRectangles1);
-        updateGrid(nextBrickDataArr[1], nextBrickRectangles2);
-        updateGrid(nextBrickDataArr[2], nextBrickRectangles3);
+        // the next and hold bricks only change on a spawn or hold
+        if (!brick.samePreview(lastPreview))
+        {
+            lastPreview = brick;
+
+            // update next bricks
+            updateNextGrid(brick, 0, nextBrickRectangles1);
+            updateNextGrid(brick, 1, nextBrickRectangles2);
+            updateNextGrid(brick, 2, nextBrickRectangles3);
 
-        // update hold brick
-        updateGrid(brick.getHoldBrickData(), holdBrickRectangles);
+            // update hold brick
+            updateHoldGrid(brick, holdBrickRectangles);
+        }
+        metrics.endRender(start);
     }
 
     // helper for refreshBrick to handle the active brick's specific mirroring logic
@@ -227,32 +243,50 @@ public class GameRenderer {
      * @param brick current view data
      */
     private void updateActiveBrick(ViewData brick) {
-        int brickHeight = brick.getBrickData().length;
+        int brickHeight = brick.getBrickHeight();
+        int brickWidth = brick.getBrickWidth();
 
         for (int i = 0; i < brickHeight; i++)
         {
             // clean logic using helper
             int targetRow = getVisualRow(i, brickHeight);
-            for (int j = 0; j < brick.getBrickData()[i].length; j++)
+            for (int j = 0; j < brickWidth; j++)
             {
-                setRectangleData(brick.getBrickData()[i][j], rectangles[targetRow][j]);
+                setRectangleData(brick.brickCell(i, j), rectangles[targetRow][j]);
             }
         }
     }
 
-    // helper for refreshBrick to handle standard grids
+    // helpers for refreshBrick to handle the preview and hold grids
     /**
-     * Updates a standard rectangle grid with color data.
+     * Updates a preview rectangle grid with an upcoming brick's colours.
      *
-     * @param data color matrix
+     * @param brick current view data
+     * @param index position in the preview, next first
+     * @param gridRects target rectangles
+     */
+    private void updateNextGrid(ViewData brick, int index, Rectangle[][] gridRects) {
+        for (int i = 0; i < brick.getNextHeight(index); i++)
+        {
+            for (int j = 0; j < brick.getNextWidth(index); j++)
+            {
+                setRectangleData(brick.nextCell(index, i, j), gridRects[i][j]);
+            }
+        }
+    }
+
+    /**
+     * Updates the hold rectangle grid with the held brick's colours.
+     *
+     * @param brick current view data
      * @param gridRects target rectangles
      */
-    private void updateGrid(int[][] data, Rectangle[][] gridRects) {
-        for (int i = 0; i < data.length; i++)
+    private void updateHoldGrid(ViewData brick, Rectangle[][] gridRects) {
+        for (int i = 0; i < brick.getHoldHeight(); i++)
         {
-            for (int j = 0; j < data[i].length; j++)
+            for (int j = 0; j < brick.getHoldWidth(); j++)
             {
-                setRectangleData(data[i][j], gridRects[i][j]);
+                setRectangleData(brick.holdCell(i, j), gridRects[i][j]);
             }
         }
     }
@@ -263,7 +297,11 @@ public class GameRenderer {
      *
      * @param board background matrix
      */
+    @Override
     public void refreshGameBackground(int[][] board) {
+        long start = System.nanoTime();
+        BoardRefreshEvent event = new BoardRefreshEvent();
+        event.begin();
         int boardHeight = board.length;
         for (int i = 0; i < boardHeight; i++) {
             // Clean logic using helper
@@ -272,6 +310,72 @@ public class GameRenderer {
                 setRectangleData(board[i][j], displayMatrix[visualRow][j]);
             }
         }
+        fullRepaintPending = false;
+        event.cells = boardHeight * (boardHeight > 0 ? board[0].length : 0);
+        event.full = true;
+        event.commit();
+        metrics.endRender(start);
+    }
+
+    // only the rectangles of changed cells are touched
+    /**
+     * Refreshes only the background cells that changed since the last refresh.
+     *
+     * @param board background matrix
+     * @param dirty the cells changed since the last refresh
+     */
+    @Override
+    public void refreshGameBackground(int[][] board, DirtyCells dirty) {
+        if (fullRepaintPending || dirty.isAllDirty())
+        {
+            refreshGameBackground(board);
+            return;
+        }
+        long start = System.nanoTime();
+        BoardRefreshEvent event = new BoardRefreshEvent();
+        event.begin();
+        int boardHeight = board.length;
+        int cells = 0;
+        for (int cell = dirty.nextCell(0); cell >= 0; cell = dirty.nextCell(cell + 1))
+        {
+            int row = dirty.rowOf(cell);
+            int col = dirty.colOf(cell);
+            setRectangleData(board[row][col], displayMatrix[getVisualRow(row, boardHeight)][col]);
+            cells++;
+        }
+        event.cells = cells;
+        event.commit();
+        metrics.endRender(start);
+    }
+
+    @Override
+    public void refreshGhost(ViewData brick, int[][] boardMatrix) {
+        if (ghostBrickHandler != null) ghostBrickHandler.update(brick, boardMatrix);
+    }
+
+    @Override
+    public void clearGhost() {
+        if (ghostBrickHandler != null) ghostBrickHandler.clear();
+    }
+
+    @Override
+    public void showHint(int[][] shape, int x, int y) {
+        if (hintHandler != null) hintHandler.showAt(shape, x, y);
+    }
+
+    @Override
+    public void clearHint() {
+        if (hintHandler != null) hintHandler.clear();
+    }
+
+    @Override
+    public void setBrickVisible(boolean visible) {
+        if (brickPanel != null) brickPanel.setVisible(visible);
+        if (!visible)
+        {
+            clearGhost();
+            clearHint();
+        }
     }
 
     // private to public
@@ -293,13 +397,18 @@ public class GameRenderer {
     /**
      * Clears all visible grids when switching menus or modes.
      */
+    @Override
     public void clearAll() {
+        clearGhost();
+        clearHint();
+        fullRepaintPending = true;
         clearGrid(displayMatrix);
         clearGrid(rectangles);
         clearGrid(nextBrickRectangles1);
         clearGrid(nextBrickRectangles2);
         clearGrid(nextBrickRectangles3);
         clearGrid(holdBrickRectangles);
+        lastPreview = null;
     }
 
     // Helper to clear a single grid
@@ -330,6 +439,7 @@ public class GameRenderer {
      * @param xPosition x-position
      * @param yPosition y-position
      */
+    @Override
     public void pulseLandedBlocks(int[][] brickData, int xPosition, int yPosition) {
         if (displayMatrix == null || brickData == null)
         {
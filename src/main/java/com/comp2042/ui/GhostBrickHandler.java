@@ -3,6 +3,8 @@ package com.comp2042.ui;
 import com.comp2042.core.Constants;
 import com.comp2042.core.MatrixOperations;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.FrameMetrics;
+import com.comp2042.metrics.GhostRecomputeEvent;
 import javafx.beans.property.DoubleProperty;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
@@ -12,7 +14,11 @@ import javafx.scene.shape.Rectangle;
 
 /**
  * Renders and positions a translucent ghost brick indicating the landing
- * position of the active brick, supporting upside-down mode.
+ * position of the active brick, supporting upside-down mode. A second
+ * handler shows suggested placements in a brighter outline. Time spent
+ * placing the ghost is added to the frame's {@link FrameMetrics}. An update
+ * that would place the same shape at the same spot, such as a refresh after
+ * the board changed away from the brick's column, is skipped.
  *
  * @author Eashwar
  * @version 1.0
@@ -23,10 +29,21 @@ public class GhostBrickHandler {
     private final GridPane brickPanel;
     private final DoubleProperty gamePanelSceneX;
     private final DoubleProperty gamePanelSceneY;
-    private final GameRenderer renderer;
+    private final BoardRenderer renderer;
     private final GridPane ghostPanel = new GridPane();
     private Rectangle[][] ghostRectangles;
     private boolean isUpsideDown = false;
+    private final FrameMetrics metrics = FrameMetrics.getDefault();
+
+    // what the ghost was last placed for, to skip updates that change nothing
+    private ViewData lastBrick;
+    // copy of the active brick's shape, taken again only when the brick or its rotation changes
+    private int[][] ghostShape;
+    private int lastX;
+    private int lastY;
+    private int lastLanding;
+    private double lastLayoutX;
+    private double lastLayoutY;
 
     // create a ghost brick panel with the same proportions as boreder pane
     // place it on top of the brick panel
@@ -44,7 +61,7 @@ public class GhostBrickHandler {
                              GridPane brickPanel,
                              DoubleProperty gamePanelSceneX,
                              DoubleProperty gamePanelSceneY,
-                             GameRenderer renderer) {
+                             BoardRenderer renderer) {
 
         this.gamePanel = gamePanel;
         this.brickPanel = brickPanel;
@@ -74,6 +91,7 @@ public class GhostBrickHandler {
      */
     public void setUpsideDown(boolean value) {
         this.isUpsideDown = value;
+        lastBrick = null;
     }
 
     /**
@@ -82,8 +100,12 @@ public class GhostBrickHandler {
      * @param brick current view data
      */
     public void init(ViewData brick) {
+        initRectangles(brick.getBrickHeight(), brick.getBrickWidth());
+    }
 
-        ghostRectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
+    private void initRectangles(int rows, int cols) {
+
+        ghostRectangles = new Rectangle[rows][cols];
 
         for (int i = 0; i < ghostRectangles.length; i++)
         {
@@ -102,7 +124,7 @@ public class GhostBrickHandler {
         }
     }
 
-    // calculate landing position by simulating fall
+    // landing position comes from the board when available, otherwise simulate the fall
     /**
      * Updates the ghost colors and positions the panel at the landing spot.
      *
@@ -112,20 +134,65 @@ public class GhostBrickHandler {
     public void update(ViewData brick, int[][] boardMatrix) {
 
         if (brick == null || boardMatrix == null) return;
-        ensureRectangles(brick);
-        applyGhostColors(brick);
-        int[][] shape = brick.getBrickData();
         int x = brick.getxPosition();
         int y = brick.getyPosition();
-        int yf = y;
+        int yf = brick.getLandingY();
+        // a simulated fall depends on the whole board, so only a landing row from the board can be reused
+        if (yf != ViewData.NO_LANDING && isPlacedFor(brick, x, y, yf)) return;
+        long start = System.nanoTime();
+        GhostRecomputeEvent event = new GhostRecomputeEvent();
+        event.begin();
+        ensureRectangles(brick);
+        if (!brick.sameBrick(lastBrick)) applyGhostColors(brick);
 
-        while (!MatrixOperations.collidesWithBackground(boardMatrix, shape, x, yf + 1))
+        if (yf == ViewData.NO_LANDING)
         {
-            yf++;
+            event.simulated = true;
+            yf = y;
+            while (!MatrixOperations.collidesWithBackground(boardMatrix, ghostShape, x, yf + 1))
+            {
+                yf++;
+            }
         }
 
         positionGhostPanel(x, y, yf);
         ghostPanel.setVisible(yf >= 0);
+        lastBrick = brick;
+        lastX = x;
+        lastY = y;
+        lastLanding = yf;
+        lastLayoutX = brickPanel.getLayoutX();
+        lastLayoutY = brickPanel.getLayoutY();
+        event.landingY = yf;
+        event.commit();
+        metrics.endRender(start);
+    }
+
+    /**
+     * Shows a brick outline at an absolute board position, used for the
+     * suggested placement rather than the landing spot.
+     *
+     * @param shape brick matrix to outline
+     * @param x x-position
+     * @param y y-position
+     */
+    public void showAt(int[][] shape, int x, int y) {
+        long start = System.nanoTime();
+        lastBrick = null;
+        if (ghostRectangles == null)
+        {
+            initRectangles(shape.length, shape[0].length);
+        }
+        applyColors(shape, Constants.HINT_FILL_OPACITY, Color.color(1, 1, 1, Constants.HINT_STROKE_OPACITY));
+
+        double cellWidth = gamePanel.getHgap() + Constants.BRICK_SIZE;
+        double cellHeight = gamePanel.getVgap() + Constants.BRICK_SIZE;
+        // same placement rule as the active brick panel
+        double yPos = isUpsideDown ? Constants.BOARD_ROWS - y - shape.length : y;
+        ghostPanel.setLayoutX(gamePanelSceneX.get() + x * cellWidth);
+        ghostPanel.setLayoutY(gamePanelSceneY.get() + yPos * cellHeight);
+        ghostPanel.setVisible(true);
+        metrics.endRender(start);
     }
 
     /**
@@ -133,6 +200,13 @@ public class GhostBrickHandler {
      */
     public void clear() {
         ghostPanel.setVisible(false);
+        lastBrick = null;
+    }
+
+    // whether the ghost already shows this shape landing here, with the brick panel where it was
+    private boolean isPlacedFor(ViewData brick, int x, int y, int landing) {
+        return brick.sameBrick(lastBrick) && x == lastX && y == lastY && landing == lastLanding
+                && brickPanel.getLayoutX() == lastLayoutX && brickPanel.getLayoutY() == lastLayoutY;
     }
 
     // calculates position differently if upside down
@@ -179,7 +253,18 @@ public class GhostBrickHandler {
      * @param brick current view data
      */
     private void applyGhostColors(ViewData brick) {
-        int[][] shape = brick.getBrickData();
+        ghostShape = brick.getBrickData();
+        applyColors(ghostShape, 0.15, null);
+    }
+
+    /**
+     * Colours the outline cells of a shape in the brick's own colour.
+     *
+     * @param shape brick matrix
+     * @param fillOpacity opacity of the cell fill
+     * @param stroke outline colour, or null for the brick colour
+     */
+    private void applyColors(int[][] shape, double fillOpacity, Color stroke) {
         int brickHeight = shape.length;
 
         for (int i = 0; i < brickHeight; i++)
@@ -201,10 +286,10 @@ public class GhostBrickHandler {
                 {
                     Paint c = renderer.getFillColor(cell);
                     Color base = c instanceof Color ? (Color) c : Color.WHITE;
-                    r.setFill(Color.color(base.getRed(), base.getGreen(), base.getBlue(), 0.15));
-                    r.setStroke(Color.color(base.getRed(), base.getGreen(), base.getBlue(), 0.6));
+                    r.setFill(Color.color(base.getRed(), base.getGreen(), base.getBlue(), fillOpacity));
+                    r.setStroke(stroke != null ? stroke : Color.color(base.getRed(), base.getGreen(), base.getBlue(), 0.6));
                 }
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -2,19 +2,27 @@ package com.comp2042.ui;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.function.Supplier;
 
+import com.comp2042.ai.HintService;
+import com.comp2042.ai.Placement;
+
+import com.comp2042.core.BoardSnapshot;
 import com.comp2042.core.Constants;
+import com.comp2042.core.DirtyCells;
 import com.comp2042.core.GameEventListener;
 import com.comp2042.core.GameLoopManager;
 import com.comp2042.core.GameModeHandler.GameMode;
 import com.comp2042.events.MoveEvent;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.input.KeyboardInputManager;
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.logic.workflow.ClearRow;
 import com.comp2042.logic.workflow.DownData;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.metrics.FrameMetrics;
 
-import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
@@ -39,8 +47,7 @@ import javafx.scene.text.Font;
 public class GuiController implements Initializable, GameEventListener {
 
     private final GameLoopManager gameLoopManager = new GameLoopManager(this);
-    private GameRenderer gameRenderer;
-    private GhostBrickHandler ghostBrickHandler;
+    private BoardRenderer gameRenderer;
 
     @FXML
     private GridPane gamePanel;
@@ -123,6 +130,9 @@ public class GuiController implements Initializable, GameEventListener {
     @FXML
     private Label timerLabel;
 
+    @FXML
+    private Label metricsLabel;
+
     private InputEventListener eventListener;
 
     // scene co ordinates for efficient brick positioning
@@ -138,6 +148,14 @@ public class GuiController implements Initializable, GameEventListener {
 
     private ViewData lastViewData;
 
+    private Supplier<BoardSnapshot> snapshotSource;
+
+    private HintService hintService;
+
+    private boolean hintsEnabled = false;
+
+    private MetricsOverlay metricsOverlay;
+
     @Override
     /**
      * Initializes the UI components, renderer, overlays, input, and bindings.
@@ -148,7 +166,7 @@ public class GuiController implements Initializable, GameEventListener {
     public void initialize(URL location, ResourceBundle resources) {
 
         // initialize renderer
-        gameRenderer = new GameRenderer(gamePanel, brickPanel, nextBrickPanel1, nextBrickPanel2, nextBrickPanel3, holdBrickPanel, gamePanelSceneX, gamePanelSceneY);
+        gameRenderer = createRenderer();
 
         // using grid.png as the background for playing area
         gamePanel.setBackground(new javafx.scene.layout.Background(
@@ -169,6 +187,9 @@ public class GuiController implements Initializable, GameEventListener {
         // use new class
         gamePanel.setOnKeyPressed(new KeyboardInputManager(this, gameRenderer));
 
+        // frames end on every pulse, whether or not the timings are shown
+        metricsOverlay = new MetricsOverlay(metricsLabel, gamePanel, FrameMetrics.getDefault());
+
         musicManager = new MusicManager("sound/theme.mp3");
 
         // use methods from overlay manager to set up overlays
@@ -209,6 +230,20 @@ public class GuiController implements Initializable, GameEventListener {
         }
     }
 
+    // node renderer by default, canvas renderer when selected by system property
+    /**
+     * Creates the board renderer selected by {@link Constants#RENDERER_PROPERTY}.
+     *
+     * @return the canvas renderer if requested, otherwise the node renderer
+     */
+    private BoardRenderer createRenderer() {
+        if (Constants.RENDERER_CANVAS.equalsIgnoreCase(System.getProperty(Constants.RENDERER_PROPERTY)))
+        {
+            return new CanvasGameRenderer(gamePanel, brickPanel, nextBrickPanel1, nextBrickPanel2, nextBrickPanel3, holdBrickPanel);
+        }
+        return new GameRenderer(gamePanel, brickPanel, nextBrickPanel1, nextBrickPanel2, nextBrickPanel3, holdBrickPanel, gamePanelSceneX, gamePanelSceneY);
+    }
+
     // used getter here
     public InputEventListener getEventListener() {
         return this.eventListener;
@@ -216,13 +251,12 @@ public class GuiController implements Initializable, GameEventListener {
 
     // helper method to switch modes in renderers
     /**
-     * Toggles upside-down rendering mode for renderer and ghost handler.
+     * Toggles upside-down rendering mode for the renderer.
      *
      * @param enable whether to enable upside-down mode
      */
     public void setUpsideDownMode(boolean enable) {
         if (gameRenderer != null) gameRenderer.setUpsideDown(enable);
-        if (ghostBrickHandler != null) ghostBrickHandler.setUpsideDown(enable);
 
         // force refresh if we have data, so the screen flips instantly
         if (lastBoardMatrix != null) {
@@ -278,17 +312,14 @@ public class GuiController implements Initializable, GameEventListener {
      * @param brick current view data
      */
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        gameLoopManager.setupTimeline();
+        gameLoopManager.setupGameLoop();
 
+        // ensure renderer and its ghost respect current mode on init
+        gameRenderer.setUpsideDown(gameLoopManager.getModeHandler().getMode() == GameMode.BOTTOMS_UP);
         gameRenderer.initGameView(boardMatrix, brick);
-        // set up ghost brick handler
-        ghostBrickHandler = new GhostBrickHandler(gamePanel, brickPanel, gamePanelSceneX, gamePanelSceneY, gameRenderer);
-        // ensure ghost handler respects current mode on init
-        ghostBrickHandler.setUpsideDown(gameLoopManager.getModeHandler().getMode() == GameMode.BOTTOMS_UP);
 
         lastBoardMatrix = boardMatrix;
         lastViewData = brick;
-        ghostBrickHandler.init(brick);
         if (startOverlay != null)
         {
             setBrickPanelVisible(false);
@@ -305,9 +336,26 @@ public class GuiController implements Initializable, GameEventListener {
     public void refreshGameBackground(int[][] board) {
         lastBoardMatrix = board;
         gameRenderer.refreshGameBackground(board);
-        if (lastViewData != null && ghostBrickHandler != null)
+        if (lastViewData != null)
+        {
+            gameRenderer.refreshGhost(lastViewData, lastBoardMatrix);
+        }
+    }
+
+    @Override
+    /**
+     * Repaints the changed background cells and updates the ghost if the board changed.
+     *
+     * @param board the updated background matrix
+     * @param dirty the cells changed since the last refresh
+     */
+    public void refreshGameBackground(int[][] board, DirtyCells dirty) {
+        lastBoardMatrix = board;
+        gameRenderer.refreshGameBackground(board, dirty);
+        // the landing spot can only move if some cell changed
+        if (lastViewData != null && !dirty.isEmpty())
         {
-            ghostBrickHandler.update(lastViewData, lastBoardMatrix);
+            gameRenderer.refreshGhost(lastViewData, lastBoardMatrix);
         }
     }
 
@@ -323,13 +371,36 @@ public class GuiController implements Initializable, GameEventListener {
         this.eventListener = eventListener;
     }
 
+    @Override
+    public void setSnapshotSource(Supplier<BoardSnapshot> source) {
+        this.snapshotSource = source;
+    }
+
+    // hints are computed in the background so the key press returns at once
+    /**
+     * Turns placement hints on or off.
+     */
+    public void toggleHints() {
+        hintsEnabled = !hintsEnabled;
+        if (hintsEnabled && hintService == null)
+        {
+            hintService = new HintService(Constants.BOARD_ROWS, Constants.BOARD_COLS, Platform::runLater);
+        }
+        if (lastViewData != null)
+        {
+            updateGhost(lastViewData);
+        }
+    }
+
+    public MetricsOverlay getMetricsOverlay() { return metricsOverlay; }
+
     /**
      * Clears and resets UI state during transitions between game modes.
      */
     public void gameModeTransition() {
-        if (gameLoopManager.getTimeLine() != null) gameLoopManager.getTimeLine().stop();
+        gameLoopManager.stop();
         setBrickPanelVisible(false);
-        if (ghostBrickHandler != null) ghostBrickHandler.clear();
+        if (hintService != null) hintService.cancel();
         if (gameRenderer != null) gameRenderer.clearAll();
         lastViewData = null;
         lastBoardMatrix = null;
@@ -369,9 +440,6 @@ public class GuiController implements Initializable, GameEventListener {
     // set up getters
     public void setOverlayManager(OverlayManager overlayManager) { this.overlayManager = overlayManager; }
     public OverlayManager getOverlayManager() { return overlayManager; }
-    public Timeline getTimeLine() {
-        return gameLoopManager.getTimeLine();
-    }
     public AnchorPane getStartOverlay() { return startOverlay; }
     public BooleanProperty getIsPause() {
         return gameLoopManager.getIsPause();
@@ -397,16 +465,50 @@ public class GuiController implements Initializable, GameEventListener {
     public void updateGhost(ViewData brick) {
         lastViewData = brick;
         boolean show = gameLoopManager.isPlaying() && !(startOverlay != null && startOverlay.isVisible());
-        if (ghostBrickHandler != null && lastBoardMatrix != null && show)
+        if (gameRenderer != null && lastBoardMatrix != null && show)
         {
-            ghostBrickHandler.update(brick, lastBoardMatrix);
+            gameRenderer.refreshGhost(brick, lastBoardMatrix);
+            updateHint();
         }
-        else if (ghostBrickHandler != null)
+        else if (gameRenderer != null)
         {
-            ghostBrickHandler.clear();
+            gameRenderer.clearGhost();
+            clearHint();
         }
     }
 
+    // every move or spawn replaces the hint being computed, so only the latest state is shown
+    /**
+     * Requests a hint for the current state, or clears it when hints are off.
+     */
+    private void updateHint() {
+        if (hintsEnabled && snapshotSource != null)
+        {
+            hintService.request(snapshotSource.get(), this::showHint);
+        }
+        else
+        {
+            clearHint();
+        }
+    }
+
+    /**
+     * Shows a suggested placement as a second ghost.
+     *
+     * @param hint the placement to show
+     */
+    private void showHint(Placement hint) {
+        if (gameRenderer != null && hintsEnabled && gameLoopManager.isPlaying())
+        {
+            gameRenderer.showHint(ShapeTable.shape(hint.getPiece(), hint.getRotation()), hint.getX(), hint.getY());
+        }
+    }
+
+    private void clearHint() {
+        if (hintService != null) hintService.cancel();
+        if (gameRenderer != null) gameRenderer.clearHint();
+    }
+
     // pulse method
     @Override
     /**
@@ -423,12 +525,11 @@ public class GuiController implements Initializable, GameEventListener {
     }
 
     /**
-     * Shows or hides the brick panel and clears ghost when hidden.
+     * Shows or hides the active brick and clears ghost when hidden.
      *
-     * @param visible whether the brick panel should be visible
+     * @param visible whether the active brick should be visible
      */
     public void setBrickPanelVisible(boolean visible) {
-        if (brickPanel != null) brickPanel.setVisible(visible);
-        if (!visible && ghostBrickHandler != null) ghostBrickHandler.clear();
+        if (gameRenderer != null) gameRenderer.setBrickVisible(visible);
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.comp2042.ui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.comp2042.core.Constants;
+import com.comp2042.metrics.FrameMetrics;
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+
+/**
+ * Ends a {@link FrameMetrics} frame on every FX pulse, once layout is
+ * done and just before the scene is drawn, timing the pulse from the
+ * time the animation timers are given. Shows the recorded
+ * percentiles in a debug label that can be toggled on and off.
+ *
+ * @author Eashwar
+ * @version 1.0
+ */
+public final class MetricsOverlay {
+
+    private final Label label;
+    private final FrameMetrics metrics;
+    private long lastRefresh;
+    private final AnimationTimer pulseStart = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            metrics.pulseStarted(now);
+        }
+    };
+
+    /**
+     * Creates the overlay and starts ending frames once the node is in a scene.
+     *
+     * @param label the label to show the metrics in, hidden at first
+     * @param node any node of the game scene
+     * @param metrics the metrics to record into
+     */
+    public MetricsOverlay(Label label, Node node, FrameMetrics metrics) {
+        this.label = label;
+        this.metrics = metrics;
+        if (label != null) label.setVisible(false);
+        if (node.getScene() != null)
+        {
+            attach(node.getScene());
+        }
+        else
+        {
+            node.sceneProperty().addListener((obs, oldScene, scene) -> {
+                if (oldScene == null && scene != null) attach(scene);
+            });
+        }
+    }
+
+    private void attach(Scene scene) {
+        scene.addPostLayoutPulseListener(this::onPulse);
+        pulseStart.start();
+    }
+
+    // the label is refreshed a few times a second so it does not cost a layout every frame
+    private void onPulse() {
+        long now = System.nanoTime();
+        metrics.pulse(now);
+        if (label != null && label.isVisible() && now - lastRefresh >= Constants.METRICS_OVERLAY_REFRESH_NANOS)
+        {
+            lastRefresh = now;
+            label.setText(metrics.summary());
+        }
+    }
+
+    /**
+     * Shows or hides the debug label.
+     */
+    public void toggle() {
+        if (label == null) return;
+        label.setVisible(!label.isVisible());
+        if (label.isVisible())
+        {
+            label.setText(metrics.summary());
+            label.toFront();
+        }
+    }
+
+    /**
+     * Writes the recorded metrics to a file in {@link Constants#METRICS_DIR}.
+     *
+     * @return the file written, or null if it could not be written
+     */
+    public Path dump() {
+        try
+        {
+            return metrics.dump();
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+}
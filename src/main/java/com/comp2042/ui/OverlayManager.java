@@ -238,7 +238,7 @@ public final class OverlayManager {
             if (controller.getEventListener() != null) controller.getEventListener().createNewGame();
             controller.getIsGameOver().set(false);
 
-            if (controller.getTimeLine() != null) controller.getTimeLine().play();
+            controller.getGameLoopManager().play();
             controller.getIsPause().set(false);
             controller.setBrickPanelVisible(true);
 
@@ -261,7 +261,7 @@ public final class OverlayManager {
             if (controller.getEventListener() != null) controller.getEventListener().createNewGame();
             controller.getIsGameOver().set(false);
 
-            if (controller.getTimeLine() != null) controller.getTimeLine().play();
+            controller.getGameLoopManager().play();
             controller.getIsPause().set(false);
             controller.setBrickPanelVisible(true);
 
@@ -282,7 +282,7 @@ public final class OverlayManager {
             if (controller.getEventListener() != null) controller.getEventListener().createNewGame();
             controller.getIsGameOver().set(false);
 
-            if (controller.getTimeLine() != null) controller.getTimeLine().play();
+            controller.getGameLoopManager().play();
             controller.getIsPause().set(false);
             controller.setBrickPanelVisible(true);
 
@@ -296,7 +296,7 @@ public final class OverlayManager {
      */
     public void resumeGame() {
         controller.getIsPause().set(false);
-        if (controller.getTimeLine() != null) controller.getTimeLine().play();
+        controller.getGameLoopManager().play();
         controller.getGameLoopManager().getModeHandler().resume();
 
         if (musicManager != null) musicManager.resume();
@@ -311,7 +311,7 @@ public final class OverlayManager {
         if (startOverlay != null) {
             show(startOverlay);
             controller.getIsPause().set(true);
-            if (controller.getTimeLine() != null) controller.getTimeLine().pause();
+            controller.getGameLoopManager().pause();
             if (dynamicStartScreen != null) dynamicStartScreen.start();
             controller.setBrickPanelVisible(false);
             controller.getGameLoopManager().getModeHandler().stop();
@@ -330,7 +330,7 @@ public final class OverlayManager {
     public void togglePause() {
         if (!controller.getIsPause().get()) {
             controller.getIsPause().set(true);
-            if (controller.getTimeLine() != null) controller.getTimeLine().pause();
+            controller.getGameLoopManager().pause();
             controller.getGameLoopManager().getModeHandler().pause();
 
             if (musicManager != null) musicManager.pause();
@@ -356,7 +356,7 @@ public final class OverlayManager {
      * @param actionEvent action event triggering the reset
      */
     public void newGame(ActionEvent actionEvent) {
-        if (controller.getTimeLine() != null) controller.getTimeLine().stop();
+        controller.getGameLoopManager().stop();
         if (gameOverPanel != null) gameOverPanel.setVisible(false);
 
         hide(gameOverOverlay);
@@ -372,12 +372,12 @@ public final class OverlayManager {
         if (gamePanel != null) gamePanel.requestFocus();
         if (startOverlay != null && startOverlay.isVisible())
         {
-            if (controller.getTimeLine() != null) controller.getTimeLine().pause();
+            controller.getGameLoopManager().pause();
             controller.getGameLoopManager().getModeHandler().pause();
         }
         else
         {
-            if (controller.getTimeLine() != null) controller.getTimeLine().play();
+            controller.getGameLoopManager().play();
             controller.getGameLoopManager().getModeHandler().resume();
         }
         controller.getIsPause().set(false);
@@ -407,7 +407,7 @@ public final class OverlayManager {
     // split the loops to methods
     // metho to stop running game and other entities that its bound to
     private void stopRunningGame() {
-        if (controller.getTimeLine() != null) controller.getTimeLine().stop();
+        controller.getGameLoopManager().stop();
         controller.getGameLoopManager().getModeHandler().stop();
         if (musicManager != null) musicManager.stop();
     }
@@ -447,7 +447,7 @@ public final class OverlayManager {
         if (startOverlay != null) {
             show(startOverlay);
             controller.getIsPause().set(true);
-            if (controller.getTimeLine() != null) controller.getTimeLine().pause();
+            controller.getGameLoopManager().pause();
             if (dynamicStartScreen != null) dynamicStartScreen.start();
             if (musicManager != null) musicManager.startStartLoop("sound/start_screen.mp3");
         }
@@ -0,0 +1,75 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+
+class AutoPlayerTest {
+
+    // test that the bot survives a long seeded game and clears lines
+    @Test
+    void playsLongGame() {
+
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(42L);
+        AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller);
+        assertEquals(1000, bot.play(1000));
+        assertFalse(controller.getGame().isGameOver());
+        // at most a full board of the 4000 placed cells can be left standing
+        assertTrue(controller.getGame().getScore().getLinesCleared() >= 380);
+    }
+
+    // test that both board implementations play the same game
+    @Test
+    void boardsAgree() {
+
+        HeadlessController array = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        HeadlessController bitboard = new HeadlessController(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        array.createNewGame(9L);
+        bitboard.createNewGame(9L);
+        new AutoPlayer(array.getGame().getBoard(), array).play(300);
+        new AutoPlayer(bitboard.getGame().getBoard(), bitboard).play(300);
+        assertEquals(array.getGame().getBoard().snapshot(), bitboard.getGame().getBoard().snapshot());
+    }
+
+    // test that the hold option is considered only when enabled
+    @Test
+    void hold() {
+
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(3L);
+        AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller);
+        int holds = 0;
+        for (int i = 0; i < 200; i++) {
+            holds += bot.plan().isHold() ? 1 : 0;
+            bot.playPiece();
+        }
+        assertTrue(holds > 0);
+
+        bot.setHoldEnabled(false);
+        for (int i = 0; i < 50; i++) {
+            assertFalse(bot.plan().isHold());
+            bot.playPiece();
+        }
+    }
+
+    // test that the bot stops once the game is over
+    @Test
+    void stopsAtGameOver() {
+
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(5L);
+        // rewarding height stacks the board to the top
+        AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller, new Weights(0, 0, 1, 0));
+        assertTrue(bot.play(1000) < 1000);
+        assertTrue(controller.getGame().isGameOver());
+        assertNull(bot.playPiece());
+    }
+}
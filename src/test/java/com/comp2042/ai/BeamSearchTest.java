@@ -0,0 +1,78 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+
+class BeamSearchTest {
+
+    // long enough that every ply finishes
+    private static final long NO_BUDGET_MS = 60_000;
+
+    // test that a single ply without hold picks the greedy placement
+    @Test
+    void onePlyMatchesGreedy() {
+
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(11L);
+        AutoPlayer greedy = new AutoPlayer(controller.getGame().getBoard(), controller);
+        greedy.setHoldEnabled(false);
+        BeamSearch beam = new BeamSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS, Weights.DEFAULT,
+                ForkJoinPool.commonPool(), 8, NO_BUDGET_MS);
+        for (int i = 0; i < 100; i++) {
+            Placement expected = greedy.plan();
+            Placement actual = beam.plan(controller.getGame().getBoard().getBoardMatrixView(), expected.getPiece(),
+                    Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0, -1, new int[0], false);
+            assertEquals(expected.getX(), actual.getX());
+            assertEquals(expected.getY(), actual.getY());
+            assertEquals(expected.getRotation(), actual.getRotation());
+            assertEquals(expected.getMoves(), actual.getMoves());
+            greedy.playPiece();
+        }
+    }
+
+    // test that the plan does not depend on the number of threads
+    @Test
+    void deterministicAcrossPools() {
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            Placement[] plans = new Placement[2];
+            ForkJoinPool[] pools = {single, many};
+            for (int p = 0; p < pools.length; p++) {
+                HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+                controller.createNewGame(21L);
+                AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller);
+                bot.setLookahead(new BeamSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS, Weights.DEFAULT,
+                        pools[p], 8, NO_BUDGET_MS));
+                bot.play(60);
+                plans[p] = bot.plan();
+            }
+            assertNotNull(plans[0]);
+            assertEquals(plans[0].toString(), plans[1].toString());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    // test that the bot survives a long game with lookahead
+    @Test
+    void playsLongGame() {
+
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(42L);
+        AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller);
+        bot.setLookahead(new BeamSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS, Weights.DEFAULT));
+        assertEquals(300, bot.play(300));
+        assertFalse(controller.getGame().isGameOver());
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.core.Constants;
+import com.comp2042.logic.bricks.ShapeTable;
+
+class BoardEvaluatorTest {
+
+    // test that holes, bumpiness and height are measured after the lock
+    @Test
+    void features() {
+
+        long[] rows = new long[Constants.BOARD_ROWS];
+        // column 0 two high, column 1 one high
+        rows[18] = 0b1;
+        rows[19] = 0b11;
+        BoardEvaluator evaluator = new BoardEvaluator(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        // a flat I across columns 0 to 3 lands on row 17, covering the empty cells below it
+        evaluator.evaluate(rows, ShapeTable.I, 0, 0, 16, Weights.DEFAULT);
+        assertEquals(0, evaluator.getLinesCleared());
+        assertEquals(5, evaluator.getHoles());
+        assertEquals(3, evaluator.getBumpiness());
+        assertEquals(12, evaluator.getAggregateHeight());
+    }
+
+    // test that a column lower than both neighbours counts as a well
+    @Test
+    void wells() {
+
+        long[] rows = new long[Constants.BOARD_ROWS];
+        // columns 0 to 8 three high, column 9 empty against the wall
+        rows[17] = 0b0111111111L;
+        rows[18] = 0b0111111111L;
+        rows[19] = 0b0111111111L;
+        BoardEvaluator evaluator = new BoardEvaluator(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        Weights wellsOnly = new Weights(0, 0, 0, 0, -1);
+        double score = evaluator.evaluate(rows, ShapeTable.I, 0, 0, 15, wellsOnly);
+        assertEquals(3, evaluator.getWells());
+        assertEquals(-3.0, score, 1e-9);
+    }
+
+    // test that full rows are cleared before measuring
+    @Test
+    void clearsLines() {
+
+        long[] rows = new long[Constants.BOARD_ROWS];
+        rows[19] = 0b1111110000L;
+        BoardEvaluator evaluator = new BoardEvaluator(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        double score = evaluator.evaluate(rows, ShapeTable.I, 0, 0, 18, Weights.DEFAULT);
+        assertEquals(1, evaluator.getLinesCleared());
+        assertEquals(0, evaluator.getAggregateHeight());
+        assertEquals(Weights.DEFAULT.getLinesCleared(), score, 1e-9);
+        // the input rows are left untouched
+        assertEquals(0b1111110000L, rows[19]);
+    }
+
+    // test that locking above the board is never preferred
+    @Test
+    void toppedOut() {
+
+        long[] rows = new long[Constants.BOARD_ROWS];
+        BoardEvaluator evaluator = new BoardEvaluator(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        assertEquals(Double.NEGATIVE_INFINITY, evaluator.evaluate(rows, ShapeTable.I, 1, 0, -2, Weights.DEFAULT));
+    }
+}
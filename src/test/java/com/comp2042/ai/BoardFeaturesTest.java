@@ -0,0 +1,73 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Constants;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.logic.bricks.ShapeTable;
+
+class BoardFeaturesTest {
+
+    // test the transition and covered cell counts on a known board
+    @Test
+    void measuresKnownBoard() {
+
+        long[] rows = new long[Constants.BOARD_ROWS];
+        rows[18] = 0b1;
+        rows[19] = 0b11;
+        BoardFeatures features = new BoardFeatures(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        features.load(rows);
+        // a flat I lands on row 17 over columns 0 to 3
+        assertTrue(features.place(ShapeTable.I, 0, 0, 16));
+        assertEquals(5, features.getHoles());
+        assertEquals(3, features.getCoveredCells());
+        // seventeen empty rows at two each, and two in each of the three rows in use
+        assertEquals(40, features.getRowTransitions());
+        assertEquals(16, features.getColumnTransitions());
+        assertEquals(12, features.getAggregateHeight());
+        assertEquals(3, features.getBumpiness());
+    }
+
+    // test that every placement measured from its changes matches a full measurement
+    @Test
+    void incrementalMatchesFull() {
+
+        HeadlessController controller = new HeadlessController(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(17L);
+        // weights that leave holes and overhangs, so tucks and covered cells come up
+        AutoPlayer bot = new AutoPlayer(controller.getGame().getBoard(), controller, new Weights(0.1, -0.2, -0.3, 0.5));
+        PlacementSearch search = new PlacementSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        BoardFeatures incremental = new BoardFeatures(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        BoardFeatures full = new BoardFeatures(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        int checked = 0;
+        for (int turn = 0; turn < 150 && !controller.getGame().isGameOver(); turn++) {
+            search.load(controller.getGame().getBoard().getBoardMatrixView());
+            incremental.load(search.getRowBits());
+            for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+                int count = search.search(piece, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0);
+                for (int i = 0; i < count; i++) {
+                    if (!incremental.place(piece, search.getRotation(i), search.getX(i), search.getY(i))) {
+                        continue;
+                    }
+                    long[] after = incremental.getRows().clone();
+                    full.load(after);
+                    assertArrayEquals(after, full.getRows());
+                    assertEquals(full.getHoles(), incremental.getHoles());
+                    assertEquals(full.getCoveredCells(), incremental.getCoveredCells());
+                    assertEquals(full.getRowTransitions(), incremental.getRowTransitions());
+                    assertEquals(full.getColumnTransitions(), incremental.getColumnTransitions());
+                    assertEquals(full.getWells(), incremental.getWells());
+                    assertEquals(full.getBumpiness(), incremental.getBumpiness());
+                    assertEquals(full.getAggregateHeight(), incremental.getAggregateHeight());
+                    checked++;
+                }
+            }
+            bot.playPiece();
+        }
+        assertTrue(checked > 10_000);
+    }
+}
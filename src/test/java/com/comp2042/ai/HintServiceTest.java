@@ -0,0 +1,83 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+
+class HintServiceTest {
+
+    private static BoardSnapshot start(long seed) {
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(seed);
+        return controller.getGame().getBoard().snapshot();
+    }
+
+    // test that a hint for the current piece is delivered
+    @Test
+    void deliversHint() throws InterruptedException {
+
+        BoardSnapshot snapshot = start(5L);
+        AtomicReference<Placement> result = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (HintService service = new HintService(Constants.BOARD_ROWS, Constants.BOARD_COLS, Runnable::run)) {
+            service.request(snapshot, hint -> {
+                result.set(hint);
+                done.countDown();
+            });
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+        }
+        Placement hint = result.get();
+        assertNotNull(hint);
+        assertTrue(hint.getPiece() == snapshot.getPiece() || hint.isHold());
+    }
+
+    // test that only the latest request is delivered when callbacks queue up
+    @Test
+    void dropsStaleHints() throws InterruptedException {
+
+        LinkedBlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        try (HintService service = new HintService(Constants.BOARD_ROWS, Constants.BOARD_COLS, callbacks::add)) {
+            service.request(start(1L), hint -> delivered.add("first"));
+            // let the first search finish so its callback is queued before the second request
+            Runnable first = callbacks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(first);
+            service.request(start(2L), hint -> delivered.add("second"));
+            Runnable second = callbacks.poll(10, TimeUnit.SECONDS);
+            assertNotNull(second);
+            first.run();
+            second.run();
+        }
+        assertEquals(List.of("second"), delivered);
+    }
+
+    // test that a cancelled request delivers nothing
+    @Test
+    void cancelDropsHint() throws InterruptedException {
+
+        LinkedBlockingQueue<Runnable> callbacks = new LinkedBlockingQueue<>();
+        List<Placement> delivered = new CopyOnWriteArrayList<>();
+        try (HintService service = new HintService(Constants.BOARD_ROWS, Constants.BOARD_COLS, callbacks::add)) {
+            service.request(start(3L), delivered::add);
+            Runnable callback = callbacks.poll(10, TimeUnit.SECONDS);
+            service.cancel();
+            if (callback != null) {
+                callback.run();
+            }
+        }
+        assertTrue(delivered.isEmpty());
+    }
+}
@@ -0,0 +1,157 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.BrickRotator;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.workflow.ViewData;
+
+class PlacementSearchTest {
+
+    // test that every column and rotation is found on an empty board
+    @Test
+    void emptyBoard() {
+
+        PlacementSearch search = new PlacementSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        search.load(new int[Constants.BOARD_ROWS][Constants.BOARD_COLS]);
+        // two flat rotations with 8 columns each and two upright ones with 9
+        assertEquals(34, search.search(ShapeTable.T, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0));
+        // the I has two flat rotations with 7 columns and two upright ones with 10
+        assertEquals(34, search.search(ShapeTable.I, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0));
+        assertEquals(9, search.search(ShapeTable.O, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0));
+    }
+
+    // test that a blocked start has no placements
+    @Test
+    void blockedStart() {
+
+        int[][] matrix = new int[Constants.BOARD_ROWS][Constants.BOARD_COLS];
+        matrix[0][4] = 1;
+        PlacementSearch search = new PlacementSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        search.load(matrix);
+        assertEquals(0, search.search(ShapeTable.T, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0));
+    }
+
+    // test that a piece can slide under an overhang that a straight drop cannot reach
+    @Test
+    void findsTuck() {
+
+        GameBoard board = boardWith(ShapeTable.O);
+        int[][] matrix = board.getBoardMatrix();
+        for (int c = 0; c < 5; c++) {
+            matrix[17][c] = 1;
+        }
+        PlacementSearch search = new PlacementSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        search.load(matrix);
+        int count = search.search(ShapeTable.O, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0);
+        int tuck = -1;
+        for (int i = 0; i < count; i++) {
+            if (search.getX(i) == -1 && search.getY(i) == 17) {
+                tuck = i;
+            }
+        }
+        assertTrue(tuck >= 0);
+
+        List<EventType> moves = new ArrayList<>();
+        search.appendPath(tuck, moves);
+        // the slide happens after dropping below the shelf
+        assertTrue(moves.indexOf(EventType.DOWN) < moves.lastIndexOf(EventType.LEFT));
+        assertTrue(replay(board, moves));
+        assertEquals(-1, board.getViewData().getxPosition());
+        assertEquals(17, board.getViewData().getyPosition());
+    }
+
+    // test that every path reaches its placement through the board's own moves
+    @Test
+    void pathsMatchBoard() {
+
+        Random random = new Random(7);
+        PlacementSearch search = new PlacementSearch(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        List<EventType> moves = new ArrayList<>();
+        for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+            for (int trial = 0; trial < 5; trial++) {
+                GameBoard board = boardWith(piece);
+                int[][] matrix = board.getBoardMatrix();
+                // ragged, holey rows under an empty top
+                for (int r = 10; r < Constants.BOARD_ROWS; r++) {
+                    for (int c = 0; c < Constants.BOARD_COLS; c++) {
+                        matrix[r][c] = random.nextInt(100) < 45 ? 1 : 0;
+                    }
+                }
+                BoardSnapshot start = board.snapshot();
+                search.load(matrix);
+                int count = search.search(piece, Constants.BRICK_SPAWN_X, Constants.BRICK_SPAWN_Y, 0);
+                assertTrue(count > 0);
+                for (int i = 0; i < count; i++) {
+                    board.restore(start);
+                    moves.clear();
+                    search.appendPath(i, moves);
+                    assertTrue(replay(board, moves));
+                    ViewData view = board.getViewData();
+                    assertEquals(search.getX(i), view.getxPosition());
+                    assertEquals(search.getY(i), view.getyPosition());
+                    assertArrayEquals(ShapeTable.shape(piece, search.getRotation(i)), view.getBrickData());
+                }
+            }
+        }
+    }
+
+    // starts a game whose current brick is the given piece
+    private static GameBoard boardWith(int piece) {
+        GameBoard board = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        for (long seed = 0; ; seed++) {
+            board.newGame(seed);
+            if (Arrays.deepEquals(board.getViewData().getBrickData(), ShapeTable.shape(piece, 0))) {
+                return board;
+            }
+        }
+    }
+
+    // applies the moves one by one, failing if any of them is refused
+    private static boolean replay(GameBoard board, List<EventType> moves) {
+        for (EventType move : moves) {
+            boolean moved;
+            switch (move) {
+                case LEFT:
+                    moved = board.moveBrickLeft();
+                    break;
+                case RIGHT:
+                    moved = board.moveBrickRight();
+                    break;
+                case ROTATE:
+                    moved = board.rotateLeftBrick();
+                    break;
+                case ROTATE_CW:
+                    moved = board.rotateBrick(BrickRotator.CLOCKWISE);
+                    break;
+                case ROTATE_180:
+                    moved = board.rotateBrick(BrickRotator.HALF_TURN);
+                    break;
+                case DOWN:
+                    moved = board.moveBrickDown();
+                    break;
+                default:
+                    board.hardDropBrick();
+                    moved = true;
+                    break;
+            }
+            if (!moved) {
+                return false;
+            }
+        }
+        // a placement is where the brick can no longer fall
+        return !board.moveBrickDown();
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TournamentTest {
+
+    // test that results come back in seed order and match games played one at a time
+    @Test
+    void parallelMatchesSequential() {
+
+        Tournament tournament = new Tournament(4, Weights.DEFAULT, 200);
+        try {
+            List<Tournament.GameResult> results = tournament.run(7L, 6);
+            assertEquals(6, results.size());
+            for (int i = 0; i < results.size(); i++) {
+                Tournament.GameResult expected = Tournament.play(7L + i, Weights.DEFAULT, 200);
+                Tournament.GameResult actual = results.get(i);
+                assertEquals(7L + i, actual.getSeed());
+                assertEquals(expected.getScore(), actual.getScore());
+                assertEquals(expected.getLines(), actual.getLines());
+                assertEquals(200, actual.getPieces());
+            }
+        } finally {
+            tournament.shutdown();
+        }
+    }
+
+    // test the aggregate statistics on known results
+    @Test
+    void summarizes() {
+
+        List<Tournament.GameResult> results = List.of(
+                new Tournament.GameResult(1L, 100, 10, 40, 0L),
+                new Tournament.GameResult(2L, 300, 30, 80, 0L),
+                new Tournament.GameResult(3L, 200, 20, 60, 0L),
+                new Tournament.GameResult(4L, 400, 40, 100, 0L));
+        Tournament.Summary summary = Tournament.summarize(results, 2_000_000_000L);
+        assertEquals(4, summary.getGames());
+        assertEquals(25.0, summary.getMeanLines(), 1e-9);
+        assertEquals(20, summary.getP50Lines());
+        assertEquals(40, summary.getP90Lines());
+        assertEquals(40, summary.getP99Lines());
+        assertEquals(250.0, summary.getMeanScore(), 1e-9);
+        assertEquals(70.0, summary.getMeanPieces(), 1e-9);
+        assertEquals(140.0, summary.getPiecesPerSecond(), 1e-9);
+        assertTrue(summary.toString().contains("4 games"));
+    }
+
+    // test that weights round trip through their text form
+    @Test
+    void parsesWeights() {
+
+        Weights weights = Weights.parse("-0.5, -0.25,-1,2");
+        assertEquals(-0.5, weights.getHoles());
+        assertEquals(-0.25, weights.getBumpiness());
+        assertEquals(-1.0, weights.getAggregateHeight());
+        assertEquals(2.0, weights.getLinesCleared());
+        assertThrows(IllegalArgumentException.class, () -> Weights.parse("1,2,3"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class TranspositionTableTest {
+
+    // test that the smallest key owns a position
+    @Test
+    void claim() {
+
+        TranspositionTable table = new TranspositionTable(16);
+        assertTrue(table.claim(42L, 5));
+        assertFalse(table.claim(42L, 7));
+        // an earlier key takes the position over
+        assertTrue(table.claim(42L, 3));
+        assertEquals(3, table.owner(42L));
+        assertEquals(-1, table.owner(43L));
+    }
+
+    // test that colliding slots and clearing work
+    @Test
+    void probeAndClear() {
+
+        TranspositionTable table = new TranspositionTable(4);
+        // all of these start at the same slot
+        for (long h = 1; h <= 4; h++) {
+            assertTrue(table.claim(h << 40, h));
+        }
+        for (long h = 1; h <= 4; h++) {
+            assertEquals(h, table.owner(h << 40));
+        }
+        // a full table accepts everything rather than failing
+        assertTrue(table.claim(99L, 0));
+        table.clear();
+        assertEquals(-1, table.owner(1L << 40));
+    }
+}
@@ -0,0 +1,71 @@
+package com.comp2042.ai;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class WeightTunerTest {
+
+    private static List<String> formatted(List<Weights> population) {
+        return population.stream().map(Weights::format).toList();
+    }
+
+    // test that a run resumed from its checkpoint continues exactly as an uninterrupted one
+    @Test
+    void resumesFromCheckpoint() throws IOException {
+
+        Path dir = Files.createTempDirectory("tuner");
+        WeightTuner straight = new WeightTuner(2, 6, 2, 40, 3L, dir.resolve("straight.txt"));
+        straight.step();
+        straight.step();
+        straight.shutdown();
+
+        Path file = dir.resolve("resumed.txt");
+        WeightTuner first = new WeightTuner(2, 6, 2, 40, 3L, file);
+        first.step();
+        first.shutdown();
+        WeightTuner resumed = new WeightTuner(2, 99, 2, 40, 99L, file);
+        assertEquals(1, resumed.getGeneration());
+        assertEquals(6, resumed.getPopulation().size());
+        resumed.step();
+        resumed.shutdown();
+
+        assertEquals(2, resumed.getGeneration());
+        assertEquals(formatted(straight.getPopulation()), formatted(resumed.getPopulation()));
+    }
+
+    // test that the best candidate is carried over and reported
+    @Test
+    void keepsBest() throws IOException {
+
+        WeightTuner tuner = new WeightTuner(2, 5, 2, 40, 8L, null);
+        WeightTuner.Generation result = tuner.step();
+        tuner.shutdown();
+        assertEquals(0, result.getIndex());
+        assertTrue(result.getBestFitness() >= result.getMeanFitness());
+        assertEquals(result.getBest().format(), tuner.getPopulation().get(0).format());
+    }
+
+    // test that children are unit vectors between their parents
+    @Test
+    void crossoverNormalizes() {
+
+        Weights a = new Weights(-2, 0, 0, 0, 0);
+        Weights b = new Weights(0, 0, 0, 0, -2);
+        Weights child = WeightTuner.crossover(a, 3.0, b, 1.0);
+        double[] v = child.toArray();
+        double length = 0;
+        for (double x : v) {
+            length += x * x;
+        }
+        assertEquals(1.0, length, 1e-9);
+        // the fitter parent pulls harder
+        assertTrue(v[0] < v[4]);
+        assertTrue(v[4] < 0);
+    }
+}
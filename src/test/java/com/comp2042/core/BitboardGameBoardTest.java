@@ -0,0 +1,72 @@
+package com.comp2042.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.logic.workflow.ClearRow;
+
+// runs the whole GameBoardTest suite against the bitboard implementation
+class BitboardGameBoardTest extends GameBoardTest {
+
+    @Override
+    Board newBoard() {
+        return new BitboardGameBoard(10, 20);
+    }
+
+    // test that collisions agree with the matrix implementation on random boards
+    @Test
+    void collidesMatchesMatrixOperations() {
+
+        java.util.Random random = new java.util.Random(42);
+        int[][][] shapes = {
+                {{0, 0, 0, 0}, {1, 1, 1, 1}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                {{0, 6, 0, 0}, {6, 6, 6, 0}, {0, 0, 0, 0}, {0, 0, 0, 0}},
+                {{5, 0, 0, 0}, {5, 5, 0, 0}, {0, 5, 0, 0}, {0, 0, 0, 0}}
+        };
+
+        for (int round = 0; round < 50; round++) {
+            BitboardGameBoard board = new BitboardGameBoard(20, 10);
+            int[][] m = board.getBoardMatrix();
+            for (int[] row : m) {
+                for (int c = 0; c < row.length; c++) {
+                    row[c] = random.nextInt(4) == 0 ? 1 + random.nextInt(7) : 0;
+                }
+            }
+            for (int[][] shape : shapes) {
+                for (int x = -4; x <= 11; x++) {
+                    for (int y = -5; y <= 21; y++) {
+                        // bitboard must give the same answer as the cell-by-cell check
+                        assertEquals(MatrixOperations.collidesWithBackground(m, shape, x, y), board.collides(shape, x, y));
+                    }
+                }
+            }
+        }
+    }
+
+    // test that clearing keeps colours and compacts like clearFullRows
+    @Test
+    void clearRowsMatchesMatrixOperations() {
+
+        BitboardGameBoard board = new BitboardGameBoard(4, 3);
+        int[][] m = board.getBoardMatrix();
+        m[0] = new int[]{1, 0, 2};
+        m[1] = new int[]{5, 6, 7};
+        m[2] = new int[]{0, 3, 0};
+        m[3] = new int[]{8, 9, 1};
+
+        ClearRow expected = MatrixOperations.clearFullRows(board.getBoardMatrix());
+        ClearRow actual = board.clearRows();
+
+        assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+        assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+        assertArrayEquals(expected.getNewMatrix(), board.getBoardMatrix());
+    }
+
+    // test that boards wider than a long are rejected
+    @Test
+    void rejectsTooManyColumns() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardGameBoard(20, 65));
+    }
+}
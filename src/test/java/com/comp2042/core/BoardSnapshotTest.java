@@ -0,0 +1,111 @@
+package com.comp2042.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+class BoardSnapshotTest {
+
+    // drops a few pieces at spread out columns, holding once
+    private static void play(Board board, int pieces) {
+        for (int i = 0; i < pieces; i++) {
+            if (i == 2) board.holdBrick();
+            for (int s = 0; s < i % 5; s++) board.moveBrickLeft();
+            if (i % 2 == 0) board.rotateLeftBrick();
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            board.createNewBrick();
+        }
+    }
+
+    // test that a restored board continues exactly like the original, on both boards
+    @Test
+    void restoreContinuesGame() throws Exception {
+
+        Board[] boards = {new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS), new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS)};
+        for (Board board : boards) {
+            board.newGame(31L);
+            play(board, 6);
+            board.getScore().add(40);
+            BoardSnapshot snapshot = board.snapshot();
+
+            // through the binary form, into the other board type
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            snapshot.writeTo(new DataOutputStream(out));
+            BoardSnapshot read = BoardSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(out.toByteArray())), Constants.BOARD_ROWS, Constants.BOARD_COLS);
+            Board copy = board instanceof GameBoard
+                    ? new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS)
+                    : new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+            copy.newGame(99L);
+            copy.restore(read);
+
+            assertEquals(board.getSeed(), copy.getSeed());
+            assertEquals(board.getScore().getScore(), copy.getScore().getScore());
+            assertArrayEquals(board.getViewData().getHoldBrickData(), copy.getViewData().getHoldBrickData());
+            play(board, 6);
+            play(copy, 6);
+            assertArrayEquals(board.getBoardMatrixView(), copy.getBoardMatrixView());
+            assertEquals(board.getViewData().getxPosition(), copy.getViewData().getxPosition());
+        }
+    }
+
+    // test that the snapshot does not change when the board does
+    @Test
+    void snapshotIsCopy() {
+
+        Board board = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        board.newGame(3L);
+        BoardSnapshot snapshot = board.snapshot();
+        play(board, 3);
+        board.restore(snapshot);
+        int sum = java.util.Arrays.stream(board.getBoardMatrixView()).flatMapToInt(java.util.Arrays::stream).sum();
+        assertEquals(0, sum);
+        // every cell is repainted after a restore
+        assertEquals(true, board.getDirtyCells().isAllDirty());
+    }
+
+    // test that a snapshot of another board size is refused
+    @Test
+    void rejectsOtherSize() {
+
+        Board small = new GameBoard(10, 6);
+        small.newGame(1L);
+        Board board = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        assertThrows(IllegalArgumentException.class, () -> board.restore(small.snapshot()));
+    }
+
+    // test that a stream with another board size or an oversized queue is refused before allocating
+    @Test
+    void readRejectsBadHeader() throws Exception {
+
+        Board board = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        board.newGame(8L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        board.snapshot().writeTo(new DataOutputStream(out));
+        byte[] bytes = out.toByteArray();
+        assertThrows(IOException.class, () -> BoardSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)), Constants.BOARD_ROWS, 9));
+
+        // a crafted header claiming the largest board fails on the size check, not on allocation
+        byte[] huge = bytes.clone();
+        huge[0] = (byte) 0xFF;
+        huge[1] = (byte) 0xFF;
+        huge[2] = (byte) 0xFF;
+        huge[3] = (byte) 0xFF;
+        assertThrows(IOException.class, () -> BoardSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(huge)), Constants.BOARD_ROWS, Constants.BOARD_COLS));
+
+        // the queue length byte follows the cells, the brick, the hold slot and the generator state
+        // padded so that only the bound, not the end of the stream, can reject it
+        byte[] queue = java.util.Arrays.copyOf(bytes, bytes.length + 256);
+        int cells = (Constants.BOARD_ROWS * Constants.BOARD_COLS + 1) / 2;
+        queue[4 + cells + 1 + 1 + 2 + 2 + 1 + 1 + 8 + 8] = (byte) 200;
+        assertThrows(IOException.class, () -> BoardSnapshot.readFrom(new DataInputStream(new ByteArrayInputStream(queue)), Constants.BOARD_ROWS, Constants.BOARD_COLS));
+    }
+}
@@ -0,0 +1,55 @@
+package com.comp2042.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class DirtyCellsTest {
+
+    // test for mark brick method
+    @Test
+    void markBrick() {
+
+        DirtyCells dirty = new DirtyCells(20, 10);
+        int[][] brick = {{0, 1}, {1, 1}};
+        // the top cell is offscreen and should be skipped
+        dirty.markBrick(brick, 8, -1);
+        assertEquals(2, dirty.count());
+        assertTrue(dirty.isDirty(0, 8));
+        assertTrue(dirty.isDirty(0, 9));
+        assertFalse(dirty.isDirty(0, 7));
+    }
+
+    // test for mark rows method
+    @Test
+    void markRows() {
+
+        DirtyCells dirty = new DirtyCells(20, 10);
+        dirty.markRows(18, 25);
+        assertEquals(20, dirty.count());
+        assertEquals(180, dirty.nextCell(0));
+        assertEquals(18, dirty.rowOf(180));
+        assertEquals(3, dirty.colOf(183));
+    }
+
+    // test for add all and clear methods
+    @Test
+    void addAllAndClear() {
+
+        DirtyCells dirty = new DirtyCells(4, 4);
+        DirtyCells other = new DirtyCells(4, 4);
+        other.mark(1, 1);
+        dirty.addAll(other);
+        assertTrue(dirty.isDirty(1, 1));
+
+        other.markAll();
+        dirty.addAll(other);
+        assertTrue(dirty.isAllDirty());
+        assertEquals(16, dirty.count());
+
+        dirty.clear();
+        assertTrue(dirty.isEmpty());
+        assertEquals(-1, dirty.nextCell(0));
+    }
+}
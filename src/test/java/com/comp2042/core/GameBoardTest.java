@@ -7,13 +7,16 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
+import com.comp2042.logic.bricks.ShapeTable;
 import com.comp2042.logic.workflow.ClearRow;
 import com.comp2042.logic.workflow.ViewData;
 
 class GameBoardTest {
 
-    // create new board
-    private GameBoard newBoard() {
+    // create new board (overridden to run the suite against other board implementations)
+    Board newBoard() {
         return new GameBoard(10, 20);
     }
 
@@ -21,7 +24,7 @@ class GameBoardTest {
     @Test
     void moveBrickDown() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         boolean collidedAtSpawn = board.createNewBrick();
         // on empty board spawn should not collide
         assertFalse(collidedAtSpawn);
@@ -39,7 +42,7 @@ class GameBoardTest {
     @Test
     void moveBrickLeft() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
         ViewData before = board.getViewData();
 
@@ -56,7 +59,7 @@ class GameBoardTest {
     @Test
     void moveBrickRight() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
 
         ViewData before = board.getViewData();
@@ -73,7 +76,7 @@ class GameBoardTest {
     @Test
     void rotateLeftBrick() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
 
         boolean rotated = board.rotateLeftBrick();
@@ -81,10 +84,133 @@ class GameBoardTest {
         assertTrue(rotated);
     }
 
+    // test that SRS lifts a flat I piece off the floor when it turns upright
+    @Test
+    void rotateBrickFloorKick() {
+
+        Board board = boardWith(ShapeTable.I);
+        while (board.moveBrickDown()) {
+            // rest on the floor
+        }
+        ViewData before = board.getViewData();
+        // upright in place would reach below the floor, so the last kick lifts it two rows
+        assertTrue(board.rotateBrick(BrickRotator.CLOCKWISE));
+        ViewData after = board.getViewData();
+        assertArrayEquals(ShapeTable.shape(ShapeTable.I, 3), after.getBrickData());
+        assertEquals(before.getxPosition() + 1, after.getxPosition());
+        assertEquals(before.getyPosition() - 2, after.getyPosition());
+
+        // the legacy kicks only move sideways
+        Board legacy = boardWith(ShapeTable.I);
+        legacy.setRotationSystem(RotationSystem.LEGACY);
+        while (legacy.moveBrickDown()) {
+            // rest on the floor
+        }
+        assertFalse(legacy.rotateBrick(BrickRotator.CLOCKWISE));
+    }
+
+    // test that turning each way and back, or by half twice, returns the brick to where it was
+    @Test
+    void rotateBrickDirectionsUndo() {
+
+        for (int piece : new int[] {ShapeTable.I, ShapeTable.J, ShapeTable.L, ShapeTable.S, ShapeTable.T, ShapeTable.Z}) {
+            Board board = boardWith(piece);
+            for (int i = 0; i < 5; i++) {
+                board.moveBrickDown();
+            }
+            for (int rotation = 0; rotation < 4; rotation++) {
+                ViewData before = board.getViewData();
+                assertTrue(board.rotateBrick(BrickRotator.CLOCKWISE));
+                assertFalse(Arrays.deepEquals(before.getBrickData(), board.getViewData().getBrickData()));
+                assertTrue(board.rotateBrick(BrickRotator.COUNTER_CLOCKWISE));
+                assertPosition(before, board.getViewData());
+                assertTrue(board.rotateBrick(BrickRotator.HALF_TURN));
+                assertFalse(Arrays.deepEquals(before.getBrickData(), board.getViewData().getBrickData()));
+                assertTrue(board.rotateBrick(BrickRotator.HALF_TURN));
+                assertPosition(before, board.getViewData());
+                board.rotateLeftBrick();
+            }
+        }
+    }
+
+    // test that the I piece turns to a different upright column each way and through all four states
+    @Test
+    void rotateBrickIDirections() {
+
+        Board cw = boardWith(ShapeTable.I);
+        Board ccw = boardWith(ShapeTable.I);
+        for (int i = 0; i < 5; i++) {
+            cw.moveBrickDown();
+            ccw.moveBrickDown();
+        }
+        ViewData start = cw.getViewData();
+        // SRS puts the I upright in the third column for R and the second for L
+        assertTrue(cw.rotateBrick(BrickRotator.CLOCKWISE));
+        assertTrue(ccw.rotateBrick(BrickRotator.COUNTER_CLOCKWISE));
+        assertArrayEquals(ShapeTable.shape(ShapeTable.I, 3), cw.getViewData().getBrickData());
+        assertArrayEquals(ShapeTable.shape(ShapeTable.I, 1), ccw.getViewData().getBrickData());
+        assertEquals(start.getxPosition(), cw.getViewData().getxPosition());
+        assertEquals(start.getxPosition(), ccw.getViewData().getxPosition());
+
+        // R, 2 and L follow, then back to 0 where it started
+        assertTrue(cw.rotateBrick(BrickRotator.CLOCKWISE));
+        assertArrayEquals(ShapeTable.shape(ShapeTable.I, 2), cw.getViewData().getBrickData());
+        assertTrue(cw.rotateBrick(BrickRotator.CLOCKWISE));
+        assertArrayEquals(ShapeTable.shape(ShapeTable.I, 1), cw.getViewData().getBrickData());
+        assertTrue(cw.rotateBrick(BrickRotator.CLOCKWISE));
+        assertPosition(start, cw.getViewData());
+    }
+
+    // test that a half turn moves I, S and Z to their opposite state rather than leaving them in place
+    @Test
+    void rotateBrickHalfTurn() {
+
+        for (int piece : new int[] {ShapeTable.I, ShapeTable.S, ShapeTable.Z}) {
+            Board board = boardWith(piece);
+            for (int i = 0; i < 5; i++) {
+                board.moveBrickDown();
+            }
+            ViewData before = board.getViewData();
+            assertTrue(board.rotateBrick(BrickRotator.HALF_TURN));
+            ViewData after = board.getViewData();
+            // state 2 is state 0 one row lower
+            assertArrayEquals(ShapeTable.shape(piece, 2), after.getBrickData());
+            assertEquals(before.getxPosition(), after.getxPosition());
+            assertEquals(before.getyPosition(), after.getyPosition());
+            assertTrue(board.rotateBrick(BrickRotator.HALF_TURN));
+            assertPosition(before, board.getViewData());
+        }
+    }
+
+    // test that the preview is kept across moves and rebuilt after a hold or spawn
+    @Test
+    void viewDataPreviewVersion() {
+
+        Board board = newBoard();
+        board.newGame(5L);
+        ViewData first = board.getViewData();
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        ViewData moved = board.getViewData();
+        assertTrue(moved.samePreview(first));
+        assertArrayEquals(first.getNextBrickData()[0], moved.getNextBrickData()[0]);
+
+        int[][] current = first.getBrickData();
+        assertTrue(board.holdBrick());
+        ViewData held = board.getViewData();
+        assertFalse(held.samePreview(moved));
+        assertArrayEquals(current, held.getHoldBrickData());
+        // the first preview brick came into play
+        assertArrayEquals(first.getNextBrickData()[0], held.getBrickData());
+
+        board.createNewBrick();
+        assertFalse(board.getViewData().samePreview(held));
+    }
+
     // test for hold brick method
     @Test
     void holdBrick() {
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
 
         boolean firstHold = board.holdBrick();
@@ -104,7 +230,7 @@ class GameBoardTest {
     @Test
     void createNewBrick() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         int[][] m = board.getBoardMatrix();
         java.util.Arrays.fill(m[0], 7); // fill top row to force offscreen collision for any brick
         boolean collided = board.createNewBrick();
@@ -115,7 +241,7 @@ class GameBoardTest {
     @Test
     void getBoardMatrix() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         int[][] m = board.getBoardMatrix();
 
         m[0][0] = 1;
@@ -126,7 +252,7 @@ class GameBoardTest {
     @Test
     void getViewData() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
 
         ViewData vd = board.getViewData();
@@ -144,7 +270,7 @@ class GameBoardTest {
     @Test
     void mergeBrickToBackground() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
         board.moveBrickDown();
         board.moveBrickDown();
@@ -163,7 +289,7 @@ class GameBoardTest {
     @Test
     void clearRows() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         int[][] m = board.getBoardMatrix();
 
         java.util.Arrays.fill(m[0], 1);
@@ -178,7 +304,7 @@ class GameBoardTest {
     @Test
     void getScore() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         // score should not be null
         assertNotNull(board.getScore());
     }
@@ -187,7 +313,7 @@ class GameBoardTest {
     @Test
     void newGame() {
 
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
         board.moveBrickDown();
         board.mergeBrickToBackground();
@@ -204,7 +330,7 @@ class GameBoardTest {
     // test for clear hold method
     @Test
     void clearHold() {
-        GameBoard board = newBoard();
+        Board board = newBoard();
         board.createNewBrick();
         // first hold succeeds
         assertTrue(board.holdBrick());
@@ -214,4 +340,184 @@ class GameBoardTest {
         // hold works again after clearing
         assertTrue(board.holdBrick());
     }
+
+    // test that the landing row matches stepping the brick down
+    @Test
+    void getLandingY() {
+
+        java.util.Random random = new java.util.Random(7);
+        for (int round = 0; round < 30; round++) {
+            Board board = newBoard();
+            board.createNewBrick();
+            int[][] m = board.getBoardMatrix();
+            // random rubble with overhangs in the lower half
+            for (int r = m.length / 2; r < m.length; r++) {
+                for (int c = 0; c < m[r].length; c++) {
+                    m[r][c] = random.nextInt(3) == 0 ? 1 : 0;
+                }
+            }
+            int shift = random.nextInt(7) - 3;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+
+            int landing = board.getLandingY();
+            while (board.moveBrickDown()) {
+                // step all the way down
+            }
+            assertEquals(board.getViewData().getyPosition(), landing);
+        }
+    }
+
+    // test for hard drop brick method
+    @Test
+    void hardDropBrick() {
+
+        Board board = newBoard();
+        board.createNewBrick();
+        int startY = board.getViewData().getyPosition();
+        int landing = board.getLandingY();
+
+        int dropped = board.hardDropBrick();
+        // brick should now rest on its landing row and not move further
+        assertEquals(landing - startY, dropped);
+        assertEquals(landing, board.getViewData().getyPosition());
+        assertEquals(landing, board.getViewData().getLandingY());
+        assertFalse(board.moveBrickDown());
+    }
+
+    // test that repainting only the dirty cells keeps a copy of the board in sync
+    @Test
+    void getDirtyCells() {
+
+        java.util.Random random = new java.util.Random(11);
+        Board board = newBoard();
+        board.createNewBrick();
+        int[][] live = board.getBoardMatrixView();
+        int[][] shadow = new int[live.length][live[0].length];
+        int linesCleared = 0;
+
+        for (int piece = 0; piece < 300; piece++) {
+            // mostly drop as low as possible so rows fill up and clear
+            if (piece % 9 == 0) {
+                for (int i = random.nextInt(5); i > 0; i--) board.moveBrickRight();
+            } else {
+                placeLowest(board);
+            }
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            linesCleared += board.clearRows().getLinesRemoved();
+
+            DirtyCells dirty = board.getDirtyCells();
+            live = board.getBoardMatrixView();
+            if (dirty.isAllDirty()) {
+                shadow = MatrixOperations.copy(live);
+            }
+            for (int cell = dirty.nextCell(0); cell >= 0; cell = dirty.nextCell(cell + 1)) {
+                shadow[dirty.rowOf(cell)][dirty.colOf(cell)] = live[dirty.rowOf(cell)][dirty.colOf(cell)];
+            }
+            dirty.clear();
+            assertArrayEquals(live, shadow);
+
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+        assertTrue(linesCleared > 0);
+    }
+
+    // test that a plain merge only marks the brick's own cells
+    @Test
+    void mergeMarksBrickCells() {
+
+        Board board = newBoard();
+        board.createNewBrick();
+        board.hardDropBrick();
+        board.getDirtyCells().clear();
+        board.mergeBrickToBackground();
+        // a tetromino covers four cells
+        assertEquals(4, board.getDirtyCells().count());
+    }
+
+    // test that steady-state moves and rotations allocate nothing
+    @Test
+    void movesDoNotAllocate() {
+
+        java.lang.management.ThreadMXBean mx = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(mx instanceof com.sun.management.ThreadMXBean bean) || !bean.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        Board board = newBoard();
+        board.createNewBrick();
+        // warm up so class loading and JIT compilation are not measured
+        for (int i = 0; i < 20_000; i++) {
+            shuffleBrick(board);
+        }
+
+        long before = bean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            shuffleBrick(board);
+        }
+        long allocated = bean.getCurrentThreadAllocatedBytes() - before;
+
+        // a single board copy is hundreds of bytes, so any per-move allocation shows up here
+        assertTrue(allocated < 1024, "moves allocated " + allocated + " bytes");
+    }
+
+    // rotates and shifts the active brick to the column where it would land lowest
+    private static void placeLowest(Board board) {
+        int bestRotation = 0;
+        int bestX = 0;
+        int bestY = Integer.MIN_VALUE;
+        for (int rotation = 0; rotation < 4; rotation++) {
+            while (board.moveBrickLeft()) {
+                // slide to the left wall
+            }
+            do {
+                int y = board.getLandingY();
+                if (y > bestY) {
+                    bestY = y;
+                    bestRotation = rotation;
+                    bestX = board.getViewData().getxPosition();
+                }
+            } while (board.moveBrickRight());
+            board.rotateLeftBrick();
+        }
+        for (int i = 0; i < bestRotation; i++) {
+            board.rotateLeftBrick();
+        }
+        while (board.moveBrickLeft()) {
+            // slide to the left wall
+        }
+        while (board.getViewData().getxPosition() < bestX && board.moveBrickRight()) {
+            // walk to the chosen column
+        }
+    }
+
+    // starts a game whose current brick is the given piece
+    private Board boardWith(int piece) {
+        Board board = newBoard();
+        for (long seed = 0; ; seed++) {
+            board.newGame(seed);
+            if (Arrays.deepEquals(board.getViewData().getBrickData(), ShapeTable.shape(piece, 0))) {
+                return board;
+            }
+        }
+    }
+
+    private static void assertPosition(ViewData expected, ViewData actual) {
+        assertArrayEquals(expected.getBrickData(), actual.getBrickData());
+        assertEquals(expected.getxPosition(), actual.getxPosition());
+        assertEquals(expected.getyPosition(), actual.getyPosition());
+    }
+
+    // one round of moves, including blocked ones once the brick reaches the floor
+    private static void shuffleBrick(Board board) {
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickRight();
+        board.moveBrickDown();
+    }
 }
@@ -13,6 +13,9 @@ import com.comp2042.events.MoveEvent;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.logic.workflow.DownData;
 import com.comp2042.logic.workflow.ViewData;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayArchive;
+import com.comp2042.replay.ReplayPlayer;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -267,4 +270,55 @@ class GameControllerTest {
         assertTrue(afterScore >= beforeScore);
         assertTrue(view.refreshCount > 0);
     }
+
+    // test for choosing the board implementation at construction time
+    @Test
+    void bitboardBackedController() {
+
+        // a bitboard-backed controller should play the same as the default one
+        dummy view = new dummy();
+        GameController controller = new GameController(view, new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+
+        ViewData before = view.lastView;
+        ViewData after = controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+        assertEquals(before.getxPosition() - 1, after.getxPosition());
+
+        DownData data = controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+        assertNotNull(data.getViewData());
+        int sum = java.util.Arrays.stream(view.lastBoard).flatMapToInt(java.util.Arrays::stream).sum();
+        // the dropped brick should now be part of the background
+        assertTrue(sum > 0);
+    }
+
+    // test that an archived game replays to the same result
+    @Test
+    void recordsReplay() throws Exception {
+
+        java.nio.file.Path dir = java.nio.file.Files.createTempDirectory("replays");
+        dummy view = new dummy();
+        GameController controller = newController(view);
+        try (ReplayArchive archive = new ReplayArchive(dir)) {
+            controller.setReplayArchive(archive);
+            controller.setMode(GameMode.TIMED);
+            controller.createNewGame(99L);
+            controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            controller.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            controller.finishReplay();
+        }
+
+        java.nio.file.Path file;
+        try (java.util.stream.Stream<java.nio.file.Path> files = java.nio.file.Files.list(dir)) {
+            file = files.findFirst().orElseThrow();
+        }
+        try (java.io.InputStream in = java.nio.file.Files.newInputStream(file)) {
+            Replay replay = Replay.readFrom(in);
+            // four events, the seed, and the mode were recorded
+            assertEquals(4, replay.size());
+            assertEquals(99L, replay.getSeed());
+            assertEquals(GameMode.TIMED.ordinal(), replay.getMode());
+            assertEquals(view.scoreProp.get(), ReplayPlayer.play(replay).getScore().getScore());
+        }
+    }
 }
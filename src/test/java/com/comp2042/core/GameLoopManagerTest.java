@@ -3,7 +3,6 @@ package com.comp2042.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -12,8 +11,6 @@ import com.comp2042.input.InputEventListener;
 import com.comp2042.logic.workflow.ViewData;
 import com.comp2042.ui.OverlayManager;
 
-import javafx.animation.Animation;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -22,7 +19,7 @@ import javafx.scene.control.Label;
 
 class GameLoopManagerTest {
 
-    // start javafx toolkit once for label/timeline usage
+    // start javafx toolkit once for label/animation timer usage
     @BeforeAll
     static void initFx() {
         try { Platform.startup(() -> {}); }
@@ -107,21 +104,17 @@ class GameLoopManagerTest {
         assertTrue(timer.isVisible());
     }
 
-    // test for setup timeline method
+    // test for setup game loop method
     @Test
-    void setupTimeline() {
+    void setupGameLoop() {
 
-        // timeline should be created paused with correct cycle count and interval
+        // the loop should be created stopped at the level one interval
         dummyGui gui = new dummyGui();
         GameLoopManager glm = new GameLoopManager(gui);
-        glm.setupTimeline();
-
-        Timeline tl = glm.getTimeLine();
-        assertNotNull(tl);
-        assertTrue(tl.getStatus() != Animation.Status.RUNNING);
-        assertEquals(Animation.INDEFINITE, tl.getCycleCount());
-        double ms = tl.getKeyFrames().get(0).getTime().toMillis();
-        assertEquals(Constants.FALL_INTERVAL_MS, ms);
+        glm.setupGameLoop();
+
+        assertEquals(GameLoopManager.LoopState.STOPPED, glm.getLoopState());
+        assertEquals(GravityClock.intervalNanos(1), glm.getFallIntervalNanos());
     }
 
     // test for isplaying value method
@@ -157,18 +150,33 @@ class GameLoopManagerTest {
         assertNotNull(glm.getModeHandler());
     }
 
-    // test for get timeline method
+    // test play, pause and stop on the loop state
     @Test
-    void getTimeLine() {
+    void loopState() {
 
-        // timeline should be accessible after setup
         dummyGui gui = new dummyGui();
         GameLoopManager glm = new GameLoopManager(gui);
-        // time line should be null before setup
-        assertNull(glm.getTimeLine());
-        glm.setupTimeline();
-        // timeline should not be null after setup
-        assertNotNull(glm.getTimeLine());
+        // nothing to run before setup
+        glm.play();
+        assertEquals(GameLoopManager.LoopState.STOPPED, glm.getLoopState());
+
+        glm.setupGameLoop();
+        // pausing a stopped loop leaves it stopped
+        glm.pause();
+        assertEquals(GameLoopManager.LoopState.STOPPED, glm.getLoopState());
+        glm.play();
+        assertEquals(GameLoopManager.LoopState.RUNNING, glm.getLoopState());
+        glm.pause();
+        assertEquals(GameLoopManager.LoopState.PAUSED, glm.getLoopState());
+        glm.play();
+        assertEquals(GameLoopManager.LoopState.RUNNING, glm.getLoopState());
+        glm.stop();
+        assertEquals(GameLoopManager.LoopState.STOPPED, glm.getLoopState());
+
+        // setting up again for a new game stops the old loop
+        glm.play();
+        glm.setupGameLoop();
+        assertEquals(GameLoopManager.LoopState.STOPPED, glm.getLoopState());
     }
 
     // test get is pause method
@@ -201,27 +209,28 @@ class GameLoopManagerTest {
     @Test
     void updateFallInterval() {
 
-        // updates timeline keyframe duration based on level
+        // switches the gravity clock to the level's interval from the table
         dummyGui gui = new dummyGui();
         GameLoopManager glm = new GameLoopManager(gui);
-        glm.setupTimeline();
+        glm.setupGameLoop();
 
         glm.updateFallInterval(1);
-        double ms1 = glm.getTimeLine().getKeyFrames().get(0).getTime().toMillis();
-        assertEquals(Constants.FALL_INTERVAL_MS, ms1);
+        assertEquals(Constants.FALL_INTERVAL_MS, GravityClock.intervalMs(1));
+        assertEquals(GravityClock.intervalNanos(1), glm.getFallIntervalNanos());
 
         glm.updateFallInterval(5);
-        double ms5 = glm.getTimeLine().getKeyFrames().get(0).getTime().toMillis();
         double base = Constants.BASE_TIME;
         double dec = Constants.TIME_DECREMENT;
         double t = Math.pow(Math.max(0.0, base - ((5 - 1) * dec)), Math.max(0, 5 - 1));
         double expected = Math.max(Constants.MIN_FALL_INTERVAL_MS, t * 1000.0);
-        assertEquals(expected, ms5);
+        assertEquals(expected, GravityClock.intervalMs(5));
+        assertEquals(GravityClock.intervalNanos(5), glm.getFallIntervalNanos());
 
-        // if running and not paused or game over, it should continue running
-        glm.getTimeLine().play();
-        assertEquals(Animation.Status.RUNNING, glm.getTimeLine().getStatus());
+        // a running loop keeps running across a level change
+        glm.play();
         glm.updateFallInterval(2);
-        assertEquals(Animation.Status.RUNNING, glm.getTimeLine().getStatus());
+        assertEquals(GameLoopManager.LoopState.RUNNING, glm.getLoopState());
+        assertEquals(GravityClock.intervalNanos(2), glm.getFallIntervalNanos());
+        glm.stop();
     }
 }
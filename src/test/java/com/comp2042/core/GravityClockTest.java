@@ -0,0 +1,71 @@
+package com.comp2042.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+class GravityClockTest {
+
+    private static final long MS = 1_000_000L;
+
+    // test that the table matches the level speed curve
+    @Test
+    void intervalMs() {
+
+        assertEquals(Constants.FALL_INTERVAL_MS, GravityClock.intervalMs(1));
+        double t = Math.pow(Math.max(0.0, Constants.BASE_TIME - (4 * Constants.TIME_DECREMENT)), 4);
+        assertEquals(Math.max(Constants.MIN_FALL_INTERVAL_MS, t * 1000.0), GravityClock.intervalMs(5));
+        // high levels are floored and levels past the table use its last entry
+        assertEquals(Constants.MIN_FALL_INTERVAL_MS, GravityClock.intervalMs(20));
+        assertEquals(GravityClock.intervalMs(Constants.GRAVITY_TABLE_LEVELS), GravityClock.intervalMs(500));
+    }
+
+    // test that gravity does not depend on how time is split into frames
+    @Test
+    void frameRateIndependent() {
+
+        GravityClock smooth = new GravityClock();
+        GravityClock choppy = new GravityClock();
+        smooth.resume(0);
+        choppy.resume(0);
+        int smoothRows = 0;
+        int choppyRows = 0;
+        // two seconds at 144 fps against the same time at 24 fps
+        for (long now = 0; now <= 2100 * MS; now += 1_000_000_000L / 144) {
+            smoothRows += smooth.advance(now);
+        }
+        for (long now = 0; now <= 2100 * MS; now += 1_000_000_000L / 24) {
+            choppyRows += choppy.advance(now);
+        }
+        assertEquals(5, smoothRows);
+        assertEquals(smoothRows, choppyRows);
+    }
+
+    // test that a late frame at a high level drops several rows at once
+    @Test
+    void multipleRowsPerFrame() {
+
+        GravityClock clock = new GravityClock();
+        clock.setLevel(20);
+        clock.resume(0);
+        assertEquals(4, clock.advance(230 * MS));
+        // the remainder is carried over rather than lost
+        assertEquals(1, clock.advance(260 * MS));
+    }
+
+    // test that paused time and stalls are not paid out as gravity
+    @Test
+    void pauseAndStall() {
+
+        GravityClock clock = new GravityClock();
+        clock.setLevel(20);
+        clock.resume(0);
+        clock.pause();
+        assertEquals(0, clock.advance(10_000 * MS));
+        clock.resume(10_000 * MS);
+        // a long stall only catches up as much as the longest allowed frame
+        GravityClock reference = new GravityClock();
+        reference.setLevel(20);
+        reference.resume(0);
+        assertEquals(reference.advance(Constants.MAX_FRAME_NANOS), clock.advance(20_000 * MS));
+    }
+}
@@ -3,6 +3,7 @@ package com.comp2042.core;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
@@ -146,6 +147,49 @@ class MatrixOperationsTest {
         assertArrayEquals(new int[]{0,0,0}, newM[0]);
     }
 
+    // test for clear full rows method using fill counters
+    @Test
+    void clearFullRowsWithCounters() {
+
+        int[][] matrix = new int[][]{
+                {1,0,2},
+                {5,6,7},
+                {0,3,0},
+                {8,9,1}
+        };
+        int[] rowFill = {2, 3, 1, 3};
+
+        // scan a copy first, since the counter version compacts in place
+        ClearRow scanned = MatrixOperations.clearFullRows(MatrixOperations.copy(matrix));
+        ClearRow result = MatrixOperations.clearFullRows(matrix, rowFill);
+
+        // counters should give the same result as scanning every cell
+        assertEquals(scanned.getLinesRemoved(), result.getLinesRemoved());
+        assertEquals(scanned.getScoreBonus(), result.getScoreBonus());
+        assertArrayEquals(scanned.getNewMatrix(), result.getNewMatrix());
+        // the rows were compacted in the matrix passed in
+        assertArrayEquals(scanned.getNewMatrix(), matrix);
+    }
+
+    // test that nothing changes or is copied when no row is full
+    @Test
+    void clearFullRowsWithCountersNoneFull() {
+
+        int[][] matrix = new int[][]{
+                {1,0,2},
+                {0,3,0}
+        };
+        int[] first = matrix[0];
+
+        ClearRow result = MatrixOperations.clearFullRows(matrix, new int[] {2, 1});
+
+        assertEquals(0, result.getLinesRemoved());
+        assertEquals(0, result.getScoreBonus());
+        assertArrayEquals(matrix, result.getNewMatrix());
+        assertSame(first, matrix[0]);
+        assertArrayEquals(new int[]{1,0,2}, matrix[0]);
+    }
+
     // test for deep copy list method
     @Test
     void deepCopyList() {
@@ -0,0 +1,74 @@
+package com.comp2042.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.logic.workflow.ClearRow;
+
+class SkylineIndexTest {
+
+    // o brick for merging
+    private static final int[][] O_BRICK = {
+            {0, 0, 0, 0},
+            {0, 4, 4, 0},
+            {0, 4, 4, 0},
+            {0, 0, 0, 0}
+    };
+
+    // test that incremental updates agree with a full rebuild
+    @Test
+    void incrementalMatchesRebuild() {
+
+        java.util.Random random = new java.util.Random(3);
+        int[][] matrix = new int[20][10];
+        SkylineIndex index = new SkylineIndex(20, 10);
+        int linesCleared = 0;
+
+        for (int piece = 0; piece < 200; piece++) {
+            // mostly sweep across the board so rows fill up, with some random placements
+            int x = piece % 7 == 0 ? random.nextInt(10) - 1 : (piece % 5) * 2 - 1;
+            int y = index.landingY(matrix, O_BRICK, x, -3);
+            if (MatrixOperations.collidesWithBackground(matrix, O_BRICK, x, y)) {
+                break;
+            }
+            index.recordMerge(matrix, O_BRICK, x, y);
+            matrix = MatrixOperations.mergeBrickOntoMatrix(matrix, O_BRICK, x, y);
+
+            ClearRow clearRow = MatrixOperations.clearFullRows(matrix, index.rowFill(matrix));
+            if (clearRow.getLinesRemoved() > 0) {
+                matrix = clearRow.getNewMatrix();
+                index.recordClear(matrix);
+                linesCleared += clearRow.getLinesRemoved();
+            }
+
+            SkylineIndex rebuilt = new SkylineIndex(20, 10);
+            rebuilt.invalidate();
+            assertArrayEquals(rebuilt.rowFill(matrix), index.rowFill(matrix));
+            for (int c = 0; c < 10; c++) {
+                assertEquals(rebuilt.columnTop(c), index.columnTop(c));
+            }
+        }
+        // the run should have exercised row clears as well as merges
+        assertTrue(linesCleared > 0);
+    }
+
+    // test for is full method
+    @Test
+    void isFull() {
+
+        int[][] matrix = new int[4][3];
+        SkylineIndex index = new SkylineIndex(4, 3);
+        java.util.Arrays.fill(matrix[3], 1);
+        matrix[2][0] = 1;
+        index.invalidate();
+        index.rowFill(matrix);
+
+        assertTrue(index.isFull(3));
+        assertFalse(index.isFull(2));
+        assertEquals(2, index.columnTop(0));
+        assertEquals(3, index.columnTop(1));
+    }
+}
@@ -0,0 +1,89 @@
+package com.comp2042.engine;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Constants;
+import com.comp2042.logic.workflow.ClearRow;
+
+class HeadlessGameTest {
+
+    // test for move down method
+    @Test
+    void moveDown() {
+
+        HeadlessGame game = new HeadlessGame();
+        game.newGame();
+        // a user step scores a point, a gravity step does not
+        assertNull(game.moveDown(true));
+        assertEquals(1, game.getScore().getScore());
+        assertNull(game.moveDown(false));
+        assertEquals(1, game.getScore().getScore());
+    }
+
+    // test for hard drop method
+    @Test
+    void hardDrop() {
+
+        HeadlessGame game = new HeadlessGame();
+        game.newGame();
+        int landing = game.getBoard().getLandingY();
+        int startY = game.getBoard().getViewData().getyPosition();
+
+        ClearRow clearRow = game.hardDrop();
+        assertNotNull(clearRow);
+        // two points per row dropped
+        assertEquals((landing - startY) * 2, game.getScore().getScore());
+        assertFalse(game.isGameOver());
+        // a new brick is back at the spawn row
+        assertEquals(Constants.BRICK_SPAWN_Y, game.getBoard().getViewData().getyPosition());
+    }
+
+    // test that a game runs to game over and restarts without a ui
+    @Test
+    void playsToGameOver() {
+
+        HeadlessGame game = new HeadlessGame(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        game.newGame();
+        int pieces = 0;
+        // stacking everything in the spawn column tops out quickly
+        while (!game.isGameOver() && pieces < 1000) {
+            game.hardDrop();
+            pieces++;
+        }
+        assertTrue(game.isGameOver());
+        assertTrue(game.getScore().getScore() > 0);
+
+        game.newGame();
+        assertFalse(game.isGameOver());
+        assertEquals(0, game.getScore().getScore());
+    }
+
+    // test that the same seed and inputs give the same game on either board
+    @Test
+    void seededGamesRepeat() {
+
+        HeadlessGame first = new HeadlessGame();
+        HeadlessGame second = new HeadlessGame(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        first.newGame(2042L);
+        second.newGame(2042L);
+        assertEquals(2042L, second.getBoard().getSeed());
+        for (int i = 0; i < 40 && !first.isGameOver(); i++) {
+            // spread the pieces so the games last a while
+            for (int s = 0; s < i % 5; s++) {
+                first.moveLeft();
+                second.moveLeft();
+            }
+            first.hardDrop();
+            second.hardDrop();
+            assertArrayEquals(first.getBoard().getBoardMatrixView(), second.getBoard().getBoardMatrixView());
+        }
+        assertEquals(first.getScore().getScore(), second.getScore().getScore());
+    }
+}
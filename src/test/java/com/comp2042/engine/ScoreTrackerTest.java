@@ -0,0 +1,68 @@
+package com.comp2042.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.core.Constants;
+
+class ScoreTrackerTest {
+
+    // test for add method
+    @Test
+    void add() {
+
+        // the high score follows the score only once it is beaten
+        ScoreTracker tracker = new ScoreTracker();
+        tracker.setHighScore(10);
+        tracker.add(5);
+        assertEquals(5, tracker.getScore());
+        assertEquals(10, tracker.getHighScore());
+        assertFalse(tracker.isNewHighScore());
+
+        tracker.add(10);
+        assertEquals(15, tracker.getHighScore());
+        assertTrue(tracker.isNewHighScore());
+    }
+
+    // test for add lines method
+    @Test
+    void addLines() {
+
+        ScoreTracker tracker = new ScoreTracker();
+        tracker.addLines(0);
+        assertEquals(1, tracker.getLevel());
+        tracker.addLines(Constants.LINES_PER_LEVEL);
+        assertEquals(Constants.LINES_PER_LEVEL, tracker.getLinesCleared());
+        assertEquals(2, tracker.getLevel());
+    }
+
+    // test for reset method
+    @Test
+    void reset() {
+
+        // reset keeps the high score
+        ScoreTracker tracker = new ScoreTracker();
+        tracker.add(42);
+        tracker.addLines(3);
+        tracker.reset();
+        assertEquals(0, tracker.getScore());
+        assertEquals(0, tracker.getLinesCleared());
+        assertEquals(1, tracker.getLevel());
+        assertEquals(42, tracker.getHighScore());
+    }
+
+    // test that listeners hear every change
+    @Test
+    void addListener() {
+
+        ScoreTracker tracker = new ScoreTracker();
+        int[] calls = new int[1];
+        tracker.addListener(t -> calls[0]++);
+        tracker.add(1);
+        tracker.addLines(1);
+        tracker.reset();
+        assertEquals(3, calls[0]);
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042.logic.bricks;
 
+import java.util.SplittableRandom;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +86,108 @@ class RandomBrickGeneratorTest {
         assertEquals(next3.get(1).getClass(), p2.getClass());
         assertEquals(next3.get(2).getClass(), p3.getClass());
     }
+
+    // test that the same seed always gives the same sequence
+    @Test
+    void seededSequence() {
+
+        RandomBrickGenerator a = new RandomBrickGenerator(42L);
+        RandomBrickGenerator b = new RandomBrickGenerator(7L);
+        b.reset(42L);
+        assertEquals(42L, a.getSeed());
+        for (int i = 0; i < 100; i++)
+        {
+            assertEquals(a.nextPieceId(), b.nextPieceId());
+        }
+
+        // later games of a seeded generator are reproducible too
+        RandomBrickGenerator c = new RandomBrickGenerator(42L);
+        a.reset();
+        c.reset();
+        assertEquals(a.getSeed(), c.getSeed());
+        assertEquals(a.nextPieceId(), c.nextPieceId());
+    }
+
+    // test that a seed keeps the piece order it had with SplittableRandom, so recorded replays stay valid
+    @Test
+    void pinnedSequence() {
+
+        int[] seed42 = {3, 4, 6, 5, 1, 0, 2, 1, 2, 4, 0, 6, 5, 3, 6, 5, 0, 4, 3, 2, 1};
+        int[] seed7 = {2, 1, 0, 6, 5, 3, 4, 2, 0, 5, 1, 6, 3, 4, 0, 2, 4, 6, 5, 1, 3};
+        RandomBrickGenerator a = new RandomBrickGenerator(42L);
+        RandomBrickGenerator b = new RandomBrickGenerator(7L);
+        for (int i = 0; i < seed42.length; i++)
+        {
+            assertEquals(seed42[i], a.nextPieceId());
+            assertEquals(seed7[i], b.nextPieceId());
+        }
+    }
+
+    // test that bounded draws match SplittableRandom for every bound
+    @Test
+    void splittableRandomDraws() {
+
+        for (long seed = 0; seed < 20; seed++)
+        {
+            SplitMix64 mine = new SplitMix64(seed);
+            SplittableRandom reference = new SplittableRandom(seed);
+            for (int bound = 1; bound < 40; bound++)
+            {
+                assertEquals(reference.nextInt(bound), mine.nextInt(bound));
+            }
+            assertEquals(reference.nextLong(), mine.nextLong());
+        }
+    }
+
+    // test that peeking matches the order bricks are handed out
+    @Test
+    void peekPieceId() {
+
+        RandomBrickGenerator g = new RandomBrickGenerator(1L);
+        for (int round = 0; round < 20; round++)
+        {
+            int[] upcoming = new int[g.previewCapacity()];
+            for (int i = 0; i < upcoming.length; i++) upcoming[i] = g.peekPieceId(i);
+            assertSame(g.peek(0), g.getNextBrick());
+            assertEquals(upcoming[0], g.getBrick().getPieceId());
+            for (int i = 1; i < upcoming.length; i++) assertEquals(upcoming[i], g.peekPieceId(i - 1));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> g.peekPieceId(16));
+    }
+
+    // test that every bag of seven holds each piece once
+    @Test
+    void bagsAcrossRefills() {
+
+        RandomBrickGenerator g = new RandomBrickGenerator(99L);
+        for (int bag = 0; bag < 50; bag++)
+        {
+            boolean[] seen = new boolean[7];
+            for (int i = 0; i < 7; i++)
+            {
+                int id = g.nextPieceId();
+                assertFalse(seen[id]);
+                seen[id] = true;
+            }
+        }
+    }
+
+    // test that a restored generator continues the same sequence
+    @Test
+    void restore() {
+
+        RandomBrickGenerator a = new RandomBrickGenerator(12L);
+        for (int i = 0; i < 10; i++) a.nextPieceId();
+        int[] queue = new int[a.queued()];
+        for (int i = 0; i < queue.length; i++) queue[i] = a.peekPieceId(i);
+
+        RandomBrickGenerator b = new RandomBrickGenerator(5L);
+        b.restore(a.getSeed(), a.getRandomState(), queue);
+        assertEquals(12L, b.getSeed());
+        for (int i = 0; i < 50; i++)
+        {
+            assertEquals(a.nextPieceId(), b.nextPieceId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> b.restore(1L, 1L, new int[3]));
+    }
 }
@@ -0,0 +1,65 @@
+package com.comp2042.logic.bricks;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+class ShapeTableTest {
+
+    // test for shape method
+    @Test
+    void shape() {
+
+        // read-only lookups should hand out the same shared matrix every time
+        assertSame(ShapeTable.shape(ShapeTable.T, 1), ShapeTable.shape(ShapeTable.T, 1));
+        assertEquals(6, ShapeTable.cell(ShapeTable.T, 0, 1, 0));
+        assertEquals(0, ShapeTable.cell(ShapeTable.T, 0, 0, 0));
+    }
+
+    // test for rotation count method
+    @Test
+    void rotationCount() {
+
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.I));
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.S));
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.Z));
+        assertEquals(1, ShapeTable.rotationCount(ShapeTable.O));
+        assertEquals(4, ShapeTable.rotationCount(ShapeTable.L));
+    }
+
+    // test that every piece uses its colour code
+    @Test
+    void colour() {
+
+        for (int piece = 0; piece < ShapeTable.PIECE_COUNT; piece++) {
+            for (int r = 0; r < ShapeTable.rotationCount(piece); r++) {
+                for (int[] row : ShapeTable.shape(piece, r)) {
+                    for (int cell : row) {
+                        // cells are either empty or the piece colour
+                        assertTrue(cell == 0 || cell == ShapeTable.colour(piece));
+                    }
+                }
+            }
+        }
+    }
+
+    // test that bricks adapt onto the table
+    @Test
+    void brickAdapter() {
+
+        Brick brick = new JBrick();
+        assertEquals(ShapeTable.J, brick.getPieceId());
+        assertEquals(ShapeTable.rotationCount(ShapeTable.J), brick.getRotationCount());
+        assertSame(ShapeTable.shape(ShapeTable.J, 2), brick.getShape(2));
+
+        // the legacy accessor still returns copies callers can change
+        int[][] copy = brick.getShapeMatrix().get(2);
+        assertNotSame(ShapeTable.shape(ShapeTable.J, 2), copy);
+        assertArrayEquals(ShapeTable.shape(ShapeTable.J, 2), copy);
+        copy[1][1] = 9;
+        assertEquals(2, ShapeTable.cell(ShapeTable.J, 2, 1, 1));
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.logic.workflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class HighScoreStoreTest {
+
+    // test that only the latest submitted values are written
+    @Test
+    void submitAndFlush() throws Exception {
+
+        Path file = Files.createTempDirectory("highscore").resolve("highscore.txt");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.submit(new HighScoreStore.Values(10, 0, 0));
+            store.submit(new HighScoreStore.Values(20, 5, 0));
+            // nothing is written until a flush
+            assertFalse(Files.exists(file));
+            // pending values are still visible to readers
+            assertEquals(20, store.load().getNormal());
+
+            store.flush();
+            assertEquals("normal=20\ntimed=5\nbottomsUp=0\n", Files.readString(file));
+            // the temporary file is renamed into place
+            assertFalse(Files.exists(file.resolveSibling("highscore.txt.tmp")));
+        }
+    }
+
+    // test that a higher score written by another instance is kept
+    @Test
+    void mergesWithFile() throws Exception {
+
+        Path file = Files.createTempDirectory("highscore").resolve("highscore.txt");
+        Files.writeString(file, "normal=50\ntimed=1\nbottomsUp=0\n");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            store.submit(new HighScoreStore.Values(30, 7, 2));
+            store.flush();
+            HighScoreStore.Values values = store.load();
+            assertEquals(50, values.getNormal());
+            assertEquals(7, values.getTimed());
+            assertEquals(2, values.getBottomsUp());
+        }
+    }
+
+    // test that closing writes pending values
+    @Test
+    void close() throws Exception {
+
+        Path file = Files.createTempDirectory("highscore").resolve("highscore.txt");
+        HighScoreStore store = new HighScoreStore(file);
+        store.submit(new HighScoreStore.Values(0, 0, 9));
+        store.close();
+        assertEquals(9, new HighScoreStore(file).load().getBottomsUp());
+    }
+
+    // test that the older single value format still loads
+    @Test
+    void loadLegacyFormat() throws Exception {
+
+        Path file = Files.createTempDirectory("highscore").resolve("highscore.txt");
+        Files.writeString(file, "123\n");
+        try (HighScoreStore store = new HighScoreStore(file)) {
+            assertEquals(123, store.load().getNormal());
+            assertEquals(0, store.load().getTimed());
+        }
+    }
+}
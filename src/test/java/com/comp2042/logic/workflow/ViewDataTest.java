@@ -0,0 +1,58 @@
+package com.comp2042.logic.workflow;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+class ViewDataTest {
+
+    private static ViewData view(long version) {
+        int[][][] next = {ShapeTable.shape(ShapeTable.J, 0), ShapeTable.shape(ShapeTable.O, 0), ShapeTable.shape(ShapeTable.S, 0)};
+        return new ViewData(ShapeTable.shape(ShapeTable.T, 1), 3, 4, next, ShapeTable.empty(), 10, version);
+    }
+
+    // test that the accessors read the shared matrices and the getters copy them
+    @Test
+    void accessorsReadGettersCopy() {
+
+        ViewData data = view(1);
+        assertEquals(3, data.getPreviewCount());
+        assertEquals(ShapeTable.cell(ShapeTable.T, 1, 1, 2), data.brickCell(1, 2));
+        assertEquals(ShapeTable.cell(ShapeTable.O, 0, 1, 1), data.nextCell(1, 1, 1));
+        assertEquals(ShapeTable.shape(ShapeTable.S, 0).length, data.getNextHeight(2));
+        assertEquals(ShapeTable.shape(ShapeTable.S, 0)[0].length, data.getNextWidth(2));
+        assertEquals(0, data.holdCell(0, 0));
+        assertEquals(ShapeTable.empty().length, data.getHoldHeight());
+
+        int[][] copy = data.getBrickData();
+        assertNotSame(ShapeTable.shape(ShapeTable.T, 1), copy);
+        assertArrayEquals(ShapeTable.shape(ShapeTable.T, 1), copy);
+        assertNotSame(ShapeTable.shape(ShapeTable.J, 0), data.getNextBrickData()[0]);
+        assertNotSame(ShapeTable.empty(), data.getHoldBrickData());
+    }
+
+    // test that only snapshots of the same brick in the same rotation match
+    @Test
+    void sameBrick() {
+
+        assertTrue(view(1).sameBrick(view(2)));
+        ViewData rotated = new ViewData(ShapeTable.shape(ShapeTable.T, 2), 3, 4, new int[0][][], ShapeTable.empty());
+        assertFalse(view(1).sameBrick(rotated));
+        assertFalse(view(1).sameBrick(null));
+    }
+
+    // test that only snapshots with the same known version share a preview
+    @Test
+    void samePreview() {
+
+        assertTrue(view(2).samePreview(view(2)));
+        assertFalse(view(2).samePreview(view(3)));
+        assertFalse(view(2).samePreview(null));
+        assertFalse(view(ViewData.NO_VERSION).samePreview(view(ViewData.NO_VERSION)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.comp2042.core.BitboardGameBoard;
+import com.comp2042.core.Constants;
+import com.comp2042.engine.HeadlessGame;
+import com.comp2042.logic.workflow.HighScoreStore;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecorderEventsTest {
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    // test that a headless game and a high score write produce the game's events
+    @Test
+    void gameplayAndPersistenceEvents() throws IOException {
+
+        Path dir = Files.createTempDirectory("jfr");
+        Path file = dir.resolve("events.jfr");
+        int drops = 0;
+        try (Recording recording = new Recording())
+        {
+            recording.enable("com.comp2042.PieceSpawn");
+            recording.enable("com.comp2042.PieceLock");
+            recording.enable("com.comp2042.LineClear");
+            recording.enable("com.comp2042.HighScoreWrite");
+            recording.start();
+
+            HeadlessGame game = new HeadlessGame(new BitboardGameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+            game.newGame(3L);
+            while (!game.isGameOver())
+            {
+                game.hardDrop();
+                drops++;
+            }
+            try (HighScoreStore store = new HighScoreStore(dir.resolve("scores.txt")))
+            {
+                store.submit(new HighScoreStore.Values(10, 20, 30));
+                store.flush();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(drops, named(events, "com.comp2042.PieceLock").size());
+        // the first brick, then one after every drop
+        assertEquals(drops + 1, named(events, "com.comp2042.PieceSpawn").size());
+        List<RecordedEvent> spawns = named(events, "com.comp2042.PieceSpawn");
+        assertTrue(spawns.get(spawns.size() - 1).getBoolean("blocked"));
+        List<RecordedEvent> writes = named(events, "com.comp2042.HighScoreWrite");
+        assertEquals(1, writes.size());
+        assertEquals(30, writes.get(0).getInt("bottomsUp"));
+        assertTrue(writes.get(0).getBoolean("succeeded"));
+    }
+}
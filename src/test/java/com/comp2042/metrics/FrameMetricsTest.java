@@ -0,0 +1,65 @@
+package com.comp2042.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.comp2042.core.Constants;
+
+class FrameMetricsTest {
+
+    // test that input is measured from the first press to the next frame, and idle gaps are skipped
+    @Test
+    void pulseRecordsFrames() {
+
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.pulse(1_000_000L);
+        metrics.inputReceived(5_000_000L);
+        metrics.inputReceived(9_000_000L);
+        metrics.pulse(17_000_000L);
+        metrics.pulse(17_000_000L + Constants.MAX_FRAME_NANOS + 1);
+
+        assertEquals(1, metrics.getFrames().getCount());
+        assertEquals(16_000_000L, metrics.getFrames().getMax());
+        assertEquals(1, metrics.getInput().getCount());
+        assertEquals(12_000_000L, metrics.getInput().getMax());
+    }
+
+    // test that rendering inside logic counts as render time only, once per frame
+    @Test
+    void logicExcludesNestedRender() throws InterruptedException {
+
+        FrameMetrics metrics = new FrameMetrics();
+        long logic = metrics.beginLogic();
+        long render = System.nanoTime();
+        Thread.sleep(20);
+        metrics.endRender(render);
+        metrics.endLogic(logic);
+        metrics.pulse(System.nanoTime());
+        // a frame without work records nothing
+        metrics.pulse(System.nanoTime());
+
+        assertEquals(1, metrics.getRender().getCount());
+        assertEquals(1, metrics.getLogic().getCount());
+        assertTrue(metrics.getRender().getMax() >= 20_000_000L);
+        assertTrue(metrics.getLogic().getMax() < 10_000_000L);
+    }
+
+    // test that a dump holds the summary and the distributions
+    @Test
+    void dump() throws IOException {
+
+        FrameMetrics metrics = new FrameMetrics();
+        metrics.pulse(1_000_000L);
+        metrics.pulse(2_000_000L);
+        Path file = metrics.dump(Files.createTempDirectory("metrics"));
+        String text = Files.readString(file);
+        assertTrue(text.startsWith(metrics.summary()));
+        assertTrue(text.contains("frame: count 1"));
+        assertTrue(text.contains("99.900%"));
+    }
+}
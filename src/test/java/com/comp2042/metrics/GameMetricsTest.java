@@ -0,0 +1,76 @@
+package com.comp2042.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+class GameMetricsTest {
+
+    // test that rates follow the game in progress while totals keep counting
+    @Test
+    void ratesPerGame() {
+
+        AtomicLong now = new AtomicLong(1_000_000_000L);
+        GameMetrics metrics = new GameMetrics(new FrameMetrics(), now::get);
+        assertEquals(0.0, metrics.getPiecesPerSecond());
+
+        metrics.gameStarted();
+        for (int i = 0; i < 30; i++) {
+            metrics.pieceLocked(i % 10 == 0 ? 4 : 0);
+        }
+        now.addAndGet(60_000_000_000L);
+        assertEquals(0.5, metrics.getPiecesPerSecond(), 1e-9);
+        assertEquals(12.0, metrics.getLinesPerMinute(), 1e-9);
+
+        metrics.gameStarted();
+        metrics.pieceLocked(1);
+        now.addAndGet(2_000_000_000L);
+        assertEquals(0.5, metrics.getPiecesPerSecond(), 1e-9);
+        assertEquals(31, metrics.getPiecesPlaced());
+        assertEquals(13, metrics.getLinesCleared());
+        assertEquals(2, metrics.getGamesStarted());
+    }
+
+    // test that pulse and high score write timings are reported in milliseconds
+    @Test
+    void timings() {
+
+        FrameMetrics frames = new FrameMetrics();
+        GameMetrics metrics = new GameMetrics(frames, System::nanoTime);
+        frames.pulseStarted(10_000_000L);
+        frames.pulse(12_000_000L);
+        frames.pulseStarted(20_000_000L);
+        frames.pulse(26_000_000L);
+        metrics.highScoreWritten(3_000_000L);
+        metrics.setGravityIntervalMs(400.0);
+
+        assertEquals(4.0, metrics.getAveragePulseMs(), 0.1);
+        assertEquals(6.0, metrics.getPeakPulseMs(), 0.1);
+        assertEquals(3.0, metrics.getPeakHighScorePersistMs(), 0.1);
+        assertEquals(400.0, metrics.getGravityIntervalMs());
+        assertTrue(metrics.getAllocatedBytesPerFrame() >= 0);
+
+        metrics.reset();
+        assertEquals(0.0, metrics.getPeakPulseMs());
+        assertEquals(0.0, metrics.getPeakHighScorePersistMs());
+    }
+
+    // test that the default bean is readable through the platform MBean server
+    @Test
+    void registers() throws Exception {
+
+        assertTrue(GameMetrics.register());
+        assertTrue(GameMetrics.register());
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(GameMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        GameMetrics.getDefault().pieceLocked(0);
+        assertTrue((Long) server.getAttribute(name, "PiecesPlaced") >= 1);
+    }
+}
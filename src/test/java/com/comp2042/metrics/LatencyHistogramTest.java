@@ -0,0 +1,64 @@
+package com.comp2042.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class LatencyHistogramTest {
+
+    // test that every bucket starts where the one before it ends
+    @Test
+    void bucketsAreContiguous() {
+
+        for (int i = 1; i < LatencyHistogram.index((1L << 40) - 1); i++) {
+            assertEquals(LatencyHistogram.highestEquivalent(i - 1) + 1, LatencyHistogram.lowestEquivalent(i));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.lowestEquivalent(i)));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.highestEquivalent(i)));
+        }
+    }
+
+    // test percentiles of a uniform spread stay within the bucket precision
+    @Test
+    void percentiles() {
+
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            h.record(v * 1000);
+        }
+        assertEquals(10_000, h.getCount());
+        assertEquals(10_000_000, h.getMax());
+        assertEquals(5_000_500, h.getMean());
+        long p50 = h.getValueAtPercentile(50);
+        long p99 = h.getValueAtPercentile(99);
+        assertTrue(Math.abs(p50 - 5_000_000) <= 5_000_000 * 0.04, "p50 " + p50);
+        assertTrue(Math.abs(p99 - 9_900_000) <= 9_900_000 * 0.04, "p99 " + p99);
+        assertEquals(10_000_000, h.getValueAtPercentile(100));
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getValueAtPercentile(99));
+    }
+
+    // test that recordings from several threads are all counted
+    @Test
+    void concurrentRecording() throws InterruptedException {
+
+        LatencyHistogram h = new LatencyHistogram();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    h.record(i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(200_000, h.getCount());
+        assertEquals(49_999, h.getMax());
+    }
+}
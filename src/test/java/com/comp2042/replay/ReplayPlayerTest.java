@@ -0,0 +1,93 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+class ReplayPlayerTest {
+
+    // plays random inputs while recording them, like the game controller does
+    static Replay record(HeadlessController controller, long seed, int inputs) {
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(() -> now[0]);
+        controller.createNewGame(seed);
+        recorder.start(seed, 0, Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        Random random = new Random(seed);
+        EventType[] types = EventType.values();
+        for (int i = 0; i < inputs && !controller.getGame().isGameOver(); i++) {
+            now[0] += 30_000_000L;
+            MoveEvent event = new MoveEvent(types[random.nextInt(types.length)], i % 4 == 0 ? EventSource.THREAD : EventSource.USER);
+            recorder.record(event);
+            boolean locked = switch (event.getEventType()) {
+                case DOWN -> controller.onDownEvent(event).getClearRow() != null;
+                case LEFT -> controller.onLeftEvent(event) == null;
+                case RIGHT -> controller.onRightEvent(event) == null;
+                case ROTATE, ROTATE_CW, ROTATE_180 -> controller.onRotateEvent(event) == null;
+                case HOLD -> controller.onHoldEvent(event) == null;
+                case HARD_DROP -> controller.onHardDropEvent(event).getClearRow() != null;
+            };
+            if (locked && !controller.getGame().isGameOver()) {
+                recorder.pieceLocked(controller.getGame().getBoard());
+            }
+        }
+        return recorder.finish(controller.getGame().getScore().getScore());
+    }
+
+    // test that playing a replay reproduces the recorded game
+    @Test
+    void reproducesGame() {
+
+        HeadlessController original = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        Replay replay = record(original, 77L, 400);
+
+        HeadlessGame replayed = ReplayPlayer.play(replay);
+        HeadlessGame expected = original.getGame();
+        assertArrayEquals(expected.getBoard().getBoardMatrixView(), replayed.getBoard().getBoardMatrixView());
+        assertEquals(expected.getScore().getScore(), replayed.getScore().getScore());
+        assertEquals(expected.getScore().getLinesCleared(), replayed.getScore().getLinesCleared());
+        assertEquals(expected.isGameOver(), replayed.isGameOver());
+    }
+
+    // test that timed playback follows the recorded pace at the given speed
+    @Test
+    void timedPlayback() {
+
+        HeadlessController original = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        Replay replay = record(original, 3L, 20);
+        long start = System.nanoTime();
+        ReplayPlayer.play(replay, new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS)), 10);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+        assertTrue(elapsedMs >= replay.getDuration() / 10, "elapsed " + elapsedMs);
+    }
+
+    // test that archived replays can be read back and played
+    @Test
+    void archive() throws Exception {
+
+        Path dir = Files.createTempDirectory("replays");
+        HeadlessController original = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        Replay replay = record(original, 11L, 200);
+        Path file;
+        try (ReplayArchive archive = new ReplayArchive(dir)) {
+            file = archive.write(replay, 1000L);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            HeadlessGame replayed = ReplayPlayer.play(Replay.readFrom(in));
+            assertEquals(original.getGame().getScore().getScore(), replayed.getScore().getScore());
+        }
+    }
+}
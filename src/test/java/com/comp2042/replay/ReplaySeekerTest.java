@@ -0,0 +1,152 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.comp2042.core.Board;
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.core.MatrixOperations;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.engine.HeadlessGame;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+class ReplaySeekerTest {
+
+    // board and score after every event, from playing the replay straight through
+    private static List<int[][]> boards = new ArrayList<>();
+    private static List<Integer> scores = new ArrayList<>();
+
+    // plays a long game, placing each piece as low as it goes, with gravity steps in between
+    static Replay recordLong(long seed, int pieces) {
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(() -> now[0]);
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(seed);
+        recorder.start(seed, 0, Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        Board board = controller.getGame().getBoard();
+        for (int piece = 0; piece < pieces && !controller.getGame().isGameOver(); piece++) {
+            // try every rotation and shift on a snapshot, then play the best for real
+            BoardSnapshot start = board.snapshot();
+            int bestRotation = 0;
+            int bestShift = 0;
+            int bestLanding = Integer.MIN_VALUE;
+            for (int rotation = 0; rotation < 4; rotation++) {
+                for (int shift = -5; shift <= 5; shift++) {
+                    board.restore(start);
+                    place(board, rotation, shift);
+                    if (board.getLandingY() > bestLanding) {
+                        bestLanding = board.getLandingY();
+                        bestRotation = rotation;
+                        bestShift = shift;
+                    }
+                }
+            }
+            board.restore(start);
+            List<MoveEvent> events = new ArrayList<>();
+            events.add(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            for (int r = 0; r < bestRotation; r++) events.add(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            for (int s = 0; s < Math.abs(bestShift); s++) events.add(new MoveEvent(bestShift < 0 ? EventType.LEFT : EventType.RIGHT, EventSource.USER));
+            events.add(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            for (MoveEvent event : events) {
+                now[0] += 40_000_000L;
+                recorder.record(event);
+                boolean locked = event.getEventType() == EventType.HARD_DROP
+                        ? controller.onHardDropEvent(event) != null
+                        : dispatchMove(controller, event);
+                if (locked && !controller.getGame().isGameOver()) {
+                    recorder.pieceLocked(board);
+                }
+            }
+        }
+        return recorder.finish(controller.getGame().getScore().getScore());
+    }
+
+    private static void place(Board board, int rotation, int shift) {
+        for (int r = 0; r < rotation; r++) board.rotateLeftBrick();
+        for (int s = 0; s < Math.abs(shift); s++) {
+            if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+        }
+    }
+
+    // returns whether the event locked a piece
+    private static boolean dispatchMove(HeadlessController controller, MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN: return controller.onDownEvent(event).getClearRow() != null;
+            case ROTATE: controller.onRotateEvent(event); return false;
+            case LEFT: controller.onLeftEvent(event); return false;
+            default: controller.onRightEvent(event); return false;
+        }
+    }
+
+    private static Replay recordAndTrace(long seed) {
+        Replay replay = recordLong(seed, 120);
+        boards = new ArrayList<>();
+        scores = new ArrayList<>();
+        HeadlessController straight = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        straight.createNewGame(replay.getSeed());
+        for (int i = 0; i <= replay.size(); i++) {
+            boards.add(MatrixOperations.copy(straight.getGame().getBoard().getBoardMatrixView()));
+            scores.add(straight.getGame().getScore().getScore());
+            if (i < replay.size()) {
+                ReplayPlayer.dispatch(straight, replay, i);
+            }
+        }
+        return replay;
+    }
+
+    private static void assertAt(ReplaySeeker seeker, int position) {
+        HeadlessGame game = seeker.getGame();
+        assertEquals(position, seeker.getPosition());
+        assertArrayEquals(boards.get(position), game.getBoard().getBoardMatrixView(), "at " + position);
+        assertEquals((int) scores.get(position), game.getScore().getScore());
+    }
+
+    // test that seeking in any order matches playing straight through
+    @Test
+    void seek() {
+
+        Replay replay = recordAndTrace(5L);
+        assertTrue(replay.snapshotCount() > 5);
+        ReplaySeeker seeker = new ReplaySeeker(replay);
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            int target = random.nextInt(replay.size() + 1);
+            seeker.seek(target);
+            assertAt(seeker, target);
+        }
+        seeker.seek(0);
+        assertAt(seeker, 0);
+        seeker.seek(replay.size());
+        assertAt(seeker, replay.size());
+    }
+
+    // test that snapshots survive the binary form and seeking by time
+    @Test
+    void seekTimeAfterRoundTrip() throws Exception {
+
+        Replay original = recordAndTrace(8L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        original.writeTo(out);
+        Replay replay = Replay.readFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(original.snapshotCount(), replay.snapshotCount());
+
+        ReplaySeeker seeker = new ReplaySeeker(replay);
+        int middle = replay.getDuration() / 2;
+        seeker.seekTime(middle);
+        int position = replay.eventsAt(middle);
+        assertTrue(position > 0 && replay.getTime(position - 1) <= middle);
+        assertAt(seeker, position);
+    }
+}
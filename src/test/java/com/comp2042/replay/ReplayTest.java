@@ -0,0 +1,149 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import com.comp2042.core.RotationSystem;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+class ReplayTest {
+
+    // test that a replay survives writing and reading
+    @Test
+    void roundTrip() throws IOException {
+
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(() -> now[0]);
+        recorder.start(-123456789L, 2, 20, 10);
+        EventType[] types = EventType.values();
+        for (int i = 0; i < 1000; i++) {
+            now[0] += (i % 7) * 13_000_000L;
+            recorder.record(new MoveEvent(types[i % types.length], i % 3 == 0 ? EventSource.THREAD : EventSource.USER));
+        }
+        Replay replay = recorder.finish(4321);
+
+        Replay read = Replay.readFrom(new ByteArrayInputStream(bytes(replay)));
+        assertEquals(-123456789L, read.getSeed());
+        assertEquals(4321, read.getFinalScore());
+        assertEquals(2, read.getMode());
+        assertEquals(20, read.getRows());
+        assertEquals(10, read.getCols());
+        assertEquals(1000, read.size());
+        for (int i = 0; i < read.size(); i++) {
+            assertEquals(replay.getType(i), read.getType(i));
+            assertEquals(replay.getSource(i), read.getSource(i));
+            assertEquals(replay.getTime(i), read.getTime(i));
+        }
+        assertEquals(replay.getDuration(), read.getDuration());
+    }
+
+    // test that the rotation system is kept, and that older replays play with the legacy kicks
+    @Test
+    void rotationSystem() throws IOException {
+
+        ReplayRecorder recorder = new ReplayRecorder(() -> 0L);
+        recorder.start(7L, 0, 20, 10, RotationSystem.LEGACY);
+        recorder.record(new MoveEvent(EventType.ROTATE_CW, EventSource.USER));
+        Replay legacy = Replay.readFrom(new ByteArrayInputStream(bytes(recorder.finish(0))));
+        assertEquals(RotationSystem.LEGACY, legacy.getRotationSystem());
+        assertEquals(EventType.ROTATE_CW, legacy.getType(0));
+
+        recorder.start(7L, 0, 20, 10);
+        recorder.record(new MoveEvent(EventType.ROTATE, EventSource.USER));
+        byte[] data = bytes(recorder.finish(0));
+        assertEquals(RotationSystem.SRS, Replay.readFrom(new ByteArrayInputStream(data)).getRotationSystem());
+
+        // a version 3 file: the same header without the rotation system byte
+        byte[] old = new byte[data.length - 1];
+        System.arraycopy(data, 0, old, 0, 6);
+        System.arraycopy(data, 7, old, 6, data.length - 7);
+        old[4] = 3;
+        Replay read = Replay.readFrom(new ByteArrayInputStream(old));
+        assertEquals(RotationSystem.LEGACY, read.getRotationSystem());
+        assertEquals(7L, read.getSeed());
+        assertEquals(EventType.ROTATE, read.getType(0));
+    }
+
+    // test that a busy two minute game takes a few kilobytes
+    @Test
+    void compactSize() throws IOException {
+
+        long[] now = {0};
+        ReplayRecorder recorder = new ReplayRecorder(() -> now[0]);
+        recorder.start(1L, 1, 20, 10);
+        Random random = new Random(5);
+        EventType[] types = EventType.values();
+        // about ten inputs a second for two minutes
+        while (now[0] < 120_000_000_000L) {
+            now[0] += random.nextInt(200) * 1_000_000L;
+            recorder.record(new MoveEvent(types[random.nextInt(types.length)], EventSource.USER));
+        }
+        Replay replay = recorder.finish();
+        int size = bytes(replay).length;
+        assertTrue(replay.size() > 1000);
+        assertTrue(size < 2 * replay.size() + 32, "size " + size);
+    }
+
+    // test that damaged files are rejected
+    @Test
+    void rejectsBadInput() throws IOException {
+
+        ReplayRecorder recorder = new ReplayRecorder(() -> 0L);
+        recorder.start(1L, 0, 20, 10);
+        recorder.record(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        byte[] data = bytes(recorder.finish());
+
+        assertThrows(IOException.class, () -> Replay.readFrom(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+        assertThrows(IOException.class, () -> Replay.readFrom(new ByteArrayInputStream(Arrays.copyOf(data, data.length - 1))));
+    }
+
+    // test that sizes and counts are checked as they are read, before anything is allocated
+    @Test
+    void rejectsBadHeader() throws IOException {
+
+        ReplayRecorder recorder = new ReplayRecorder(() -> 0L);
+        recorder.start(1L, 0, 20, 10);
+        byte[] data = bytes(recorder.finish());
+
+        // a negative or oversized board size, which used to reach the array allocations
+        assertThrows(IOException.class, () -> Replay.readFrom(header(data, 1L << 31, 10, 0)));
+        assertThrows(IOException.class, () -> Replay.readFrom(header(data, 20, -1L, 0)));
+        assertThrows(IOException.class, () -> Replay.readFrom(header(data, 0, 10, 0)));
+        // more events than there are bytes left to hold them
+        assertThrows(IOException.class, () -> Replay.readFrom(header(data, 20, 10, Integer.MAX_VALUE)));
+        assertThrows(IOException.class, () -> Replay.readFrom(header(data, 20, 10, 5)));
+        // the untouched header still reads
+        assertEquals(20, Replay.readFrom(header(data, 20, 10, 0)).getRows());
+    }
+
+    // the fixed part of a written replay followed by the given sizes, an empty event list and no snapshots
+    private static ByteArrayInputStream header(byte[] valid, long rows, long cols, long count) {
+        // magic, version, mode, rotation system, seed and a one byte score
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(valid, 0, 16);
+        for (long value : new long[] {rows, cols, count, 0}) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private static byte[] bytes(Replay replay) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        replay.writeTo(out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,133 @@
+package com.comp2042.replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.comp2042.core.BoardSnapshot;
+import com.comp2042.core.Constants;
+import com.comp2042.core.GameBoard;
+import com.comp2042.core.GameModeHandler.GameMode;
+import com.comp2042.engine.HeadlessController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+class ReplayVerifierTest {
+
+    private static Replay played(long seed) {
+        return ReplayPlayerTest.record(new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS)), seed, 400);
+    }
+
+    // copies a replay with some of its parts replaced
+    private static Replay copy(Replay r, int finalScore, int mode, int[] times, BoardSnapshot[] snapshots) {
+        byte[] events = new byte[r.size()];
+        for (int i = 0; i < r.size(); i++) {
+            events[i] = Replay.encode(new MoveEvent(r.getType(i), r.getSource(i)));
+        }
+        int[] snapshotEvents = new int[r.snapshotCount()];
+        for (int i = 0; i < snapshotEvents.length; i++) snapshotEvents[i] = r.getSnapshotEvent(i);
+        return new Replay(r.getSeed(), finalScore, mode, r.getRows(), r.getCols(), events, times, snapshotEvents, snapshots);
+    }
+
+    private static int[] times(Replay r) {
+        int[] times = new int[r.size()];
+        for (int i = 0; i < times.length; i++) times[i] = r.getTime(i);
+        return times;
+    }
+
+    private static BoardSnapshot[] snapshots(Replay r) {
+        BoardSnapshot[] snapshots = new BoardSnapshot[r.snapshotCount()];
+        for (int i = 0; i < snapshots.length; i++) snapshots[i] = r.getSnapshot(i);
+        return snapshots;
+    }
+
+    // test that an honest replay is accepted
+    @Test
+    void acceptsHonestReplay() {
+
+        Replay replay = played(21L);
+        ReplayVerifier.Result result = ReplayVerifier.verify(null, replay);
+        assertTrue(result.isValid(), result.getReason());
+        assertEquals(replay.getFinalScore(), result.getVerifiedScore());
+    }
+
+    // test that an inflated score is rejected
+    @Test
+    void rejectsWrongScore() {
+
+        Replay replay = played(21L);
+        Replay inflated = copy(replay, replay.getFinalScore() + 500, replay.getMode(), times(replay), snapshots(replay));
+        ReplayVerifier.Result result = ReplayVerifier.verify(null, inflated);
+        assertFalse(result.isValid());
+        assertEquals(replay.getFinalScore(), result.getVerifiedScore());
+    }
+
+    // test that a snapshot from another game is rejected
+    @Test
+    void rejectsForgedSnapshot() {
+
+        Replay replay = ReplaySeekerTest.recordLong(4L, 40);
+        assertTrue(ReplayVerifier.verify(null, replay).isValid());
+        BoardSnapshot[] forged = snapshots(replay);
+        GameBoard other = new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        other.newGame(5L);
+        forged[1] = other.snapshot();
+        assertFalse(ReplayVerifier.verify(null, copy(replay, replay.getFinalScore(), replay.getMode(), times(replay), forged)).isValid());
+    }
+
+    // test that a timed game longer than the limit is rejected
+    @Test
+    void rejectsOvertime() {
+
+        Replay replay = played(21L);
+        int[] stretched = times(replay);
+        stretched[stretched.length - 1] = (int) Constants.TIMED_MODE_MS + 5000;
+        assertTrue(ReplayVerifier.verify(null, copy(replay, replay.getFinalScore(), GameMode.NORMAL.ordinal(), stretched, snapshots(replay))).isValid());
+        assertFalse(ReplayVerifier.verify(null, copy(replay, replay.getFinalScore(), GameMode.TIMED.ordinal(), stretched, snapshots(replay))).isValid());
+    }
+
+    // test that input after game over is rejected
+    @Test
+    void rejectsEventsAfterGameOver() {
+
+        ReplayRecorder recorder = new ReplayRecorder(() -> 0L);
+        HeadlessController controller = new HeadlessController(new GameBoard(Constants.BOARD_ROWS, Constants.BOARD_COLS));
+        controller.createNewGame(8L);
+        recorder.start(8L, 0, Constants.BOARD_ROWS, Constants.BOARD_COLS);
+        MoveEvent drop = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+        while (!controller.getGame().isGameOver()) {
+            recorder.record(drop);
+            controller.onHardDropEvent(drop);
+        }
+        recorder.record(drop);
+        Replay replay = recorder.finish(controller.getGame().getScore().getScore());
+        assertFalse(ReplayVerifier.verify(null, replay).isValid());
+    }
+
+    // test that a directory is verified in parallel, in file order, rejecting unreadable files
+    @Test
+    void verifyDirectory() throws Exception {
+
+        Path dir = Files.createTempDirectory("submissions");
+        try (ReplayArchive archive = new ReplayArchive(dir)) {
+            for (int i = 0; i < 12; i++) {
+                archive.write(played(100 + i), 1000L + i);
+            }
+        }
+        Files.write(dir.resolve("replay-zzz" + Constants.REPLAY_EXTENSION), new byte[] {1, 2, 3});
+        Files.write(dir.resolve("notes.txt"), new byte[] {1});
+
+        List<ReplayVerifier.Result> results = new ReplayVerifier(4).verifyDirectory(dir);
+        assertEquals(13, results.size());
+        for (int i = 0; i < 12; i++) {
+            assertTrue(results.get(i).isValid(), results.get(i).toString());
+        }
+        assertFalse(results.get(12).isValid());
+    }
+}